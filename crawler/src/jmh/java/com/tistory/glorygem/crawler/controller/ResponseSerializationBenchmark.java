@@ -0,0 +1,63 @@
+package com.tistory.glorygem.crawler.controller;
+
+import com.tistory.glorygem.crawler.domain.dto.BookDTO;
+import com.tistory.glorygem.crawler.service.BookDtoMappingBenchmark;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import tools.jackson.databind.ObjectMapper;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 컨트롤러가 만드는 HashMap 응답의 Jackson 직렬화 비용
+ * (GET /api/books 형태의 목록 응답, GET /api/books/count 형태의 작은 응답)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ResponseSerializationBenchmark {
+
+    @Param({"20", "100", "1000"})
+    private int size;
+
+    private final ObjectMapper objectMapper = JsonMapper.builder().build();
+
+    private Map<String, Object> bookPageResponse;
+    private Map<String, Object> countResponse;
+
+    @Setup
+    public void createResponses() {
+        List<BookDTO> books = BookDtoMappingBenchmark.sampleDTOs(size);
+
+        bookPageResponse = new HashMap<>();
+        bookPageResponse.put("count", books.size());
+        bookPageResponse.put("books", books);
+        bookPageResponse.put("nextCursor", UUID.randomUUID());
+        bookPageResponse.put("hasNext", true);
+
+        countResponse = new HashMap<>();
+        countResponse.put("category", "Travel");
+        countResponse.put("count", size);
+    }
+
+    @Benchmark
+    public byte[] bookPage() {
+        return objectMapper.writeValueAsBytes(bookPageResponse);
+    }
+
+    @Benchmark
+    public byte[] count() {
+        return objectMapper.writeValueAsBytes(countResponse);
+    }
+}
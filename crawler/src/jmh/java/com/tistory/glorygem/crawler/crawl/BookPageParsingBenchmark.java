@@ -0,0 +1,122 @@
+package com.tistory.glorygem.crawler.crawl;
+
+import com.tistory.glorygem.crawler.domain.entity.Book;
+import org.jsoup.nodes.Document;
+import org.jsoup.nodes.Element;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.math.BigDecimal;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 저장해 둔 books.toscrape.com HTML 로 상세 / 목록 페이지 파싱 + 추출 비용을 잽니다
+ * full 은 크롤러가 예전에 하던 대로 문서 전체를 파싱하고, stream 은 상품 영역까지만 파싱합니다
+ * detailLegacyExtract / detailExtract 는 파싱해 둔 같은 문서에서 추출만 비교합니다 (할당량은 gc 프로파일러의 gc.alloc.rate.norm)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class BookPageParsingBenchmark {
+
+    private static final String FIXTURE_ROOT = "/fixtures/books.toscrape.com";
+    private static final String BASE_URL = "https://books.toscrape.com";
+    private static final String DETAIL_PATH = "/catalogue/its-only-the-himalayas_981/index.html";
+    private static final String LISTING_PATH = "/catalogue/category/books/travel_2/index.html";
+
+    private final BookPageExtractor extractor = new BookPageExtractor();
+
+    private FetchedPage detailPage;
+    private FetchedPage listingPage;
+    private Document detailDocument;
+
+    @Setup
+    public void loadFixtures() throws IOException {
+        detailPage = fixture(DETAIL_PATH);
+        listingPage = fixture(LISTING_PATH);
+        detailDocument = detailPage.parse();
+    }
+
+    @Benchmark
+    public Book detailFullParse() throws IOException {
+        Document doc = detailPage.parse();
+        return extractor.extractDetail(doc, detailPage.url(), null);
+    }
+
+    @Benchmark
+    public Book detailStreamParse() throws IOException {
+        Document doc = extractor.parseDetailPage(detailPage);
+        return extractor.extractDetail(doc, detailPage.url(), null);
+    }
+
+    @Benchmark
+    public Book detailLegacyExtract() {
+        return legacyExtract(detailDocument);
+    }
+
+    @Benchmark
+    public Book detailExtract() {
+        return extractor.extractDetail(detailDocument, detailPage.url(), null);
+    }
+
+    @Benchmark
+    public void listingParse(Blackhole blackhole) throws IOException {
+        Document doc = listingPage.parse();
+        for (Element item : extractor.bookItems(doc)) {
+            String href = extractor.bookHref(item);
+            blackhole.consume(extractor.extractListingItem(item, href, null));
+        }
+        blackhole.consume(extractor.nextPageHref(doc));
+    }
+
+    /**
+     * 추출기 도입 전 BookService.crawlBookDetail 과 같은 방식 (문자열 선택자 + 정규식)
+     */
+    private static Book legacyExtract(Document doc) {
+        Book book = new Book();
+        Element titleElement = doc.selectFirst("div.product_main h1");
+        if (titleElement != null) {
+            book.setTitle(titleElement.text());
+        }
+        Element priceElement = doc.selectFirst("p.price_color");
+        if (priceElement != null) {
+            book.setPrice(new BigDecimal(priceElement.text().replaceAll("[^0-9.]", "")));
+        }
+        for (Element row : doc.select("table.table tr")) {
+            Element th = row.selectFirst("th");
+            Element td = row.selectFirst("td");
+            if (th != null && td != null) {
+                switch (th.text()) {
+                    case "UPC" -> book.setUpc(td.text());
+                    case "Product Type" -> book.setProductType(td.text());
+                    case "Availability" -> book.setAvailability(td.text());
+                    case "Number of reviews" -> book.setNumberOfReviews(Integer.parseInt(td.text()));
+                    default -> {
+                    }
+                }
+            }
+        }
+        Element descElement = doc.selectFirst("article.product_page > p");
+        if (descElement != null) {
+            book.setDescription(descElement.text());
+        }
+        return book;
+    }
+
+    private static FetchedPage fixture(String path) throws IOException {
+        try (InputStream in = BookPageParsingBenchmark.class.getResourceAsStream(FIXTURE_ROOT + path)) {
+            if (in == null) {
+                throw new IOException("fixture 없음: " + path);
+            }
+            return new FetchedPage(BASE_URL + path, 200, in.readAllBytes(), "UTF-8", null, null);
+        }
+    }
+}
@@ -0,0 +1,75 @@
+package com.tistory.glorygem.crawler.service;
+
+import com.tistory.glorygem.crawler.domain.dto.BookDTO;
+import com.tistory.glorygem.crawler.domain.entity.Book;
+import com.tistory.glorygem.crawler.domain.entity.BookCategory;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * 조회 API 가 Book 목록을 BookDTO 로 바꾸는 비용 (BookService.convertToDTO)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class BookDtoMappingBenchmark {
+
+    @Param({"100", "1000", "10000"})
+    private int size;
+
+    private List<Book> books;
+
+    @Setup
+    public void createBooks() {
+        books = sampleBooks(size);
+    }
+
+    @Benchmark
+    public List<BookDTO> convertToDTO() {
+        return books.stream().map(BookService::convertToDTO).collect(Collectors.toList());
+    }
+
+    /**
+     * 50개 카테고리에 고르게 나뉜 책 목록 (직렬화 벤치마크에서도 사용)
+     */
+    public static List<Book> sampleBooks(int size) {
+        List<BookCategory> categories = new ArrayList<>();
+        for (int i = 0; i < 50; i++) {
+            BookCategory category = new BookCategory();
+            category.setCategoryName("Category " + i);
+            categories.add(category);
+        }
+
+        List<Book> books = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            Book book = new Book();
+            book.setTitle("Book title " + i);
+            book.setPrice(BigDecimal.valueOf(1000 + i % 5000, 2));
+            book.setUpc(String.format("%016x", i));
+            book.setProductType("Books");
+            book.setAvailability("In stock (" + (i % 22) + " available)");
+            book.setNumberOfReviews(i % 5);
+            book.setDescription("Description of book " + i + " ".repeat(200));
+            book.setUrl("https://books.toscrape.com/catalogue/book_" + i + "/index.html");
+            book.setBookCategory(categories.get(i % categories.size()));
+            books.add(book);
+        }
+        return books;
+    }
+
+    public static List<BookDTO> sampleDTOs(int size) {
+        return sampleBooks(size).stream().map(BookService::convertToDTO).collect(Collectors.toList());
+    }
+}
@@ -0,0 +1,168 @@
+package com.tistory.glorygem.crawler.config;
+
+import com.tistory.glorygem.crawler.crawl.CrawlMode;
+import com.tistory.glorygem.crawler.crawl.PageStore;
+import com.tistory.glorygem.crawler.export.ExportFormat;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * application.yml 의 crawler.* 설정값
+ */
+@Getter @Setter
+@ConfigurationProperties(prefix = "crawler")
+public class CrawlerProperties {
+
+    /** 크롤링 대상 사이트 (테스트 시 로컬 서버로 교체) */
+    private String baseUrl = "https://books.toscrape.com";
+
+    private String userAgent = "Mozilla/5.0";
+
+    /** 요청에 mode 가 없을 때 사용할 크롤링 모드 (FULL / LISTING) */
+    private CrawlMode crawlMode = CrawlMode.FULL;
+
+    private Http http = new Http();
+
+    private Concurrency concurrency = new Concurrency();
+
+    private RateLimit rateLimit = new RateLimit();
+
+    private Batch batch = new Batch();
+
+    private Dedup dedup = new Dedup();
+
+    private PageStoreSettings pageStore = new PageStoreSettings();
+
+    private Jobs jobs = new Jobs();
+
+    private Frontier frontier = new Frontier();
+
+    private Cache cache = new Cache();
+
+    private Export export = new Export();
+
+    private Ingest ingest = new Ingest();
+
+    private Feed feed = new Feed();
+
+    @Getter @Setter
+    public static class Http {
+        /** 연결 타임아웃 (ms) */
+        private int connectTimeout = 5000;
+        /** 응답 읽기 타임아웃 (ms) */
+        private int readTimeout = 10000;
+        /** 연결 풀에 유지할 유휴 연결 수 */
+        private int maxIdleConnections = 32;
+        /** 유휴 연결 유지 시간 (초) */
+        private long keepAliveSeconds = 300;
+        /** 서버가 지원하면 HTTP/2 사용 */
+        private boolean http2 = true;
+    }
+
+    @Getter @Setter
+    public static class Concurrency {
+        /** 전체 동시 요청 수 */
+        private int global = 16;
+        /** 호스트별 동시 요청 수 (adaptive 면 시작값) */
+        private int perHost = 4;
+        /** 응답 지연 / 오류에 따라 호스트별 동시 요청 수를 자동 조절 */
+        private boolean adaptive = true;
+        private int minPerHost = 1;
+        private int maxPerHost = 16;
+        /** p95 응답 지연이 이 값을 넘으면 동시 요청 수를 줄임 (ms) */
+        private long targetLatencyMillis = 1500;
+        /** 429 / 5xx / 타임아웃 시 동시 요청 수에 곱하는 비율 */
+        private double backoffRatio = 0.5;
+        /** 연속 감소 사이 최소 간격 (ms) */
+        private long decreaseCooldownMillis = 1000;
+        /** 429 / 5xx 응답을 Retry-After 만큼 기다린 뒤 다시 시도하는 횟수 */
+        private int maxRetries = 2;
+        /** Retry-After 최대 대기 시간 (초) */
+        private long maxRetryAfterSeconds = 300;
+    }
+
+    @Getter @Setter
+    public static class RateLimit {
+        /** 호스트별 초당 요청 수 */
+        private double permitsPerSecond = 5.0;
+        /** 순간적으로 허용하는 최대 요청 수 */
+        private int burst = 5;
+    }
+
+    @Getter @Setter
+    public static class Batch {
+        /** 한 번의 upsert 문장으로 저장할 책 수 */
+        private int chunkSize = 100;
+    }
+
+    @Getter @Setter
+    public static class Dedup {
+        /** 인덱스 초기 크기 (예상 URL 수) */
+        private int expectedUrls = 100_000;
+    }
+
+    @Getter @Setter
+    public static class PageStoreSettings {
+        /** OFF / RECORD (응답 저장) / REPLAY (저장된 응답만 사용) */
+        private PageStore.Mode mode = PageStore.Mode.OFF;
+        private String directory = "./page-store";
+        /** 세그먼트 파일 최대 크기 (MB) */
+        private int segmentSizeMb = 64;
+    }
+
+    @Getter @Setter
+    public static class Jobs {
+        /** 동시에 실행할 수 있는 크롤링 작업 수 (나머지는 대기) */
+        private int poolSize = 2;
+    }
+
+    @Getter @Setter
+    public static class Frontier {
+        /** 대기열을 처리하는 작업자 수 */
+        private int workers = 4;
+        /** 작업자가 한 번에 가져가는 항목 수 (한 트랜잭션으로 체크포인트) */
+        private int claimBatchSize = 20;
+        /** 이 횟수만큼 실패하면 FAILED 로 두고 더 시도하지 않음 */
+        private int maxAttempts = 3;
+    }
+
+    @Getter @Setter
+    public static class Cache {
+        /** 조회 캐시 유지 시간 (초), 크롤링 저장 시에는 해당 카테고리만 즉시 무효화 */
+        private long ttlSeconds = 600;
+        private long maxCategories = 200;
+        /** 캐시할 카테고리별 책 목록 페이지 수 (카테고리 x cursor x size) */
+        private long maxBookPages = 2000;
+    }
+
+    @Getter @Setter
+    public static class Export {
+        /** 내보내기 파일을 만들고 내려주는 디렉터리 */
+        private String directory = "./exports";
+        /** 지정하면 시작 시 이 형식으로 내보낸 뒤 종료 (CLI 용, csv / ndjson / columnar) */
+        private ExportFormat run;
+        /** run 의 출력 파일 (비우면 directory 아래 자동 이름) */
+        private String output;
+    }
+
+    @Getter @Setter
+    public static class Ingest {
+        /** 지정하면 시작 시 이 파일을 가져온 뒤 종료 (CLI 용, .csv / .ndjson / .jsonl, 뒤에 .gz 허용) */
+        private String file;
+    }
+
+    @Getter @Setter
+    public static class Feed {
+        /** 메모리에 보관하는 최근 변경 수 (이보다 뒤처진 구독자는 reset 을 받고 다시 동기화) */
+        private int capacity = 10_000;
+        /** 동시에 연결할 수 있는 구독자 수 */
+        private int maxSubscribers = 100;
+        /** 구독자 하나에 한 번에 보내는 최대 변경 수 */
+        private int batchSize = 256;
+        /** 변경이 없을 때 연결 확인용 주석을 보내는 간격 */
+        private long heartbeatSeconds = 15;
+        /** 바뀌지 않은 갱신을 거르기 위해 마지막 값을 기억하는 책 수 (넘으면 자주 쓰이지 않는 책부터 잊음) */
+        private long maxTrackedBooks = 100_000;
+    }
+}
@@ -0,0 +1,39 @@
+package com.tistory.glorygem.crawler.config;
+
+import com.tistory.glorygem.crawler.crawl.FetchMetrics;
+import okhttp3.ConnectionPool;
+import okhttp3.OkHttpClient;
+import okhttp3.Protocol;
+import okhttp3.brotli.BrotliInterceptor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@Configuration
+public class HttpClientConfig {
+
+    /**
+     * 모든 크롤러 요청이 함께 쓰는 HTTP 클라이언트
+     * keep-alive 연결 풀을 공유하고, 서버가 지원하면 HTTP/2 로 한 연결에서 여러 요청을 보냅니다
+     * BrotliInterceptor 가 Accept-Encoding: br, gzip 을 보내고 응답 압축을 풉니다
+     */
+    @Bean
+    public OkHttpClient crawlerHttpClient(CrawlerProperties properties, FetchMetrics fetchMetrics) {
+        CrawlerProperties.Http http = properties.getHttp();
+        List<Protocol> protocols = http.isHttp2()
+                ? List.of(Protocol.HTTP_2, Protocol.HTTP_1_1)
+                : List.of(Protocol.HTTP_1_1);
+        return new OkHttpClient.Builder()
+                .connectTimeout(Duration.ofMillis(http.getConnectTimeout()))
+                .readTimeout(Duration.ofMillis(http.getReadTimeout()))
+                .connectionPool(new ConnectionPool(http.getMaxIdleConnections(),
+                        http.getKeepAliveSeconds(), TimeUnit.SECONDS))
+                .protocols(protocols)
+                .addInterceptor(BrotliInterceptor.INSTANCE)
+                .eventListenerFactory(fetchMetrics)
+                .build();
+    }
+}
@@ -0,0 +1,19 @@
+package com.tistory.glorygem.crawler.config;
+
+import io.micrometer.core.instrument.config.MeterFilter;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class MetricsConfig {
+
+    /**
+     * 요청 지연 히스토그램(http.server.requests)은 /api/** 만 기록합니다
+     * actuator 스크레이프 요청이나 매핑되지 않은 경로로 시계열이 늘어나지 않게 합니다
+     */
+    @Bean
+    public MeterFilter apiRequestsOnlyFilter() {
+        return MeterFilter.deny(id -> "http.server.requests".equals(id.getName())
+                && !String.valueOf(id.getTag("uri")).startsWith("/api/"));
+    }
+}
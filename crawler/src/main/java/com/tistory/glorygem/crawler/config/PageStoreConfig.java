@@ -0,0 +1,27 @@
+package com.tistory.glorygem.crawler.config;
+
+import com.tistory.glorygem.crawler.crawl.NoOpPageStore;
+import com.tistory.glorygem.crawler.crawl.PageStore;
+import com.tistory.glorygem.crawler.crawl.SegmentPageStore;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.io.IOException;
+import java.nio.file.Path;
+
+@Configuration
+public class PageStoreConfig {
+
+    /**
+     * crawler.page-store.mode 에 따라 페이지 저장소를 생성합니다
+     */
+    @Bean
+    public PageStore pageStore(CrawlerProperties properties) throws IOException {
+        CrawlerProperties.PageStoreSettings config = properties.getPageStore();
+        if (config.getMode() == PageStore.Mode.OFF) {
+            return new NoOpPageStore();
+        }
+        return new SegmentPageStore(Path.of(config.getDirectory()), config.getMode(),
+                config.getSegmentSizeMb() * 1024L * 1024L);
+    }
+}
@@ -1,13 +1,17 @@
 package com.tistory.glorygem.crawler.controller;
 
+import com.tistory.glorygem.crawler.crawl.CrawlJob;
+import com.tistory.glorygem.crawler.crawl.CrawlJobType;
 import com.tistory.glorygem.crawler.domain.entity.BookCategory;
+import com.tistory.glorygem.crawler.domain.dto.CategoryPriceTrendDTO;
 import com.tistory.glorygem.crawler.service.BookCategoryService;
+import com.tistory.glorygem.crawler.service.BookHistoryService;
+import com.tistory.glorygem.crawler.service.CrawlJobService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
-import java.io.IOException;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -20,26 +24,16 @@ import java.util.Map;
 public class BookCategoryController {
 
     private final BookCategoryService bookCategoryService;
+    private final CrawlJobService crawlJobService;
+    private final BookHistoryService bookHistoryService;
 
     /**
-     * 카테고리 크롤링 및 저장
+     * 카테고리 크롤링 및 저장 (백그라운드 작업)
      */
     @PostMapping("/crawl")
     public ResponseEntity<?> crawlCategories() {
-        try {
-            List<BookCategory> categories = bookCategoryService.crawlAndSaveCategories();
-
-            Map<String, Object> response = new HashMap<>();
-            response.put("message", "카테고리 크롤링 완료");
-            response.put("count", categories.size());
-            response.put("categories", categories);
-
-            return ResponseEntity.ok(response);
-        } catch (IOException e) {
-            log.error("카테고리 크롤링 실패", e);
-            return ResponseEntity.internalServerError()
-                    .body(createErrorResponse("카테고리 크롤링에 실패했습니다: " + e.getMessage()));
-        }
+        CrawlJob job = crawlJobService.submit(CrawlJobType.CATEGORIES, null);
+        return CrawlJobController.accepted(crawlJobService, job, "카테고리 크롤링 작업이 등록되었습니다");
     }
 
     /**
@@ -104,13 +98,39 @@ public class BookCategoryController {
         }
     }
 
+    /**
+     * 카테고리의 최근 days 일 가격 / 재고 변화 추이 (unit: day / week / month)
+     */
+    @GetMapping("/{categoryName}/price-trend")
+    public ResponseEntity<?> getPriceTrend(@PathVariable String categoryName,
+                                           @RequestParam(defaultValue = "30") int days,
+                                           @RequestParam(defaultValue = "day") String unit) {
+        if (!bookCategoryService.existsCategory(categoryName)) {
+            return ResponseEntity.notFound().build();
+        }
+        try {
+            int period = Math.clamp(days, 1, BookHistoryService.MAX_DAYS);
+            List<CategoryPriceTrendDTO> trend = bookHistoryService.getCategoryTrend(categoryName, period, unit);
+
+            Map<String, Object> response = new HashMap<>();
+            response.put("category", categoryName);
+            response.put("days", period);
+            response.put("unit", unit);
+            response.put("trend", trend);
+
+            return ResponseEntity.ok(response);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(createErrorResponse(e.getMessage()));
+        }
+    }
+
     /**
      * 카테고리 개수 조회
      */
     @GetMapping("/count")
     public ResponseEntity<?> getCategoryCount() {
         try {
-            int count = bookCategoryService.getAllCategories().size();
+            long count = bookCategoryService.countCategories();
 
             Map<String, Object> response = new HashMap<>();
             response.put("count", count);
@@ -1,16 +1,42 @@
 package com.tistory.glorygem.crawler.controller;
 
+import com.tistory.glorygem.crawler.crawl.BookUrlIndex;
+import com.tistory.glorygem.crawler.crawl.CrawlJob;
+import com.tistory.glorygem.crawler.crawl.CrawlJobType;
+import com.tistory.glorygem.crawler.crawl.CrawlMode;
+import com.tistory.glorygem.crawler.crawl.FetchMetrics;
+import com.tistory.glorygem.crawler.crawl.FetchThrottle;
 import com.tistory.glorygem.crawler.domain.dto.BookDTO;
+import com.tistory.glorygem.crawler.domain.dto.BookFilterDTO;
+import com.tistory.glorygem.crawler.domain.dto.BookPageDTO;
+import com.tistory.glorygem.crawler.domain.dto.BookSearchHitDTO;
+import com.tistory.glorygem.crawler.domain.repository.CrawlFrontierRepository;
+import com.tistory.glorygem.crawler.service.BookCategoryService;
+import com.tistory.glorygem.crawler.service.BookChangeFeedService;
+import com.tistory.glorygem.crawler.service.BookExportService;
+import com.tistory.glorygem.crawler.service.BookHistoryService;
+import com.tistory.glorygem.crawler.service.BookQueryService;
+import com.tistory.glorygem.crawler.service.BookSearchService;
 import com.tistory.glorygem.crawler.service.BookService;
+import com.tistory.glorygem.crawler.service.CatalogCache;
+import com.tistory.glorygem.crawler.service.CatalogStatsService;
+import com.tistory.glorygem.crawler.service.CrawlJobService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Page;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.server.ResponseStatusException;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
-import java.io.IOException;
+import java.math.BigDecimal;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.UUID;
 
 @Slf4j
 @RestController
@@ -19,65 +45,125 @@ import java.util.Map;
 @CrossOrigin(origins = "*")
 public class BookController {
 
+    private static final int MAX_PAGE_SIZE = 1000;
+
     private final BookService bookService;
+    private final BookCategoryService bookCategoryService;
+    private final BookExportService bookExportService;
+    private final BookSearchService bookSearchService;
+    private final BookQueryService bookQueryService;
+    private final BookChangeFeedService bookChangeFeedService;
+    private final BookHistoryService bookHistoryService;
+    private final CatalogStatsService catalogStatsService;
+    private final CrawlJobService crawlJobService;
+    private final CrawlFrontierRepository crawlFrontierRepository;
+    private final BookUrlIndex bookUrlIndex;
+    private final FetchMetrics fetchMetrics;
+    private final FetchThrottle fetchThrottle;
+    private final CatalogCache catalogCache;
 
     /**
-     * 특정 카테고리의 책 크롤링 및 저장
+     * 특정 카테고리의 책 크롤링 및 저장 (백그라운드 작업, 진행 상황은 /api/crawl/jobs/{jobId})
+     * mode=LISTING 이면 상세 페이지 없이 목록 페이지만으로 저장
      */
     @PostMapping("/crawl/category/{categoryName}")
-    public ResponseEntity<?> crawlBooksByCategory(@PathVariable String categoryName) {
-        try {
-            var books = bookService.crawlAndSaveBooksByCategory(categoryName);
-
-            Map<String, Object> response = new HashMap<>();
-            response.put("message", "책 크롤링 완료");
-            response.put("category", categoryName);
-            response.put("count", books.size());
-
-            return ResponseEntity.ok(response);
-        } catch (IOException e) {
-            log.error("책 크롤링 실패: {}", categoryName, e);
-            return ResponseEntity.internalServerError()
-                    .body(createErrorResponse("책 크롤링에 실패했습니다: " + e.getMessage()));
-        } catch (IllegalArgumentException e) {
+    public ResponseEntity<?> crawlBooksByCategory(@PathVariable String categoryName,
+                                                  @RequestParam(required = false) CrawlMode mode) {
+        if (!bookCategoryService.existsCategory(categoryName)) {
             log.warn("존재하지 않는 카테고리: {}", categoryName);
             return ResponseEntity.badRequest()
-                    .body(createErrorResponse(e.getMessage()));
+                    .body(createErrorResponse("카테고리를 찾을 수 없습니다: " + categoryName));
         }
+        CrawlJob job = crawlJobService.submit(CrawlJobType.CATEGORY, categoryName, mode);
+        return CrawlJobController.accepted(crawlJobService, job, "책 크롤링 작업이 등록되었습니다");
     }
 
     /**
-     * 모든 카테고리의 책 크롤링 및 저장 (전체 크롤링)
+     * 모든 카테고리의 책 크롤링 및 저장 (전체 크롤링, 백그라운드 작업)
      */
     @PostMapping("/crawl/all")
-    public ResponseEntity<?> crawlAllBooks() {
-        try {
-            log.info("전체 책 크롤링 시작");
-            var books = bookService.crawlAndSaveAllBooks();
+    public ResponseEntity<?> crawlAllBooks(@RequestParam(required = false) CrawlMode mode) {
+        CrawlJob job = crawlJobService.submit(CrawlJobType.ALL, null, mode);
+        return CrawlJobController.accepted(crawlJobService, job, "전체 크롤링 작업이 등록되었습니다");
+    }
 
-            Map<String, Object> response = new HashMap<>();
-            response.put("message", "전체 크롤링 완료");
-            response.put("totalCount", books.size());
+    /**
+     * 모든 카테고리의 책 동시 크롤링 (가상 스레드, 백그라운드 작업)
+     */
+    @PostMapping("/crawl/concurrent")
+    public ResponseEntity<?> crawlAllBooksConcurrently(@RequestParam(required = false) CrawlMode mode) {
+        CrawlJob job = crawlJobService.submit(CrawlJobType.CONCURRENT, null, mode);
+        return CrawlJobController.accepted(crawlJobService, job, "동시 크롤링 작업이 등록되었습니다");
+    }
 
+    /**
+     * 목록 페이지만으로 저장된 책(UPC 없음)의 상세 페이지를 가져와 나머지 필드 채우기 (백그라운드 작업)
+     */
+    @PostMapping("/crawl/enrich")
+    public ResponseEntity<?> enrichBooks() {
+        CrawlJob job = crawlJobService.submit(CrawlJobType.ENRICH, null);
+        return CrawlJobController.accepted(crawlJobService, job, "상세 정보 보강 작업이 등록되었습니다");
+    }
+
+    /**
+     * DB 대기열 기반 전체 크롤링 (중단된 크롤링이 있으면 이어서 진행, 백그라운드 작업)
+     */
+    @PostMapping("/crawl/frontier")
+    public ResponseEntity<?> crawlFromFrontier() {
+        CrawlJob job = crawlJobService.submit(CrawlJobType.FRONTIER, null);
+        return CrawlJobController.accepted(crawlJobService, job, "대기열 크롤링 작업이 등록되었습니다");
+    }
+
+    /**
+     * 크롤링 대기열 상태별 건수
+     */
+    @GetMapping("/crawl/frontier")
+    public ResponseEntity<?> getFrontierStatus() {
+        try {
+            Map<String, Object> response = new HashMap<>();
+            response.put("frontier", crawlFrontierRepository.countByState());
             return ResponseEntity.ok(response);
-        } catch (IOException e) {
-            log.error("전체 크롤링 실패", e);
+        } catch (Exception e) {
+            log.error("대기열 상태 조회 실패", e);
             return ResponseEntity.internalServerError()
-                    .body(createErrorResponse("크롤링에 실패했습니다: " + e.getMessage()));
+                    .body(createErrorResponse("상태 조회에 실패했습니다: " + e.getMessage()));
         }
     }
 
     /**
-     * 저장된 모든 책 조회
+     * 페이지 저장소에 기록된 상세 페이지를 네트워크 없이 다시 파싱하여 저장 (백그라운드 작업)
+     */
+    @PostMapping("/replay")
+    public ResponseEntity<?> replayStoredPages() {
+        CrawlJob job = crawlJobService.submit(CrawlJobType.REPLAY, null);
+        return CrawlJobController.accepted(crawlJobService, job, "재파싱 작업이 등록되었습니다");
+    }
+
+    /**
+     * 저장된 책 재크롤링 (ETag / Last-Modified 조건부 요청, 바뀐 책만 갱신, 백그라운드 작업)
+     */
+    @PostMapping("/refresh")
+    public ResponseEntity<?> refreshBooks() {
+        CrawlJob job = crawlJobService.submit(CrawlJobType.REFRESH, null);
+        return CrawlJobController.accepted(crawlJobService, job, "재크롤링 작업이 등록되었습니다");
+    }
+
+    /**
+     * 저장된 책 조회 (keyset 페이지네이션, 응답의 nextCursor 를 다음 요청의 cursor 로 전달)
+     * description=false 면 긴 상품 설명을 읽지 않습니다
      */
     @GetMapping
-    public ResponseEntity<?> getAllBooks() {
+    public ResponseEntity<?> getAllBooks(@RequestParam(required = false) UUID cursor,
+                                         @RequestParam(defaultValue = "100") int size,
+                                         @RequestParam(defaultValue = "true") boolean description) {
         try {
-            List<BookDTO> books = bookService.getAllBooks();
+            BookPageDTO page = bookService.getBooks(cursor, clampPageSize(size), description);
 
             Map<String, Object> response = new HashMap<>();
-            response.put("count", books.size());
-            response.put("books", books);
+            response.put("count", page.getBooks().size());
+            response.put("books", page.getBooks());
+            response.put("nextCursor", page.getNextCursor());
+            response.put("hasNext", page.isHasNext());
 
             return ResponseEntity.ok(response);
         } catch (Exception e) {
@@ -91,14 +177,19 @@ public class BookController {
      * 카테고리별 책 조회
      */
     @GetMapping("/category/{categoryName}")
-    public ResponseEntity<?> getBooksByCategory(@PathVariable String categoryName) {
+    public ResponseEntity<?> getBooksByCategory(@PathVariable String categoryName,
+                                                @RequestParam(required = false) UUID cursor,
+                                                @RequestParam(defaultValue = "100") int size,
+                                                @RequestParam(defaultValue = "true") boolean description) {
         try {
-            List<BookDTO> books = bookService.getBooksByCategory(categoryName);
+            BookPageDTO page = bookService.getBooksByCategory(categoryName, cursor, clampPageSize(size), description);
 
             Map<String, Object> response = new HashMap<>();
             response.put("category", categoryName);
-            response.put("count", books.size());
-            response.put("books", books);
+            response.put("count", page.getBooks().size());
+            response.put("books", page.getBooks());
+            response.put("nextCursor", page.getNextCursor());
+            response.put("hasNext", page.isHasNext());
 
             return ResponseEntity.ok(response);
         } catch (Exception e) {
@@ -108,13 +199,148 @@ public class BookController {
         }
     }
 
+    /**
+     * 가격 / 평점 / 재고 / 카테고리 조건 조회
+     * 예: 재고 있음, £20 이하, 별점 4 이상, 가격순 → ?minStock=1&maxPrice=20&minRating=4&sort=price
+     */
+    @GetMapping("/query")
+    public ResponseEntity<?> queryBooks(@RequestParam(required = false) String category,
+                                        @RequestParam(required = false) BigDecimal minPrice,
+                                        @RequestParam(required = false) BigDecimal maxPrice,
+                                        @RequestParam(required = false) Integer minRating,
+                                        @RequestParam(required = false) Integer maxRating,
+                                        @RequestParam(required = false) Integer minStock,
+                                        @RequestParam(required = false) String sort,
+                                        @RequestParam(defaultValue = "asc") String direction,
+                                        @RequestParam(defaultValue = "0") int page,
+                                        @RequestParam(defaultValue = "100") int size) {
+        BookFilterDTO filter = BookFilterDTO.builder()
+                .category(category)
+                .minPrice(minPrice)
+                .maxPrice(maxPrice)
+                .minRating(minRating)
+                .maxRating(maxRating)
+                .minStock(minStock)
+                .sort(sort)
+                .descending("desc".equalsIgnoreCase(direction))
+                .build();
+        try {
+            Page<BookDTO> result = bookQueryService.query(filter, Math.max(0, page), clampPageSize(size));
+
+            Map<String, Object> response = new HashMap<>();
+            response.put("count", result.getNumberOfElements());
+            response.put("books", result.getContent());
+            response.put("page", result.getNumber());
+            response.put("totalCount", result.getTotalElements());
+            response.put("hasNext", result.hasNext());
+
+            return ResponseEntity.ok(response);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(createErrorResponse(e.getMessage()));
+        } catch (Exception e) {
+            log.error("책 조건 조회 실패", e);
+            return ResponseEntity.internalServerError()
+                    .body(createErrorResponse("책 조회에 실패했습니다: " + e.getMessage()));
+        }
+    }
+
+    /**
+     * 제목 / 설명 검색 (BM25 점수 순, 제목에 나온 단어를 더 높게 평가)
+     */
+    @GetMapping("/search")
+    public ResponseEntity<?> searchBooks(@RequestParam String q,
+                                         @RequestParam(defaultValue = "20") int size) {
+        if (q.isBlank()) {
+            return ResponseEntity.badRequest().body(createErrorResponse("검색어가 비어 있습니다"));
+        }
+        try {
+            long startedAt = System.nanoTime();
+            List<BookSearchHitDTO> results = bookSearchService.search(q, clampPageSize(size));
+
+            Map<String, Object> response = new HashMap<>();
+            response.put("query", q);
+            response.put("count", results.size());
+            response.put("results", results);
+            response.put("indexLoaded", bookSearchService.isIndexLoaded());
+            response.put("tookMillis", (System.nanoTime() - startedAt) / 1_000_000);
+
+            return ResponseEntity.ok(response);
+        } catch (Exception e) {
+            log.error("책 검색 실패: {}", q, e);
+            return ResponseEntity.internalServerError()
+                    .body(createErrorResponse("책 검색에 실패했습니다: " + e.getMessage()));
+        }
+    }
+
+    /**
+     * 검색 색인 상태 (문서 / 단어 수, 메모리 사용량)
+     */
+    @GetMapping("/search/stats")
+    public ResponseEntity<?> getSearchStats() {
+        return ResponseEntity.ok(bookSearchService.getIndexStats());
+    }
+
+    /**
+     * 책 추가 / 변경 실시간 구독 (Server-Sent Events)
+     * 재연결 시 Last-Event-ID 헤더 (또는 since) 다음 변경부터 이어서 받고, 없으면 지금 이후의 변경만 받습니다
+     * 구독자 수 한도를 넘으면 503
+     */
+    @GetMapping(value = "/changes", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public ResponseEntity<SseEmitter> subscribeChanges(
+            @RequestHeader(value = "Last-Event-ID", required = false) String lastEventId,
+            @RequestParam(required = false) String since) {
+        try {
+            return ResponseEntity.ok(bookChangeFeedService.subscribe(lastEventId != null ? lastEventId : since));
+        } catch (IllegalStateException e) {
+            throw new ResponseStatusException(HttpStatus.SERVICE_UNAVAILABLE, e.getMessage(), e);
+        }
+    }
+
+    /**
+     * 변경 피드 상태 (순번 범위, 구독자 수)
+     */
+    @GetMapping("/changes/stats")
+    public ResponseEntity<?> getChangeFeedStats() {
+        return ResponseEntity.ok(bookChangeFeedService.getStats());
+    }
+
+    /**
+     * 책 한 권의 최근 days 일 가격 / 재고 이력 (값이 바뀐 시점만, 시간순)
+     */
+    @GetMapping("/{uuidBook}/history")
+    public ResponseEntity<?> getBookHistory(@PathVariable UUID uuidBook,
+                                            @RequestParam(defaultValue = "365") int days,
+                                            @RequestParam(defaultValue = "1000") int limit) {
+        int period = Math.clamp(days, 1, BookHistoryService.MAX_DAYS);
+        return bookHistoryService.getHistory(uuidBook, period, Math.clamp(limit, 1, MAX_PAGE_SIZE))
+                .<ResponseEntity<?>>map(history -> {
+                    Map<String, Object> response = new HashMap<>();
+                    response.put("uuidBook", uuidBook);
+                    response.put("days", period);
+                    response.put("history", history);
+                    return ResponseEntity.ok(response);
+                })
+                .orElseGet(() -> ResponseEntity.notFound().build());
+    }
+
+    /**
+     * 전체 책 NDJSON 스트리밍 (DB 커서 기반, 행 수와 무관하게 메모리 일정)
+     */
+    @GetMapping(value = "/stream", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> streamAllBooks() {
+        StreamingResponseBody body = bookExportService::writeNdjson;
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .body(body);
+    }
+
     /**
      * 책 개수 조회 (전체)
      */
     @GetMapping("/count")
     public ResponseEntity<?> getBookCount() {
         try {
-            int count = bookService.getAllBooks().size();
+            long count = catalogStatsService.getTotalBookCount();
 
             Map<String, Object> response = new HashMap<>();
             response.put("totalCount", count);
@@ -133,7 +359,7 @@ public class BookController {
     @GetMapping("/count/category/{categoryName}")
     public ResponseEntity<?> getBookCountByCategory(@PathVariable String categoryName) {
         try {
-            int count = bookService.getBooksByCategory(categoryName).size();
+            long count = catalogStatsService.getBookCount(categoryName);
 
             Map<String, Object> response = new HashMap<>();
             response.put("category", categoryName);
@@ -155,7 +381,7 @@ public class BookController {
         try {
             Map<String, Object> response = new HashMap<>();
             response.put("status", "running");
-            response.put("totalBooks", bookService.getAllBooks().size());
+            response.put("totalBooks", catalogStatsService.getTotalBookCount());
             response.put("message", "크롤링 시스템이 정상 작동 중입니다");
 
             return ResponseEntity.ok(response);
@@ -166,6 +392,42 @@ public class BookController {
         }
     }
 
+    /**
+     * URL 중복 인덱스 상태 (메모리 사용량, 적중률)
+     */
+    @GetMapping("/dedup/stats")
+    public ResponseEntity<?> getDedupStats() {
+        try {
+            return ResponseEntity.ok(bookUrlIndex.getStats());
+        } catch (Exception e) {
+            log.error("중복 인덱스 상태 조회 실패", e);
+            return ResponseEntity.internalServerError()
+                    .body(createErrorResponse("상태 조회에 실패했습니다: " + e.getMessage()));
+        }
+    }
+
+    /**
+     * HTTP 클라이언트 상태 (연결 재사용, 압축 전후 바이트, DNS / TLS 시간)
+     */
+    @GetMapping("/fetch/stats")
+    public ResponseEntity<?> getFetchStats() {
+        Map<String, Object> stats = fetchMetrics.getStats();
+        stats.put("hosts", fetchThrottle.getHostStats());
+        return ResponseEntity.ok(stats);
+    }
+
+    /**
+     * 조회 캐시 상태 (크기, 적중률)
+     */
+    @GetMapping("/cache/stats")
+    public ResponseEntity<?> getCacheStats() {
+        return ResponseEntity.ok(catalogCache.getStats());
+    }
+
+    private int clampPageSize(int size) {
+        return Math.max(1, Math.min(size, MAX_PAGE_SIZE));
+    }
+
     private Map<String, String> createErrorResponse(String message) {
         Map<String, String> error = new HashMap<>();
         error.put("error", message);
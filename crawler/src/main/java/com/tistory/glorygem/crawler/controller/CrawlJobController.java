@@ -0,0 +1,116 @@
+package com.tistory.glorygem.crawler.controller;
+
+import com.tistory.glorygem.crawler.crawl.CrawlJob;
+import com.tistory.glorygem.crawler.crawl.CrawlJobType;
+import com.tistory.glorygem.crawler.crawl.CrawlMode;
+import com.tistory.glorygem.crawler.domain.dto.CrawlJobDTO;
+import com.tistory.glorygem.crawler.service.BookCategoryService;
+import com.tistory.glorygem.crawler.service.CrawlJobService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+@Slf4j
+@RestController
+@RequestMapping("/api/crawl/jobs")
+@RequiredArgsConstructor
+@CrossOrigin(origins = "*")
+public class CrawlJobController {
+
+    private final CrawlJobService crawlJobService;
+    private final BookCategoryService bookCategoryService;
+
+    /**
+     * 크롤링 작업 등록 (즉시 202 응답, 실행은 백그라운드)
+     */
+    @PostMapping
+    public ResponseEntity<?> submitJob(@RequestParam CrawlJobType type,
+                                       @RequestParam(required = false) String category,
+                                       @RequestParam(required = false) CrawlMode mode) {
+        if (type == CrawlJobType.CATEGORY
+                && (category == null || !bookCategoryService.existsCategory(category))) {
+            log.warn("존재하지 않는 카테고리: {}", category);
+            return ResponseEntity.badRequest()
+                    .body(createErrorResponse("카테고리를 찾을 수 없습니다: " + category));
+        }
+        CrawlJob job = crawlJobService.submit(type, category, mode);
+        return accepted(crawlJobService, job, "크롤링 작업이 등록되었습니다");
+    }
+
+    /**
+     * 작업 목록 (최근 순)
+     */
+    @GetMapping
+    public ResponseEntity<?> getJobs() {
+        List<CrawlJobDTO> jobs = crawlJobService.findAll().stream()
+                .map(crawlJobService::toDTO)
+                .toList();
+
+        Map<String, Object> response = new HashMap<>();
+        response.put("count", jobs.size());
+        response.put("jobs", jobs);
+
+        return ResponseEntity.ok(response);
+    }
+
+    /**
+     * 작업 진행 상황 조회
+     */
+    @GetMapping("/{jobId}")
+    public ResponseEntity<?> getJob(@PathVariable String jobId) {
+        return crawlJobService.find(jobId)
+                .<ResponseEntity<?>>map(job -> ResponseEntity.ok(crawlJobService.toDTO(job)))
+                .orElseGet(() -> ResponseEntity.notFound().build());
+    }
+
+    /**
+     * 작업 진행 상황 실시간 구독 (Server-Sent Events, 1초 간격)
+     */
+    @GetMapping(value = "/{jobId}/events", produces = "text/event-stream")
+    public ResponseEntity<SseEmitter> subscribe(@PathVariable String jobId) {
+        try {
+            return ResponseEntity.ok(crawlJobService.subscribe(jobId));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.notFound().build();
+        }
+    }
+
+    /**
+     * 작업 취소
+     */
+    @DeleteMapping("/{jobId}")
+    public ResponseEntity<?> cancelJob(@PathVariable String jobId) {
+        try {
+            CrawlJob job = crawlJobService.cancel(jobId);
+            return ResponseEntity.ok(crawlJobService.toDTO(job));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.notFound().build();
+        }
+    }
+
+    /**
+     * 작업 등록 응답 (202 Accepted + 상태 조회 경로)
+     */
+    static ResponseEntity<?> accepted(CrawlJobService crawlJobService, CrawlJob job, String message) {
+        Map<String, Object> response = new HashMap<>();
+        response.put("message", message);
+        response.put("jobId", job.getId());
+        response.put("job", crawlJobService.toDTO(job));
+        response.put("statusUrl", "/api/crawl/jobs/" + job.getId());
+        response.put("eventsUrl", "/api/crawl/jobs/" + job.getId() + "/events");
+
+        return ResponseEntity.accepted().body(response);
+    }
+
+    private Map<String, String> createErrorResponse(String message) {
+        Map<String, String> error = new HashMap<>();
+        error.put("error", message);
+        return error;
+    }
+}
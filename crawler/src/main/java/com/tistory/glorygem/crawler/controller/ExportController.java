@@ -0,0 +1,160 @@
+package com.tistory.glorygem.crawler.controller;
+
+import com.tistory.glorygem.crawler.export.ExportFormat;
+import com.tistory.glorygem.crawler.service.BookExportService;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.server.ResponseStatusException;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.IOException;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 카탈로그 내보내기 (gzip CSV / NDJSON / 열 단위 바이너리)
+ */
+@Slf4j
+@RestController
+@RequestMapping("/api/books/export")
+@RequiredArgsConstructor
+@CrossOrigin(origins = "*")
+public class ExportController {
+
+    private static final String GZIP_CONTENT_TYPE = "application/gzip";
+
+    // Tomcat NIO 커넥터의 sendfile 요청 속성
+    private static final String SENDFILE_SUPPORT = "org.apache.tomcat.sendfile.support";
+    private static final String SENDFILE_FILENAME = "org.apache.tomcat.sendfile.filename";
+    private static final String SENDFILE_START = "org.apache.tomcat.sendfile.start";
+    private static final String SENDFILE_END = "org.apache.tomcat.sendfile.end";
+
+    private final BookExportService bookExportService;
+
+    /**
+     * 전체 책을 DB 커서에서 바로 압축해 내려줍니다 (행 수와 관계없이 메모리 일정)
+     * 알 수 없는 형식은 400 (본문 타입이 스트림이므로 오류 Map 대신 ResponseStatusException)
+     */
+    @GetMapping
+    public ResponseEntity<StreamingResponseBody> export(@RequestParam(defaultValue = "csv") String format) {
+        ExportFormat exportFormat;
+        try {
+            exportFormat = ExportFormat.parse(format);
+        } catch (IllegalArgumentException e) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, e.getMessage(), e);
+        }
+        StreamingResponseBody body = out -> bookExportService.export(exportFormat, out);
+        return ResponseEntity.ok()
+                .header(HttpHeaders.CONTENT_TYPE, GZIP_CONTENT_TYPE)
+                .header(HttpHeaders.CONTENT_DISPOSITION, attachment("books." + exportFormat.getExtension()))
+                .body(body);
+    }
+
+    /**
+     * 내보내기 디렉터리에 파일을 만듭니다 (여러 번 내려받을 때 DB 를 다시 읽지 않도록)
+     */
+    @PostMapping("/files")
+    public ResponseEntity<?> exportToFile(@RequestParam(defaultValue = "csv") String format) {
+        try {
+            long startedAt = System.nanoTime();
+            Path file = bookExportService.exportToFile(ExportFormat.parse(format), null);
+
+            Map<String, Object> response = new HashMap<>();
+            response.put("name", file.getFileName().toString());
+            response.put("bytes", Files.size(file));
+            response.put("tookMillis", (System.nanoTime() - startedAt) / 1_000_000);
+
+            return ResponseEntity.ok(response);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(createErrorResponse(e.getMessage()));
+        } catch (Exception e) {
+            log.error("내보내기 파일 생성 실패", e);
+            return ResponseEntity.internalServerError()
+                    .body(createErrorResponse("내보내기에 실패했습니다: " + e.getMessage()));
+        }
+    }
+
+    /**
+     * 내보내기 파일 목록
+     */
+    @GetMapping("/files")
+    public ResponseEntity<?> listFiles() {
+        try {
+            List<Map<String, Object>> files = bookExportService.listExportFiles();
+
+            Map<String, Object> response = new HashMap<>();
+            response.put("count", files.size());
+            response.put("files", files);
+
+            return ResponseEntity.ok(response);
+        } catch (IOException e) {
+            log.error("내보내기 파일 목록 조회 실패", e);
+            return ResponseEntity.internalServerError()
+                    .body(createErrorResponse("목록 조회에 실패했습니다: " + e.getMessage()));
+        }
+    }
+
+    /**
+     * 내보내기 파일 내려받기
+     * Tomcat 이 sendfile 을 지원하면 커널이 파일을 소켓으로 바로 보내고,
+     * 아니면 FileChannel.transferTo 로 응답 스트림에 넘깁니다 (어느 쪽이든 DB 는 읽지 않음)
+     */
+    @GetMapping("/files/{name}")
+    public void downloadFile(@PathVariable String name, HttpServletRequest request,
+                             HttpServletResponse response) throws IOException {
+        Path file;
+        try {
+            file = bookExportService.resolveExportFile(name);
+        } catch (IllegalArgumentException e) {
+            response.sendError(HttpServletResponse.SC_BAD_REQUEST, e.getMessage());
+            return;
+        } catch (NoSuchFileException e) {
+            response.sendError(HttpServletResponse.SC_NOT_FOUND, "파일이 없습니다: " + name);
+            return;
+        }
+
+        long size = Files.size(file);
+        response.setContentType(GZIP_CONTENT_TYPE);
+        response.setHeader(HttpHeaders.CONTENT_DISPOSITION, attachment(name));
+        response.setContentLengthLong(size);
+
+        if (Boolean.TRUE.equals(request.getAttribute(SENDFILE_SUPPORT))) {
+            request.setAttribute(SENDFILE_FILENAME, file.toAbsolutePath().toString());
+            request.setAttribute(SENDFILE_START, 0L);
+            request.setAttribute(SENDFILE_END, size);
+            return;
+        }
+
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            WritableByteChannel target = Channels.newChannel(response.getOutputStream());
+            long position = 0;
+            while (position < size) {
+                position += channel.transferTo(position, size - position, target);
+            }
+        }
+    }
+
+    private static String attachment(String fileName) {
+        return "attachment; filename=\"" + fileName + "\"";
+    }
+
+    private Map<String, String> createErrorResponse(String message) {
+        Map<String, String> error = new HashMap<>();
+        error.put("error", message);
+        return error;
+    }
+}
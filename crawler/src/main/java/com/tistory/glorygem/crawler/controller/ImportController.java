@@ -0,0 +1,54 @@
+package com.tistory.glorygem.crawler.controller;
+
+import com.tistory.glorygem.crawler.domain.dto.ImportResultDTO;
+import com.tistory.glorygem.crawler.ingest.DumpFormat;
+import com.tistory.glorygem.crawler.service.BookImportService;
+import jakarta.servlet.http.HttpServletRequest;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 외부 크롤링 결과 일괄 가져오기
+ */
+@Slf4j
+@RestController
+@RequestMapping("/api/books/import")
+@RequiredArgsConstructor
+@CrossOrigin(origins = "*")
+public class ImportController {
+
+    private final BookImportService bookImportService;
+
+    /**
+     * 요청 본문(CSV / NDJSON, gzip 가능)을 읽으면서 바로 COPY 로 넘깁니다 (본문 전체를 메모리에 두지 않음)
+     * 예: curl -X POST -H "Content-Type: application/octet-stream" --data-binary @books.ndjson.gz \
+     *         "http://localhost:8080/api/books/import?format=ndjson"
+     */
+    @PostMapping
+    public ResponseEntity<?> importBooks(@RequestParam(defaultValue = "ndjson") String format,
+                                         HttpServletRequest request) {
+        try {
+            ImportResultDTO result = bookImportService.importDump(DumpFormat.parse(format), request.getInputStream());
+            return ResponseEntity.ok(result);
+        } catch (IllegalArgumentException | IOException e) {
+            log.warn("가져오기 실패: {}", e.getMessage());
+            return ResponseEntity.badRequest().body(createErrorResponse(e.getMessage()));
+        } catch (Exception e) {
+            log.error("가져오기 실패", e);
+            return ResponseEntity.internalServerError()
+                    .body(createErrorResponse("가져오기에 실패했습니다: " + e.getMessage()));
+        }
+    }
+
+    private Map<String, String> createErrorResponse(String message) {
+        Map<String, String> error = new HashMap<>();
+        error.put("error", message);
+        return error;
+    }
+}
@@ -0,0 +1,78 @@
+package com.tistory.glorygem.crawler.controller;
+
+import com.tistory.glorygem.crawler.domain.dto.CategoryStatsDTO;
+import com.tistory.glorygem.crawler.service.CatalogStatsService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.HashMap;
+import java.util.Map;
+
+@Slf4j
+@RestController
+@RequestMapping("/api/stats")
+@RequiredArgsConstructor
+@CrossOrigin(origins = "*")
+public class StatsController {
+
+    private final CatalogStatsService catalogStatsService;
+
+    /**
+     * 전체 통계 + 카테고리별 통계
+     */
+    @GetMapping
+    public ResponseEntity<?> getStats() {
+        try {
+            return ResponseEntity.ok(catalogStatsService.getSummary());
+        } catch (Exception e) {
+            log.error("통계 조회 실패", e);
+            return ResponseEntity.internalServerError()
+                    .body(createErrorResponse("통계 조회에 실패했습니다: " + e.getMessage()));
+        }
+    }
+
+    /**
+     * 특정 카테고리 통계
+     */
+    @GetMapping("/category/{categoryName}")
+    public ResponseEntity<?> getCategoryStats(@PathVariable String categoryName) {
+        try {
+            CategoryStatsDTO stats = catalogStatsService.getCategoryStats(categoryName);
+
+            Map<String, Object> response = new HashMap<>();
+            response.put("stats", stats);
+
+            return ResponseEntity.ok(response);
+        } catch (IllegalArgumentException e) {
+            log.warn("카테고리 통계를 찾을 수 없음: {}", categoryName);
+            return ResponseEntity.notFound().build();
+        } catch (Exception e) {
+            log.error("카테고리 통계 조회 실패: {}", categoryName, e);
+            return ResponseEntity.internalServerError()
+                    .body(createErrorResponse("통계 조회에 실패했습니다: " + e.getMessage()));
+        }
+    }
+
+    /**
+     * Book 테이블에서 통계 재집계
+     */
+    @PostMapping("/rebuild")
+    public ResponseEntity<?> rebuildStats() {
+        try {
+            catalogStatsService.rebuild();
+            return ResponseEntity.ok(catalogStatsService.getSummary());
+        } catch (Exception e) {
+            log.error("통계 재집계 실패", e);
+            return ResponseEntity.internalServerError()
+                    .body(createErrorResponse("통계 재집계에 실패했습니다: " + e.getMessage()));
+        }
+    }
+
+    private Map<String, String> createErrorResponse(String message) {
+        Map<String, String> error = new HashMap<>();
+        error.put("error", message);
+        return error;
+    }
+}
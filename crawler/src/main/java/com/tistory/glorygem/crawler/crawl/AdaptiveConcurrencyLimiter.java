@@ -0,0 +1,178 @@
+package com.tistory.glorygem.crawler.crawl;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 응답 지연과 오류에 따라 동시 요청 수 한도를 조절하는 AIMD 제한기 (호스트당 1개)
+ *
+ * 최근 응답의 p95 지연이 목표 이하이고 한도만큼 요청이 몰려 있으면 한도를 조금씩 올리고 (additive increase),
+ * 429 / 5xx / 타임아웃이나 목표를 넘는 지연이 나오면 한도를 비율로 줄입니다 (multiplicative decrease)
+ * 감소는 최소 간격을 두어 동시에 실패한 요청들 때문에 한 번에 바닥까지 떨어지지 않게 합니다
+ * Retry-After 를 받으면 그 시각까지 새 요청을 보내지 않습니다
+ */
+public class AdaptiveConcurrencyLimiter {
+
+    private static final int LATENCY_WINDOW = 100;
+    private static final int MIN_LATENCY_SAMPLES = 20;
+    private static final double LATENCY_BACKOFF_RATIO = 0.9;
+
+    private final int minLimit;
+    private final int maxLimit;
+    private final long targetLatencyNanos;
+    private final double backoffRatio;
+    private final long decreaseCooldownNanos;
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition available = lock.newCondition();
+
+    private final long[] latencies = new long[LATENCY_WINDOW];
+    private int latencyCount;
+    private int latencyIndex;
+
+    private double limit;
+    private int inFlight;
+    private long pausedUntil;
+    private long lastDecreaseAt;
+
+    public AdaptiveConcurrencyLimiter(int initialLimit, int minLimit, int maxLimit,
+                                      Duration targetLatency, double backoffRatio, Duration decreaseCooldown) {
+        this.minLimit = Math.max(1, minLimit);
+        this.maxLimit = Math.max(this.minLimit, maxLimit);
+        this.limit = Math.clamp(initialLimit, this.minLimit, this.maxLimit);
+        this.targetLatencyNanos = targetLatency.toNanos();
+        this.backoffRatio = backoffRatio;
+        this.decreaseCooldownNanos = decreaseCooldown.toNanos();
+        this.lastDecreaseAt = System.nanoTime() - decreaseCooldownNanos;
+    }
+
+    /**
+     * 한도 안에 자리가 나고 Retry-After 대기가 끝날 때까지 기다립니다
+     */
+    public void acquire() throws InterruptedException {
+        lock.lock();
+        try {
+            while (true) {
+                long pause = pausedUntil - System.nanoTime();
+                if (pause > 0) {
+                    available.awaitNanos(pause);
+                } else if (inFlight >= (int) limit) {
+                    available.await();
+                } else {
+                    inFlight++;
+                    return;
+                }
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 정상 응답 (지연 시간 기록 후 한도 조정)
+     */
+    public void onSuccess(long latencyNanos) {
+        lock.lock();
+        try {
+            boolean saturated = inFlight >= (int) limit;
+            inFlight--;
+            latencies[latencyIndex] = latencyNanos;
+            latencyIndex = (latencyIndex + 1) % LATENCY_WINDOW;
+            latencyCount = Math.min(latencyCount + 1, LATENCY_WINDOW);
+
+            if (latencyCount >= MIN_LATENCY_SAMPLES && p95Nanos() > targetLatencyNanos) {
+                decrease(LATENCY_BACKOFF_RATIO);
+            } else if (saturated) {
+                limit = Math.min(maxLimit, limit + 1.0 / limit);
+            }
+            available.signalAll();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 서버가 과부하 신호를 보냄 (429 / 5xx / 타임아웃), retryAfter 가 있으면 그때까지 멈춤
+     */
+    public void onDropped(Duration retryAfter) {
+        lock.lock();
+        try {
+            inFlight--;
+            decrease(backoffRatio);
+            if (retryAfter != null && !retryAfter.isNegative()) {
+                pausedUntil = Math.max(pausedUntil, System.nanoTime() + retryAfter.toNanos());
+            }
+            available.signalAll();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 한도와 무관한 실패 (404, 연결 거부 등), 자리만 반환
+     */
+    public void onIgnored() {
+        lock.lock();
+        try {
+            inFlight--;
+            available.signalAll();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public int getLimit() {
+        lock.lock();
+        try {
+            return (int) limit;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public int getInFlight() {
+        lock.lock();
+        try {
+            return inFlight;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public Map<String, Object> getStats() {
+        lock.lock();
+        try {
+            Map<String, Object> stats = new HashMap<>();
+            stats.put("limit", (int) limit);
+            stats.put("inFlight", inFlight);
+            stats.put("p95Millis", TimeUnit.NANOSECONDS.toMillis(p95Nanos()));
+            stats.put("pausedMillis", Math.max(0, TimeUnit.NANOSECONDS.toMillis(pausedUntil - System.nanoTime())));
+            return stats;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void decrease(double ratio) {
+        long now = System.nanoTime();
+        if (now - lastDecreaseAt < decreaseCooldownNanos) {
+            return;
+        }
+        lastDecreaseAt = now;
+        limit = Math.max(minLimit, limit * ratio);
+    }
+
+    private long p95Nanos() {
+        if (latencyCount == 0) {
+            return 0;
+        }
+        long[] sorted = Arrays.copyOf(latencies, latencyCount);
+        Arrays.sort(sorted);
+        return sorted[(int) Math.ceil(latencyCount * 0.95) - 1];
+    }
+}
@@ -0,0 +1,326 @@
+package com.tistory.glorygem.crawler.crawl;
+
+import com.tistory.glorygem.crawler.domain.entity.Book;
+import com.tistory.glorygem.crawler.domain.entity.BookCategory;
+import lombok.extern.slf4j.Slf4j;
+import org.jsoup.nodes.Document;
+import org.jsoup.nodes.Element;
+import org.jsoup.parser.Parser;
+import org.jsoup.parser.StreamParser;
+import org.jsoup.select.Elements;
+import org.jsoup.select.Evaluator;
+import org.jsoup.select.QueryParser;
+import org.springframework.stereotype.Component;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.math.BigDecimal;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * books.toscrape.com 목록 / 상세 페이지에서 값을 뽑는 추출기
+ *
+ * CSS 선택자는 클래스 로딩 시 한 번만 Evaluator 로 컴파일하고,
+ * 가격과 리뷰 수는 정규식이나 중간 문자열 없이 문자 단위로 읽습니다
+ * 상세 페이지는 상품 영역(article.product_page)까지만 파싱하고 나머지는 읽지 않습니다
+ */
+@Slf4j
+@Component
+public class BookPageExtractor {
+
+    // 상세 페이지
+    private static final Evaluator PRODUCT_PAGE = QueryParser.parse("article.product_page");
+    private static final Evaluator TITLE = QueryParser.parse("div.product_main h1");
+    private static final Evaluator PRICE = QueryParser.parse("p.price_color");
+    private static final Evaluator INFO_ROWS = QueryParser.parse("table.table tr");
+    private static final Evaluator HEADER_CELL = QueryParser.parse("th");
+    private static final Evaluator VALUE_CELL = QueryParser.parse("td");
+    private static final Evaluator DESCRIPTION = QueryParser.parse("article.product_page > p");
+    private static final Evaluator DETAIL_RATING = QueryParser.parse("div.product_main p.star-rating");
+    private static final Evaluator BREADCRUMB_CATEGORY = QueryParser.parse("ul.breadcrumb li:nth-child(3) a");
+
+    // 목록 페이지
+    private static final Evaluator BOOK_ITEMS = QueryParser.parse("article.product_pod");
+    private static final Evaluator ITEM_LINK = QueryParser.parse("h3 a");
+    private static final Evaluator ITEM_AVAILABILITY = QueryParser.parse("p.availability");
+    private static final Evaluator ITEM_RATING = QueryParser.parse("p.star-rating");
+    private static final Evaluator NEXT_PAGE = QueryParser.parse("li.next a");
+    private static final Evaluator CATEGORY_LINKS = QueryParser.parse("div.side_categories ul.nav-list li ul li a");
+
+    private static final String IN_STOCK = "In stock";
+    private static final String OUT_OF_STOCK = "Out of stock";
+
+    /** 상품 정보 테이블에서 읽는 행 수 (UPC, Product Type, Availability, Number of reviews) */
+    private static final int INFO_FIELDS = 4;
+
+    /**
+     * 상세 페이지를 상품 영역이 닫힐 때까지만 파싱합니다
+     * breadcrumb 는 상품 영역보다 앞에 있으므로 함께 포함됩니다
+     */
+    public Document parseDetailPage(FetchedPage page) throws IOException {
+        Charset charset = page.charset() != null ? Charset.forName(page.charset()) : StandardCharsets.UTF_8;
+        InputStreamReader reader = new InputStreamReader(new ByteArrayInputStream(page.body()), charset);
+        try (StreamParser streamer = new StreamParser(Parser.htmlParser()).parse(reader, page.url())) {
+            streamer.selectFirst(PRODUCT_PAGE);
+            return streamer.document();
+        }
+    }
+
+    /**
+     * 상세 페이지 문서를 Book 으로 변환합니다
+     */
+    public Book extractDetail(Document doc, String bookUrl, BookCategory bookCategory) {
+        Book book = new Book();
+        book.setUrl(bookUrl);
+        book.setBookCategory(bookCategory);
+
+        Element titleElement = doc.selectFirst(TITLE);
+        if (titleElement != null) {
+            book.setTitle(titleElement.text());
+        }
+
+        Element priceElement = doc.selectFirst(PRICE);
+        if (priceElement != null) {
+            book.setPrice(parsePrice(priceElement.text()));
+        }
+
+        // 상품 정보 테이블 (필요한 행을 모두 읽으면 중단)
+        int found = 0;
+        for (Element row : doc.select(INFO_ROWS)) {
+            Element th = row.selectFirst(HEADER_CELL);
+            Element td = row.selectFirst(VALUE_CELL);
+            if (th == null || td == null) {
+                continue;
+            }
+            switch (th.text()) {
+                case "UPC" -> book.setUpc(td.text());
+                case "Product Type" -> book.setProductType(td.text());
+                case "Availability" -> {
+                    book.setAvailability(td.text());
+                    book.setStockCount(parseStockCount(td.text()));
+                }
+                case "Number of reviews" -> book.setNumberOfReviews(parseCount(td.text()));
+                default -> {
+                    continue;
+                }
+            }
+            if (++found == INFO_FIELDS) {
+                break;
+            }
+        }
+
+        book.setRating(parseRating(doc.selectFirst(DETAIL_RATING)));
+
+        Element descElement = doc.selectFirst(DESCRIPTION);
+        if (descElement != null) {
+            book.setDescription(descElement.text());
+        }
+
+        return book;
+    }
+
+    /**
+     * 상세 페이지 breadcrumb (Home > Books > 카테고리 > 제목) 의 카테고리명
+     */
+    public String extractCategoryName(Document doc) {
+        Element link = doc.selectFirst(BREADCRUMB_CATEGORY);
+        return link != null ? link.text().trim() : "";
+    }
+
+    /**
+     * 목록 페이지의 책 항목 (article.product_pod)
+     */
+    public Elements bookItems(Document doc) {
+        return doc.select(BOOK_ITEMS);
+    }
+
+    /**
+     * 목록 항목의 상세 페이지 상대 경로
+     */
+    public String bookHref(Element bookItem) {
+        Element linkElement = bookItem.selectFirst(ITEM_LINK);
+        return linkElement != null ? linkElement.attr("href") : null;
+    }
+
+    /**
+     * 목록 항목을 Book 으로 변환합니다 (상세 필드는 비어 있음)
+     */
+    public Book extractListingItem(Element bookItem, String bookUrl, BookCategory bookCategory) {
+        Book book = new Book();
+        book.setUrl(bookUrl);
+        book.setBookCategory(bookCategory);
+        book.setLastCrawledAt(LocalDateTime.now());
+
+        // 목록의 제목은 길면 잘리므로 title 속성의 전체 제목 사용
+        Element linkElement = bookItem.selectFirst(ITEM_LINK);
+        if (linkElement != null) {
+            book.setTitle(linkElement.hasAttr("title") ? linkElement.attr("title") : linkElement.text());
+        }
+
+        Element priceElement = bookItem.selectFirst(PRICE);
+        if (priceElement != null) {
+            book.setPrice(parsePrice(priceElement.text()));
+        }
+
+        // 목록 페이지는 "In stock" 만 표시하므로 수량은 품절(0)일 때만 알 수 있음
+        Element availabilityElement = bookItem.selectFirst(ITEM_AVAILABILITY);
+        if (availabilityElement != null) {
+            book.setAvailability(availabilityElement.text());
+            book.setStockCount(parseStockCount(availabilityElement.text()));
+        }
+
+        book.setRating(parseRating(bookItem.selectFirst(ITEM_RATING)));
+        return book;
+    }
+
+    /**
+     * 목록 페이지의 다음 페이지 상대 경로 (마지막 페이지면 null)
+     */
+    public String nextPageHref(Document doc) {
+        Element nextButton = doc.selectFirst(NEXT_PAGE);
+        return nextButton != null ? nextButton.attr("href") : null;
+    }
+
+    /**
+     * 메인 페이지 사이드바의 카테고리명과 목록 페이지 경로
+     */
+    public List<CategoryLink> categoryLinks(Document doc) {
+        Elements links = doc.select(CATEGORY_LINKS);
+        List<CategoryLink> categories = new ArrayList<>(links.size());
+        for (Element link : links) {
+            categories.add(new CategoryLink(link.text().trim(), link.attr("href")));
+        }
+        return categories;
+    }
+
+    /**
+     * 카테고리명과 사이트 기준 상대 경로 ("catalogue/category/books/travel_2/index.html")
+     */
+    public record CategoryLink(String name, String urlPath) {
+    }
+
+    /**
+     * "£51.77" 같은 가격 문자열을 읽습니다 (숫자와 첫 번째 '.' 외의 문자는 무시)
+     * 읽을 숫자가 없거나 '.' 이 두 번 나오면 null
+     */
+    public static BigDecimal parsePrice(String text) {
+        long unscaled = 0;
+        int scale = 0;
+        int digits = 0;
+        boolean fraction = false;
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (c >= '0' && c <= '9') {
+                if (digits++ == 18) {
+                    log.warn("가격 파싱 실패: {}", text);
+                    return null;
+                }
+                unscaled = unscaled * 10 + (c - '0');
+                if (fraction) {
+                    scale++;
+                }
+            } else if (c == '.') {
+                if (fraction) {
+                    log.warn("가격 파싱 실패: {}", text);
+                    return null;
+                }
+                fraction = true;
+            }
+        }
+        if (digits == 0) {
+            log.warn("가격 파싱 실패: {}", text);
+            return null;
+        }
+        return BigDecimal.valueOf(unscaled, scale);
+    }
+
+    /**
+     * "In stock (19 available)" 의 수량을 읽습니다
+     * 품절("Out of stock")이면 0, 수량이 없거나 읽을 수 없으면 null
+     */
+    public static Integer parseStockCount(String availability) {
+        if (availability.startsWith(OUT_OF_STOCK)) {
+            return 0;
+        }
+        int open = availability.indexOf('(');
+        if (!availability.startsWith(IN_STOCK) || open < 0) {
+            return null;
+        }
+        int value = 0;
+        int digits = 0;
+        for (int i = open + 1; i < availability.length(); i++) {
+            char c = availability.charAt(i);
+            if (c < '0' || c > '9') {
+                break;
+            }
+            if (digits++ == 9) {
+                log.warn("재고 수량 파싱 실패: {}", availability);
+                return null;
+            }
+            value = value * 10 + (c - '0');
+        }
+        return digits == 0 ? null : value;
+    }
+
+    /**
+     * p.star-rating 의 클래스 ("star-rating Three") 로 별점 1 ~ 5 를 읽습니다 (없으면 null)
+     */
+    static Integer parseRating(Element ratingElement) {
+        if (ratingElement == null) {
+            return null;
+        }
+        for (String className : ratingElement.classNames()) {
+            switch (className) {
+                case "One" -> {
+                    return 1;
+                }
+                case "Two" -> {
+                    return 2;
+                }
+                case "Three" -> {
+                    return 3;
+                }
+                case "Four" -> {
+                    return 4;
+                }
+                case "Five" -> {
+                    return 5;
+                }
+                default -> {
+                }
+            }
+        }
+        return null;
+    }
+
+    /**
+     * 양의 정수 문자열을 읽습니다 (공백은 무시, 숫자가 아니면 null)
+     */
+    public static Integer parseCount(String text) {
+        int value = 0;
+        int digits = 0;
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (c >= '0' && c <= '9') {
+                if (digits++ == 9) {
+                    log.warn("리뷰 수 파싱 실패: {}", text);
+                    return null;
+                }
+                value = value * 10 + (c - '0');
+            } else if (!Character.isWhitespace(c)) {
+                log.warn("리뷰 수 파싱 실패: {}", text);
+                return null;
+            }
+        }
+        if (digits == 0) {
+            log.warn("리뷰 수 파싱 실패: {}", text);
+            return null;
+        }
+        return value;
+    }
+}
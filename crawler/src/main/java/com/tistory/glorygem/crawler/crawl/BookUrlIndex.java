@@ -0,0 +1,165 @@
+package com.tistory.glorygem.crawler.crawl;
+
+import com.tistory.glorygem.crawler.config.CrawlerProperties;
+import com.tistory.glorygem.crawler.domain.entity.Book;
+import com.tistory.glorygem.crawler.domain.repository.BookRepository;
+import com.tistory.glorygem.crawler.event.BooksImportedEvent;
+import com.tistory.glorygem.crawler.event.BooksSavedEvent;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.stream.Stream;
+
+/**
+ * 이미 저장된 책 URL 의 메모리 인덱스
+ * URL 을 64bit 해시로만 보관하므로 수백만 건도 수십 MB 로 유지되며,
+ * 알려진 URL 은 DB 조회나 상세 페이지 요청 없이 건너뜁니다
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class BookUrlIndex {
+
+    private final BookRepository bookRepository;
+    private final CrawlerProperties properties;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private final AtomicLong lookups = new AtomicLong();
+    private final AtomicLong hits = new AtomicLong();
+
+    private volatile boolean loaded;
+    private LongHashSet hashes;
+
+    /**
+     * 처음 호출될 때 Book 테이블에서 URL 을 읽어 인덱스를 만듭니다 (크롤링 시작 시 호출)
+     */
+    @Transactional(readOnly = true)
+    public void ensureLoaded() {
+        if (loaded) {
+            return;
+        }
+        lock.writeLock().lock();
+        try {
+            if (loaded) {
+                return;
+            }
+            int expected = (int) Math.max(bookRepository.count(), properties.getDedup().getExpectedUrls());
+            hashes = new LongHashSet(expected);
+
+            try (Stream<String> urls = bookRepository.streamAllUrls()) {
+                urls.forEach(this::addUnlocked);
+            }
+            loaded = true;
+            log.info("URL 중복 인덱스 로드 완료: {} 건, {} KB", hashes.size(), hashes.memoryBytes() / 1024);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 이미 저장된 URL 인지 확인합니다
+     */
+    public boolean contains(String url) {
+        long hash = hash(url);
+        lookups.incrementAndGet();
+        lock.readLock().lock();
+        try {
+            if (hashes == null) {
+                return false;
+            }
+            boolean hit = hashes.contains(hash);
+            if (hit) {
+                hits.incrementAndGet();
+            }
+            return hit;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public void add(String url) {
+        lock.writeLock().lock();
+        try {
+            if (hashes != null) {
+                addUnlocked(url);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 저장이 커밋된 책의 URL 을 인덱스에 반영합니다
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onBooksSaved(BooksSavedEvent event) {
+        for (Book book : event.inserted()) {
+            add(book.getUrl());
+        }
+    }
+
+    /**
+     * 일괄 가져오기 후에는 인덱스를 버리고 다음 크롤링 시작 때 DB 에서 다시 읽습니다
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onBooksImported(BooksImportedEvent event) {
+        lock.writeLock().lock();
+        try {
+            loaded = false;
+            hashes = null;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 인덱스 크기와 적중률
+     */
+    public Map<String, Object> getStats() {
+        lock.readLock().lock();
+        try {
+            long lookupCount = lookups.get();
+            Map<String, Object> stats = new HashMap<>();
+            stats.put("loaded", loaded);
+            stats.put("size", hashes != null ? hashes.size() : 0);
+            stats.put("memoryBytes", hashes != null ? hashes.memoryBytes() : 0);
+            stats.put("lookups", lookupCount);
+            stats.put("hits", hits.get());
+            stats.put("hitRate", lookupCount == 0 ? 0.0 : (double) hits.get() / lookupCount);
+            return stats;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private void addUnlocked(String url) {
+        if (url == null) {
+            return;
+        }
+        hashes.add(hash(url));
+    }
+
+    /**
+     * FNV-1a 64bit + murmur3 finalizer (0 은 빈 슬롯 표시이므로 제외)
+     */
+    static long hash(String url) {
+        long h = 0xcbf29ce484222325L;
+        for (int i = 0; i < url.length(); i++) {
+            h ^= url.charAt(i);
+            h *= 0x100000001b3L;
+        }
+        h ^= h >>> 33;
+        h *= 0xff51afd7ed558ccdL;
+        h ^= h >>> 33;
+        h *= 0xc4ceb9fe1a85ec53L;
+        h ^= h >>> 33;
+        return h == 0 ? 1 : h;
+    }
+}
@@ -0,0 +1,43 @@
+package com.tistory.glorygem.crawler.crawl;
+
+import lombok.Getter;
+import lombok.Setter;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+import java.util.concurrent.Future;
+
+/**
+ * 백그라운드에서 실행되는 크롤링 작업
+ */
+@Getter @Setter
+public class CrawlJob {
+
+    private final String id = UUID.randomUUID().toString();
+    private final CrawlJobType type;
+    private final String target;  // CATEGORY 작업의 카테고리명
+    private final CrawlMode mode;
+    private final CrawlProgress progress = new CrawlProgress(false);  // 실행을 시작할 때 start()
+    private final LocalDateTime createdAt = LocalDateTime.now();
+
+    private volatile Status status = Status.QUEUED;
+    private volatile LocalDateTime startedAt;
+    private volatile LocalDateTime finishedAt;
+    private volatile Object result;
+    private volatile String error;
+    private volatile Future<?> future;
+
+    public CrawlJob(CrawlJobType type, String target, CrawlMode mode) {
+        this.type = type;
+        this.target = target;
+        this.mode = mode;
+    }
+
+    public boolean isFinished() {
+        return status == Status.COMPLETED || status == Status.FAILED || status == Status.CANCELLED;
+    }
+
+    public enum Status {
+        QUEUED, RUNNING, COMPLETED, FAILED, CANCELLED
+    }
+}
@@ -0,0 +1,23 @@
+package com.tistory.glorygem.crawler.crawl;
+
+/**
+ * 크롤링 작업 종류
+ */
+public enum CrawlJobType {
+    /** 카테고리 목록만 크롤링 */
+    CATEGORIES,
+    /** 특정 카테고리의 책 크롤링 */
+    CATEGORY,
+    /** 전체 책 크롤링 (카테고리 순서대로) */
+    ALL,
+    /** 전체 책 동시 크롤링 (가상 스레드) */
+    CONCURRENT,
+    /** 전체 책 크롤링 (DB 대기열 기반, 중단된 크롤링 이어서 진행) */
+    FRONTIER,
+    /** 목록 페이지만으로 저장된 책의 상세 필드 채우기 */
+    ENRICH,
+    /** 저장된 책 조건부 재크롤링 */
+    REFRESH,
+    /** 페이지 저장소 재파싱 */
+    REPLAY
+}
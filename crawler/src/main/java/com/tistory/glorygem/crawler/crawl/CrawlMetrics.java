@@ -0,0 +1,144 @@
+package com.tistory.glorygem.crawler.crawl;
+
+import com.tistory.glorygem.crawler.domain.entity.BookCategory;
+import com.tistory.glorygem.crawler.domain.repository.BookBulkRepository.UpsertResult;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 카테고리별 크롤링 지표 (Micrometer, /actuator/prometheus 로 노출)
+ *
+ * crawler.fetch / crawler.parse : 페이지 요청 / 파싱 시간 (type=listing|detail)
+ * crawler.write                 : chunk 저장 트랜잭션 시간
+ * crawler.pages, crawler.page.bytes, crawler.books (result=new|updated|duplicate|failed)
+ * 카테고리마다 미터를 한 번만 등록하고 이후에는 캐시된 미터를 갱신합니다
+ */
+@Component
+public class CrawlMetrics {
+
+    /** 여러 카테고리가 섞인 작업 (동시 크롤링 저장 버퍼, 대기열 체크포인트) */
+    public static final String ALL_CATEGORIES = "all";
+    public static final String LISTING = "listing";
+    public static final String DETAIL = "detail";
+
+    private final MeterRegistry registry;
+    private final Map<String, CategoryMeters> categories = new ConcurrentHashMap<>();
+
+    public CrawlMetrics(MeterRegistry registry) {
+        this.registry = registry;
+    }
+
+    /**
+     * startedAt(System.nanoTime) 부터 응답 본문을 다 받을 때까지의 요청 시간
+     */
+    public void fetched(String category, String pageType, long startedAt, long bytes) {
+        CategoryMeters meters = meters(category);
+        boolean listing = LISTING.equals(pageType);
+        (listing ? meters.fetchListing : meters.fetchDetail).record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+        (listing ? meters.listingPages : meters.detailPages).increment();
+        meters.pageBytes.record(bytes);
+    }
+
+    /**
+     * startedAt 부터 파싱 + 추출이 끝날 때까지의 시간
+     */
+    public void parsed(String category, String pageType, long startedAt) {
+        CategoryMeters meters = meters(category);
+        (LISTING.equals(pageType) ? meters.parseListing : meters.parseDetail)
+                .record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * chunk 하나를 저장한 트랜잭션 시간과 결과
+     */
+    public void written(String category, long startedAt, UpsertResult result) {
+        CategoryMeters meters = meters(category);
+        meters.write.record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+        meters.booksNew.increment(result.insertedCount());
+        meters.booksUpdated.increment(result.updatedCount());
+        meters.booksFailed.increment(result.failedCount());
+    }
+
+    /**
+     * 이미 저장된 책이라 건너뜀
+     */
+    public void duplicate(String category) {
+        meters(category).booksDuplicate.increment();
+    }
+
+    /**
+     * 지표 태그로 쓸 카테고리명 (카테고리 없으면 all)
+     */
+    public static String categoryTag(BookCategory category) {
+        return category != null && category.getCategoryName() != null ? category.getCategoryName() : ALL_CATEGORIES;
+    }
+
+    private CategoryMeters meters(String category) {
+        return categories.computeIfAbsent(category, name -> new CategoryMeters(registry, name));
+    }
+
+    private static class CategoryMeters {
+        private final Timer fetchListing;
+        private final Timer fetchDetail;
+        private final Timer parseListing;
+        private final Timer parseDetail;
+        private final Timer write;
+        private final Counter listingPages;
+        private final Counter detailPages;
+        private final DistributionSummary pageBytes;
+        private final Counter booksNew;
+        private final Counter booksUpdated;
+        private final Counter booksDuplicate;
+        private final Counter booksFailed;
+
+        CategoryMeters(MeterRegistry registry, String category) {
+            fetchListing = timer(registry, "crawler.fetch", category, LISTING);
+            fetchDetail = timer(registry, "crawler.fetch", category, DETAIL);
+            parseListing = timer(registry, "crawler.parse", category, LISTING);
+            parseDetail = timer(registry, "crawler.parse", category, DETAIL);
+            write = Timer.builder("crawler.write")
+                    .description("책 chunk 저장 트랜잭션 시간")
+                    .tag("category", category)
+                    .register(registry);
+            listingPages = pages(registry, category, LISTING);
+            detailPages = pages(registry, category, DETAIL);
+            pageBytes = DistributionSummary.builder("crawler.page.bytes")
+                    .description("압축 해제 후 페이지 크기")
+                    .baseUnit("bytes")
+                    .tag("category", category)
+                    .register(registry);
+            booksNew = books(registry, category, "new");
+            booksUpdated = books(registry, category, "updated");
+            booksDuplicate = books(registry, category, "duplicate");
+            booksFailed = books(registry, category, "failed");
+        }
+
+        private static Timer timer(MeterRegistry registry, String name, String category, String pageType) {
+            return Timer.builder(name)
+                    .tag("category", category)
+                    .tag("type", pageType)
+                    .register(registry);
+        }
+
+        private static Counter pages(MeterRegistry registry, String category, String pageType) {
+            return Counter.builder("crawler.pages")
+                    .tag("category", category)
+                    .tag("type", pageType)
+                    .register(registry);
+        }
+
+        private static Counter books(MeterRegistry registry, String category, String result) {
+            return Counter.builder("crawler.books")
+                    .tag("category", category)
+                    .tag("result", result)
+                    .register(registry);
+        }
+    }
+}
@@ -0,0 +1,14 @@
+package com.tistory.glorygem.crawler.crawl;
+
+/**
+ * 새 책을 저장할 때 어떤 페이지까지 요청할지
+ */
+public enum CrawlMode {
+    /** 책마다 상세 페이지를 요청해 모든 필드를 채움 */
+    FULL,
+    /**
+     * 목록 페이지의 article.product_pod 만으로 저장 (제목 / 가격 / 재고, 요청 수 약 1/20)
+     * UPC / 설명 등 상세 필드는 ENRICH 작업이 나중에 채움
+     */
+    LISTING
+}
@@ -0,0 +1,145 @@
+package com.tistory.glorygem.crawler.crawl;
+
+import com.tistory.glorygem.crawler.domain.dto.CrawlResultDTO;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 크롤링 진행 상황 카운터 (여러 스레드에서 동시에 갱신)
+ */
+public class CrawlProgress {
+
+    private volatile long startedAt;  // 0 이면 아직 시작 전 (대기 중인 작업)
+
+    private final AtomicLong categoriesDone = new AtomicLong();
+    private final AtomicLong pagesFetched = new AtomicLong();
+    private final AtomicLong listingPagesFetched = new AtomicLong();
+    private final AtomicLong detailPagesFetched = new AtomicLong();
+    private final AtomicLong booksSaved = new AtomicLong();
+    private final AtomicLong booksUpdated = new AtomicLong();
+    private final AtomicLong booksFailed = new AtomicLong();
+    private final AtomicLong duplicates = new AtomicLong();
+    private final AtomicLong errors = new AtomicLong();
+
+    private volatile long categoriesTotal;
+    private volatile boolean cancelled;
+
+    public CrawlProgress() {
+        this(true);
+    }
+
+    /**
+     * started 가 false 이면 start() 를 부를 때까지 경과 시간을 재지 않습니다 (큐에서 기다리는 시간 제외)
+     */
+    CrawlProgress(boolean started) {
+        this.startedAt = started ? System.nanoTime() : 0;
+    }
+
+    /**
+     * 실행을 시작한 시점부터 경과 시간과 초당 페이지 수를 잽니다
+     */
+    public void start() {
+        startedAt = System.nanoTime();
+    }
+
+    public void setCategoriesTotal(long categoriesTotal) {
+        this.categoriesTotal = categoriesTotal;
+    }
+
+    /**
+     * 취소 요청 (크롤링 루프가 다음 단계에서 확인하고 멈춤)
+     */
+    public void cancel() {
+        cancelled = true;
+    }
+
+    public boolean isCancelled() {
+        return cancelled || Thread.currentThread().isInterrupted();
+    }
+
+    public void categoryDone() {
+        categoriesDone.incrementAndGet();
+    }
+
+    public void pageFetched() {
+        pagesFetched.incrementAndGet();
+    }
+
+    /**
+     * 목록 페이지 요청 (크롤링 모드별 요청 수 비교용)
+     */
+    public void listingPageFetched() {
+        listingPagesFetched.incrementAndGet();
+        pageFetched();
+    }
+
+    /**
+     * 책 상세 페이지 요청
+     */
+    public void detailPageFetched() {
+        detailPagesFetched.incrementAndGet();
+        pageFetched();
+    }
+
+    public void booksSaved(long count) {
+        booksSaved.addAndGet(count);
+    }
+
+    public void booksUpdated(long count) {
+        booksUpdated.addAndGet(count);
+    }
+
+    /**
+     * 저장 chunk 가 롤백되어 저장하지 못한 책 수
+     */
+    public void booksFailed(long count) {
+        booksFailed.addAndGet(count);
+    }
+
+    public void duplicate() {
+        duplicates.incrementAndGet();
+    }
+
+    public void error() {
+        errors.incrementAndGet();
+    }
+
+    public long getPagesFetched() {
+        return pagesFetched.get();
+    }
+
+    public long getBooksSaved() {
+        return booksSaved.get();
+    }
+
+    public long elapsedMillis() {
+        long started = startedAt;
+        return started == 0 ? 0 : TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - started);
+    }
+
+    /**
+     * 시작 이후 초당 페이지 수
+     */
+    public double pagesPerSecond() {
+        long elapsed = elapsedMillis();
+        return elapsed == 0 ? 0 : pagesFetched.get() * 1000.0 / elapsed;
+    }
+
+    public CrawlResultDTO toResult() {
+        return CrawlResultDTO.builder()
+                .categoriesTotal(categoriesTotal)
+                .categoriesDone(categoriesDone.get())
+                .pagesFetched(pagesFetched.get())
+                .listingPagesFetched(listingPagesFetched.get())
+                .detailPagesFetched(detailPagesFetched.get())
+                .booksSaved(booksSaved.get())
+                .booksUpdated(booksUpdated.get())
+                .booksFailed(booksFailed.get())
+                .duplicates(duplicates.get())
+                .errors(errors.get())
+                .elapsedMillis(elapsedMillis())
+                .pagesPerSecond(pagesPerSecond())
+                .build();
+    }
+}
@@ -0,0 +1,169 @@
+package com.tistory.glorygem.crawler.crawl;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import okhttp3.Call;
+import okhttp3.Connection;
+import okhttp3.EventListener;
+import okhttp3.Handshake;
+import okhttp3.Protocol;
+import org.springframework.stereotype.Component;
+
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.Proxy;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 공용 HTTP 클라이언트의 연결 / 전송량 지표
+ * OkHttp 호출마다 EventListener 를 만들어 DNS, TLS 시간과 연결 재사용 여부를 셉니다
+ * 같은 값을 Micrometer 카운터(crawler.http.*)로도 노출합니다
+ */
+@Component
+public class FetchMetrics implements EventListener.Factory, MeterBinder {
+
+    private final LongAdder requests = new LongAdder();
+    private final LongAdder connectionsOpened = new LongAdder();
+    private final LongAdder connectionsReused = new LongAdder();
+    private final LongAdder http2Requests = new LongAdder();
+    private final LongAdder bytesOnWire = new LongAdder();
+    private final LongAdder bytesDecoded = new LongAdder();
+    private final LongAdder dnsLookups = new LongAdder();
+    private final LongAdder dnsNanos = new LongAdder();
+    private final LongAdder tlsHandshakes = new LongAdder();
+    private final LongAdder tlsNanos = new LongAdder();
+
+    @Override
+    public EventListener create(Call call) {
+        return new CallListener();
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        FunctionCounter.builder("crawler.http.requests", requests, LongAdder::sum)
+                .register(registry);
+        FunctionCounter.builder("crawler.http.requests.http2", http2Requests, LongAdder::sum)
+                .register(registry);
+        FunctionCounter.builder("crawler.http.connections", connectionsOpened, LongAdder::sum)
+                .tag("state", "opened").register(registry);
+        FunctionCounter.builder("crawler.http.connections", connectionsReused, LongAdder::sum)
+                .tag("state", "reused").register(registry);
+        FunctionCounter.builder("crawler.http.bytes", bytesOnWire, LongAdder::sum)
+                .tag("stage", "wire").baseUnit("bytes").register(registry);
+        FunctionCounter.builder("crawler.http.bytes", bytesDecoded, LongAdder::sum)
+                .tag("stage", "decoded").baseUnit("bytes").register(registry);
+        FunctionCounter.builder("crawler.http.dns", dnsNanos, adder -> adder.sum() / 1e9)
+                .baseUnit("seconds").register(registry);
+        FunctionCounter.builder("crawler.http.tls", tlsNanos, adder -> adder.sum() / 1e9)
+                .baseUnit("seconds").register(registry);
+    }
+
+    /**
+     * 압축을 푼 본문 크기 (네트워크로 받은 크기와 비교용)
+     */
+    public void recordDecoded(long bytes) {
+        bytesDecoded.add(bytes);
+    }
+
+    public Map<String, Object> getStats() {
+        long wire = bytesOnWire.sum();
+        long decoded = bytesDecoded.sum();
+        Map<String, Object> stats = new HashMap<>();
+        stats.put("requests", requests.sum());
+        stats.put("connectionsOpened", connectionsOpened.sum());
+        stats.put("connectionsReused", connectionsReused.sum());
+        stats.put("http2Requests", http2Requests.sum());
+        stats.put("bytesOnWire", wire);
+        stats.put("bytesDecoded", decoded);
+        stats.put("compressionRatio", wire == 0 ? 0.0 : (double) decoded / wire);
+        stats.put("dnsLookups", dnsLookups.sum());
+        stats.put("dnsMillis", TimeUnit.NANOSECONDS.toMillis(dnsNanos.sum()));
+        stats.put("tlsHandshakes", tlsHandshakes.sum());
+        stats.put("tlsMillis", TimeUnit.NANOSECONDS.toMillis(tlsNanos.sum()));
+        return stats;
+    }
+
+    public long getRequests() {
+        return requests.sum();
+    }
+
+    public long getConnectionsOpened() {
+        return connectionsOpened.sum();
+    }
+
+    public long getConnectionsReused() {
+        return connectionsReused.sum();
+    }
+
+    public long getBytesOnWire() {
+        return bytesOnWire.sum();
+    }
+
+    public long getBytesDecoded() {
+        return bytesDecoded.sum();
+    }
+
+    /**
+     * 호출 하나의 이벤트 (한 스레드에서 순서대로 호출됨)
+     */
+    private class CallListener extends EventListener {
+
+        private long dnsStartedAt;
+        private long tlsStartedAt;
+        private boolean connected;
+
+        @Override
+        public void callStart(Call call) {
+            requests.increment();
+        }
+
+        @Override
+        public void dnsStart(Call call, String domainName) {
+            dnsStartedAt = System.nanoTime();
+        }
+
+        @Override
+        public void dnsEnd(Call call, String domainName, List<InetAddress> inetAddressList) {
+            dnsLookups.increment();
+            dnsNanos.add(System.nanoTime() - dnsStartedAt);
+        }
+
+        @Override
+        public void secureConnectStart(Call call) {
+            tlsStartedAt = System.nanoTime();
+        }
+
+        @Override
+        public void secureConnectEnd(Call call, Handshake handshake) {
+            tlsHandshakes.increment();
+            tlsNanos.add(System.nanoTime() - tlsStartedAt);
+        }
+
+        @Override
+        public void connectEnd(Call call, InetSocketAddress inetSocketAddress, Proxy proxy, Protocol protocol) {
+            connected = true;
+            connectionsOpened.increment();
+        }
+
+        @Override
+        public void connectionAcquired(Call call, Connection connection) {
+            if (!connected) {
+                connectionsReused.increment();
+            }
+            connected = false;  // 리다이렉트로 다시 연결을 얻는 경우 대비
+            if (connection.protocol() == Protocol.HTTP_2) {
+                http2Requests.increment();
+            }
+        }
+
+        @Override
+        public void responseBodyEnd(Call call, long byteCount) {
+            bytesOnWire.add(byteCount);
+        }
+    }
+}
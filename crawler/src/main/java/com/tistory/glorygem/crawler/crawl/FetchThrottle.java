@@ -0,0 +1,169 @@
+package com.tistory.glorygem.crawler.crawl;
+
+import com.tistory.glorygem.crawler.config.CrawlerProperties;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.stereotype.Component;
+
+import java.net.URI;
+import java.time.Duration;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Semaphore;
+
+/**
+ * 전체/호스트별 동시 요청 수와 호스트별 요청 속도를 제한합니다
+ * 호스트별 동시 요청 수는 AdaptiveConcurrencyLimiter 가 응답 지연과 오류에 따라 조절합니다
+ * (crawler.concurrency.adaptive=false 면 per-host 값으로 고정)
+ * 진행 중 요청 수와 호스트별 한도는 Micrometer 게이지로 노출합니다
+ */
+@Component
+public class FetchThrottle implements MeterBinder {
+
+    private final CrawlerProperties properties;
+    private final Semaphore globalPermits;
+    private final Map<String, HostSlot> hosts = new ConcurrentHashMap<>();
+
+    private volatile MeterRegistry registry;
+
+    public FetchThrottle(CrawlerProperties properties) {
+        this.properties = properties;
+        this.globalPermits = new Semaphore(properties.getConcurrency().getGlobal(), true);
+    }
+
+    /**
+     * 요청 가능할 때까지 대기한 뒤 요청 권한을 반환합니다 (반드시 close 필요)
+     * 응답 결과는 close 전에 success / dropped 로 알려야 한도 조절에 반영됩니다
+     */
+    public Permit acquire(String url) throws InterruptedException {
+        HostSlot slot = hosts.computeIfAbsent(hostOf(url), this::newHostSlot);
+
+        // 호스트 한도와 속도 제한을 먼저 통과한 요청만 전체 permit 을 잡으므로,
+        // Retry-After 로 멈춘 호스트에서 기다리는 요청이 다른 호스트의 전체 permit 을 막지 않음
+        slot.limiter.acquire();
+        try {
+            slot.rateLimiter.acquire();
+            globalPermits.acquire();
+        } catch (InterruptedException e) {
+            slot.limiter.onIgnored();
+            throw e;
+        }
+        return new Permit(slot);
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder("crawler.http.in_flight", this, FetchThrottle::inFlight)
+                .description("진행 중인 요청 수")
+                .register(registry);
+        this.registry = registry;
+        hosts.forEach((host, slot) -> bindHost(registry, host, slot));
+    }
+
+    private HostSlot newHostSlot(String host) {
+        HostSlot slot = new HostSlot(properties);
+        MeterRegistry bound = registry;
+        if (bound != null) {
+            bindHost(bound, host, slot);
+        }
+        return slot;
+    }
+
+    private static void bindHost(MeterRegistry registry, String host, HostSlot slot) {
+        Gauge.builder("crawler.http.host.limit", slot.limiter, AdaptiveConcurrencyLimiter::getLimit)
+                .description("호스트별 동시 요청 수 한도")
+                .tag("host", host)
+                .register(registry);
+        Gauge.builder("crawler.http.host.in_flight", slot.limiter, AdaptiveConcurrencyLimiter::getInFlight)
+                .tag("host", host)
+                .register(registry);
+    }
+
+    /**
+     * 현재 진행 중인 요청 수
+     */
+    public int inFlight() {
+        return properties.getConcurrency().getGlobal() - globalPermits.availablePermits();
+    }
+
+    /**
+     * 호스트별 현재 한도 / 진행 중 요청 수 / p95 지연
+     */
+    public Map<String, Object> getHostStats() {
+        Map<String, Object> stats = new TreeMap<>();
+        hosts.forEach((host, slot) -> stats.put(host, slot.limiter.getStats()));
+        return stats;
+    }
+
+    static String hostOf(String url) {
+        String host = URI.create(url).getHost();
+        return host != null ? host : "";
+    }
+
+    /**
+     * 요청 완료 시 반환하는 권한
+     */
+    public final class Permit implements AutoCloseable {
+
+        private final HostSlot slot;
+        private final long startedAt = System.nanoTime();
+        private boolean released;
+
+        private Permit(HostSlot slot) {
+            this.slot = slot;
+        }
+
+        /**
+         * 정상 응답 (지연 시간이 한도 증가 판단에 쓰임)
+         */
+        public void success() {
+            long latency = System.nanoTime() - startedAt;
+            release(() -> slot.limiter.onSuccess(latency));
+        }
+
+        /**
+         * 429 / 5xx / 타임아웃 (한도 감소, retryAfter 동안 해당 호스트 요청 중지)
+         */
+        public void dropped(Duration retryAfter) {
+            release(() -> slot.limiter.onDropped(retryAfter));
+        }
+
+        @Override
+        public void close() {
+            release(slot.limiter::onIgnored);
+        }
+
+        /**
+         * 잡은 순서의 반대로 반환합니다 (전체 permit, 호스트 한도)
+         */
+        private void release(Runnable releaseHost) {
+            if (released) {
+                return;
+            }
+            released = true;
+            globalPermits.release();
+            releaseHost.run();
+        }
+    }
+
+    private static class HostSlot {
+        private final AdaptiveConcurrencyLimiter limiter;
+        private final TokenBucketRateLimiter rateLimiter;
+
+        HostSlot(CrawlerProperties properties) {
+            CrawlerProperties.Concurrency concurrency = properties.getConcurrency();
+            int perHost = concurrency.getPerHost();
+            this.limiter = concurrency.isAdaptive()
+                    ? new AdaptiveConcurrencyLimiter(perHost, concurrency.getMinPerHost(), concurrency.getMaxPerHost(),
+                            Duration.ofMillis(concurrency.getTargetLatencyMillis()), concurrency.getBackoffRatio(),
+                            Duration.ofMillis(concurrency.getDecreaseCooldownMillis()))
+                    : new AdaptiveConcurrencyLimiter(perHost, perHost, perHost,
+                            Duration.ofDays(1), 1.0, Duration.ZERO);
+            this.rateLimiter = new TokenBucketRateLimiter(
+                    properties.getRateLimit().getPermitsPerSecond(),
+                    properties.getRateLimit().getBurst());
+        }
+    }
+}
@@ -0,0 +1,41 @@
+package com.tistory.glorygem.crawler.crawl;
+
+import org.jsoup.Jsoup;
+import org.jsoup.nodes.Document;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+
+/**
+ * 가져온 페이지의 원본 응답 (상태 코드, 본문, 캐시 검증 헤더)
+ */
+public record FetchedPage(String url, int statusCode, byte[] body, String charset,
+                          String etag, String lastModified) {
+
+    public static final int NOT_MODIFIED = 304;
+
+    /**
+     * 조건부 요청에 대해 서버가 304 를 응답했는지 여부
+     */
+    public boolean notModified() {
+        return statusCode == NOT_MODIFIED;
+    }
+
+    public Document parse() throws IOException {
+        return Jsoup.parse(new ByteArrayInputStream(body), charset, url);
+    }
+
+    /**
+     * 본문의 SHA-256 (hex)
+     */
+    public String contentHash() {
+        try {
+            return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(body));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
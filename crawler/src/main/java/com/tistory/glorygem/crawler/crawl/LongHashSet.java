@@ -0,0 +1,80 @@
+package com.tistory.glorygem.crawler.crawl;
+
+/**
+ * long 값 전용 open addressing 해시 셋 (박싱 없이 원소당 8~16 byte)
+ * 0 은 빈 슬롯 표시로 쓰므로 호출자가 0 이 아닌 값만 넣어야 합니다
+ */
+class LongHashSet {
+
+    private static final float LOAD_FACTOR = 0.5f;
+
+    private long[] table;
+    private int size;
+    private int mask;
+
+    LongHashSet(int expectedSize) {
+        int capacity = Integer.highestOneBit(Math.max(16, (int) (expectedSize / LOAD_FACTOR)) - 1) << 1;
+        table = new long[capacity];
+        mask = capacity - 1;
+    }
+
+    boolean contains(long value) {
+        int i = index(value);
+        while (true) {
+            long current = table[i];
+            if (current == 0) {
+                return false;
+            }
+            if (current == value) {
+                return true;
+            }
+            i = (i + 1) & mask;
+        }
+    }
+
+    /**
+     * 값을 추가하고, 새로 추가됐으면 true 를 반환합니다
+     */
+    boolean add(long value) {
+        if (size + 1 > table.length * LOAD_FACTOR) {
+            resize();
+        }
+        int i = index(value);
+        while (true) {
+            long current = table[i];
+            if (current == 0) {
+                table[i] = value;
+                size++;
+                return true;
+            }
+            if (current == value) {
+                return false;
+            }
+            i = (i + 1) & mask;
+        }
+    }
+
+    int size() {
+        return size;
+    }
+
+    long memoryBytes() {
+        return (long) table.length * Long.BYTES;
+    }
+
+    private int index(long value) {
+        return (int) (value ^ (value >>> 32)) & mask;
+    }
+
+    private void resize() {
+        long[] old = table;
+        table = new long[old.length << 1];
+        mask = table.length - 1;
+        size = 0;
+        for (long value : old) {
+            if (value != 0) {
+                add(value);
+            }
+        }
+    }
+}
@@ -0,0 +1,35 @@
+package com.tistory.glorygem.crawler.crawl;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * 페이지 저장소를 끈 경우 사용하는 구현
+ */
+public class NoOpPageStore implements PageStore {
+
+    @Override
+    public Mode getMode() {
+        return Mode.OFF;
+    }
+
+    @Override
+    public void save(FetchedPage page) {
+    }
+
+    @Override
+    public Optional<FetchedPage> find(String url) {
+        return Optional.empty();
+    }
+
+    @Override
+    public Collection<String> urls() {
+        return List.of();
+    }
+
+    @Override
+    public long size() {
+        return 0;
+    }
+}
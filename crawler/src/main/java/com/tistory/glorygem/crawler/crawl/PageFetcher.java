@@ -0,0 +1,156 @@
+package com.tistory.glorygem.crawler.crawl;
+
+import com.tistory.glorygem.crawler.config.CrawlerProperties;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import okhttp3.MediaType;
+import okhttp3.OkHttpClient;
+import okhttp3.Request;
+import okhttp3.Response;
+import okhttp3.ResponseBody;
+import org.jsoup.HttpStatusException;
+import org.jsoup.nodes.Document;
+import org.springframework.stereotype.Component;
+
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.net.SocketTimeoutException;
+import java.time.Duration;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+
+/**
+ * 모든 크롤러 요청이 거쳐가는 공용 페이지 fetcher
+ * 요청은 공용 OkHttpClient (연결 풀, HTTP/2, gzip / brotli) 로 보내고 받은 바이트를 Jsoup 으로 파싱합니다
+ * 동시 요청 수와 요청 속도는 FetchThrottle 이 제한하고 (429 / 5xx 응답은 Retry-After 를 지켜 재시도),
+ * PageStore 가 RECORD 모드면 응답을 기록하고 REPLAY 모드면 네트워크 대신 저장소에서 읽습니다
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PageFetcher {
+
+    private final CrawlerProperties properties;
+    private final FetchThrottle throttle;
+    private final PageStore pageStore;
+    private final OkHttpClient httpClient;
+    private final FetchMetrics fetchMetrics;
+
+    private static final int TOO_MANY_REQUESTS = 429;
+
+    /**
+     * URL 의 HTML 문서를 가져옵니다
+     */
+    public Document fetch(String url) throws IOException {
+        return fetchPage(url, null, null).parse();
+    }
+
+    /**
+     * URL 의 원본 응답을 가져옵니다
+     */
+    public FetchedPage fetchPage(String url) throws IOException {
+        return fetchPage(url, null, null);
+    }
+
+    /**
+     * 저장해 둔 ETag / Last-Modified 로 조건부 요청을 보냅니다
+     * 변경이 없으면 본문 없이 304 응답이 반환됩니다
+     */
+    public FetchedPage fetchPage(String url, String etag, String lastModified) throws IOException {
+        if (pageStore.getMode() == PageStore.Mode.REPLAY) {
+            return pageStore.find(url)
+                    .orElseThrow(() -> new FileNotFoundException("페이지 저장소에 없는 페이지: " + url));
+        }
+
+        Request.Builder request = new Request.Builder()
+                .url(url)
+                .header("User-Agent", properties.getUserAgent());
+        if (etag != null) {
+            request.header("If-None-Match", etag);
+        }
+        if (lastModified != null) {
+            request.header("If-Modified-Since", lastModified);
+        }
+
+        int retries = 0;
+        while (true) {
+            try (FetchThrottle.Permit permit = throttle.acquire(url)) {
+                return execute(request.build(), url, permit);
+            } catch (HttpStatusException e) {
+                // 과부하 응답: 한도가 줄고 Retry-After 만큼 멈춘 뒤 다음 acquire 가 풀림
+                if (!isOverloaded(e.getStatusCode()) || ++retries > properties.getConcurrency().getMaxRetries()) {
+                    throw e;
+                }
+                log.debug("과부하 응답 {}, 재시도 {}회: {}", e.getStatusCode(), retries, url);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new InterruptedIOException("요청 대기 중 중단됨: " + url);
+            }
+        }
+    }
+
+    /**
+     * 요청 하나를 보내고 결과(지연 시간 / 과부하 여부)를 permit 에 알립니다
+     */
+    private FetchedPage execute(Request request, String url, FetchThrottle.Permit permit) throws IOException {
+        try (Response response = httpClient.newCall(request).execute()) {
+            int status = response.code();
+            if (isOverloaded(status)) {
+                permit.dropped(parseRetryAfter(response.header("Retry-After")));
+            }
+            if (status >= 400) {
+                throw new HttpStatusException("HTTP 오류 응답", status, url);
+            }
+            ResponseBody body = response.body();
+            byte[] bytes = status == FetchedPage.NOT_MODIFIED || body == null ? new byte[0] : body.bytes();
+            fetchMetrics.recordDecoded(bytes.length);
+
+            MediaType contentType = body != null ? body.contentType() : null;
+            String charset = contentType != null && contentType.charset() != null
+                    ? contentType.charset().name() : null;
+            permit.success();
+
+            FetchedPage page = new FetchedPage(url, status, bytes, charset,
+                    response.header("ETag"), response.header("Last-Modified"));
+            if (pageStore.getMode() == PageStore.Mode.RECORD && !page.notModified()) {
+                pageStore.save(page);
+            }
+            return page;
+        } catch (SocketTimeoutException e) {
+            permit.dropped(null);
+            throw e;
+        }
+    }
+
+    private static boolean isOverloaded(int status) {
+        return status == TOO_MANY_REQUESTS || status >= 500;
+    }
+
+    /**
+     * Retry-After 헤더 (초 또는 HTTP 날짜) 를 읽습니다, 최대 대기 시간으로 자릅니다
+     */
+    Duration parseRetryAfter(String value) {
+        if (value == null || value.isBlank()) {
+            return null;
+        }
+        Duration retryAfter;
+        try {
+            retryAfter = Duration.ofSeconds(Long.parseLong(value.trim()));
+        } catch (NumberFormatException e) {
+            try {
+                ZonedDateTime at = ZonedDateTime.parse(value.trim(), DateTimeFormatter.RFC_1123_DATE_TIME);
+                retryAfter = Duration.between(ZonedDateTime.now(at.getZone()), at);
+            } catch (DateTimeParseException ignored) {
+                log.debug("Retry-After 헤더 파싱 실패: {}", value);
+                return null;
+            }
+        }
+        if (retryAfter.isNegative()) {
+            return Duration.ZERO;
+        }
+        Duration max = Duration.ofSeconds(properties.getConcurrency().getMaxRetryAfterSeconds());
+        return retryAfter.compareTo(max) > 0 ? max : retryAfter;
+    }
+}
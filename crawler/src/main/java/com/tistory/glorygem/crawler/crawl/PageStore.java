@@ -0,0 +1,34 @@
+package com.tistory.glorygem.crawler.crawl;
+
+import java.io.IOException;
+import java.util.Collection;
+import java.util.Optional;
+
+/**
+ * 가져온 원본 페이지 저장소
+ * RECORD 모드에서는 응답을 기록하고, REPLAY 모드에서는 네트워크 대신 저장소에서 읽습니다
+ */
+public interface PageStore {
+
+    Mode getMode();
+
+    void save(FetchedPage page) throws IOException;
+
+    Optional<FetchedPage> find(String url) throws IOException;
+
+    /**
+     * 저장된 모든 URL
+     */
+    Collection<String> urls();
+
+    long size();
+
+    enum Mode {
+        /** 저장소를 사용하지 않음 */
+        OFF,
+        /** 네트워크로 가져온 응답을 저장 */
+        RECORD,
+        /** 네트워크 없이 저장된 응답만 사용 */
+        REPLAY
+    }
+}
@@ -0,0 +1,247 @@
+package com.tistory.glorygem.crawler.crawl;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UTFDataFormatException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * WARC 와 비슷한 append-only 세그먼트 파일 기반 페이지 저장소
+ *
+ * segment-NNNNN.dat : 레코드(헤더 + gzip 본문)를 이어 붙인 파일, 일정 크기를 넘으면 다음 세그먼트로 넘어감
+ * index.dat         : (url, 세그먼트 번호, offset, 길이) 를 이어 붙인 파일, 시작 시 메모리로 읽음
+ *
+ * 읽기는 세그먼트를 memory-mapped 로 열어 레코드 위치를 바로 찾고, 그 레코드만 byte 배열로 복사해 압축을 풉니다
+ */
+@Slf4j
+public class SegmentPageStore implements PageStore, AutoCloseable {
+
+    private static final int RECORD_MAGIC = 0x50414745;  // "PAGE"
+    private static final String INDEX_FILE = "index.dat";
+
+    private final Path directory;
+    private final Mode mode;
+    private final long segmentSize;
+
+    private final Map<String, Location> index = new ConcurrentHashMap<>();
+    private final Map<Integer, MappedByteBuffer> mappedSegments = new ConcurrentHashMap<>();
+    private final ReentrantLock writeLock = new ReentrantLock();
+
+    private int activeSegment;
+    private FileChannel activeChannel;
+    private DataOutputStream indexOut;
+
+    public SegmentPageStore(Path directory, Mode mode, long segmentSize) throws IOException {
+        this.directory = directory;
+        this.mode = mode;
+        this.segmentSize = segmentSize;
+        Files.createDirectories(directory);
+        loadIndex();
+    }
+
+    @Override
+    public Mode getMode() {
+        return mode;
+    }
+
+    @Override
+    public void save(FetchedPage page) throws IOException {
+        byte[] record = encode(page);
+        writeLock.lock();
+        try {
+            FileChannel channel = activeChannel();
+            long offset = channel.size();
+            ByteBuffer buffer = ByteBuffer.wrap(record);
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+
+            Location location = new Location(activeSegment, offset, record.length);
+            indexOut.writeUTF(page.url());
+            indexOut.writeInt(location.segment());
+            indexOut.writeLong(location.offset());
+            indexOut.writeInt(location.length());
+            indexOut.flush();
+            index.put(page.url(), location);
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    @Override
+    public Optional<FetchedPage> find(String url) throws IOException {
+        Location location = index.get(url);
+        if (location == null) {
+            return Optional.empty();
+        }
+        ByteBuffer record = slice(location);
+        byte[] bytes = new byte[record.remaining()];
+        record.get(bytes);
+        return Optional.of(decode(bytes));
+    }
+
+    @Override
+    public Collection<String> urls() {
+        return Collections.unmodifiableSet(index.keySet());
+    }
+
+    @Override
+    public long size() {
+        return index.size();
+    }
+
+    @Override
+    public void close() throws IOException {
+        writeLock.lock();
+        try {
+            if (activeChannel != null) {
+                activeChannel.close();
+            }
+            if (indexOut != null) {
+                indexOut.close();
+            }
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    /**
+     * 레코드 위치의 mapped 버퍼 조각을 반환합니다 (세그먼트가 커졌으면 다시 매핑)
+     */
+    private ByteBuffer slice(Location location) throws IOException {
+        MappedByteBuffer mapped = mappedSegments.get(location.segment());
+        if (mapped == null || mapped.capacity() < location.offset() + location.length()) {
+            try (FileChannel channel = FileChannel.open(segmentPath(location.segment()), StandardOpenOption.READ)) {
+                mapped = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            }
+            mappedSegments.put(location.segment(), mapped);
+        }
+        return mapped.slice((int) location.offset(), location.length());
+    }
+
+    private FileChannel activeChannel() throws IOException {
+        if (activeChannel != null && activeChannel.size() >= segmentSize) {
+            activeChannel.close();
+            activeChannel = null;
+            activeSegment++;
+        }
+        if (activeChannel == null) {
+            activeChannel = FileChannel.open(segmentPath(activeSegment),
+                    StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.APPEND);
+        }
+        if (indexOut == null) {
+            OutputStream out = Files.newOutputStream(directory.resolve(INDEX_FILE),
+                    StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.APPEND);
+            indexOut = new DataOutputStream(new BufferedOutputStream(out));
+        }
+        return activeChannel;
+    }
+
+    private Path segmentPath(int segment) {
+        return directory.resolve(String.format("segment-%05d.dat", segment));
+    }
+
+    /**
+     * 인덱스 파일을 읽습니다 (같은 URL 은 나중 항목이 우선)
+     * 기록 중에 종료되어 마지막 항목이 잘렸으면 마지막 완전한 항목 끝까지 파일을 잘라,
+     * 이후 추가되는 항목이 잘린 바이트 뒤에 붙어 어긋나지 않게 합니다
+     */
+    private void loadIndex() throws IOException {
+        Path indexPath = directory.resolve(INDEX_FILE);
+        if (!Files.exists(indexPath)) {
+            return;
+        }
+        byte[] bytes = Files.readAllBytes(indexPath);
+        ByteArrayInputStream buffer = new ByteArrayInputStream(bytes);
+        DataInputStream in = new DataInputStream(buffer);
+        long validLength = 0;
+        try {
+            while (buffer.available() > 0) {
+                String url = in.readUTF();
+                Location location = new Location(in.readInt(), in.readLong(), in.readInt());
+                index.put(url, location);
+                activeSegment = Math.max(activeSegment, location.segment());
+                validLength = bytes.length - buffer.available();
+            }
+        } catch (EOFException | UTFDataFormatException e) {
+            log.warn("페이지 저장소 인덱스 마지막 항목이 잘려 있어 {} bytes 로 자릅니다 (원래 {} bytes)",
+                    validLength, bytes.length);
+            try (FileChannel channel = FileChannel.open(indexPath, StandardOpenOption.WRITE)) {
+                channel.truncate(validLength);
+            }
+        }
+        log.info("페이지 저장소 인덱스 로드: {} 건, 세그먼트 {} 개", index.size(), activeSegment + 1);
+    }
+
+    private static byte[] encode(FetchedPage page) throws IOException {
+        ByteArrayOutputStream compressed = new ByteArrayOutputStream(page.body().length / 4 + 64);
+        try (GZIPOutputStream gzip = new GZIPOutputStream(compressed)) {
+            gzip.write(page.body());
+        }
+
+        ByteArrayOutputStream record = new ByteArrayOutputStream(compressed.size() + 256);
+        try (DataOutputStream out = new DataOutputStream(record)) {
+            out.writeInt(RECORD_MAGIC);
+            out.writeUTF(page.url());
+            out.writeInt(page.statusCode());
+            out.writeUTF(nullToEmpty(page.charset()));
+            out.writeUTF(nullToEmpty(page.etag()));
+            out.writeUTF(nullToEmpty(page.lastModified()));
+            out.writeInt(compressed.size());
+            compressed.writeTo(out);
+        }
+        return record.toByteArray();
+    }
+
+    private static FetchedPage decode(byte[] bytes) throws IOException {
+        try (DataInputStream in = new DataInputStream(new ByteArrayInputStream(bytes))) {
+            if (in.readInt() != RECORD_MAGIC) {
+                throw new IOException("손상된 페이지 레코드");
+            }
+            String url = in.readUTF();
+            int status = in.readInt();
+            String charset = emptyToNull(in.readUTF());
+            String etag = emptyToNull(in.readUTF());
+            String lastModified = emptyToNull(in.readUTF());
+            int length = in.readInt();
+            byte[] body;
+            try (InputStream gzip = new GZIPInputStream(new ByteArrayInputStream(bytes, bytes.length - length, length))) {
+                body = gzip.readAllBytes();
+            }
+            return new FetchedPage(url, status, body, charset, etag, lastModified);
+        }
+    }
+
+    private static String nullToEmpty(String value) {
+        return value != null ? value : "";
+    }
+
+    private static String emptyToNull(String value) {
+        return value.isEmpty() ? null : value;
+    }
+
+    private record Location(int segment, long offset, int length) {
+    }
+}
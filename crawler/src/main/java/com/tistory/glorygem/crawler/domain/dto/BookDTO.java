@@ -17,6 +17,8 @@ public class BookDTO {
     private String upc;
     private String productType;
     private String availability;
+    private Integer stockCount;
+    private Integer rating;
     private Integer numberOfReviews;
     private String description;
     private String url;
@@ -0,0 +1,23 @@
+package com.tistory.glorygem.crawler.domain.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BookFilterDTO {
+    private String category;
+    private BigDecimal minPrice;
+    private BigDecimal maxPrice;
+    private Integer minRating;  // 1 ~ 5
+    private Integer maxRating;
+    private Integer minStock;   // 1 이면 재고 있음
+    private String sort;        // price, rating
+    private boolean descending;
+}
@@ -0,0 +1,24 @@
+package com.tistory.glorygem.crawler.domain.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * 가격 / 재고 이력 한 시점 (변화량은 직전 기록 대비, 직전 기록이 없으면 null)
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BookPriceHistoryDTO {
+    private LocalDateTime recordedAt;
+    private BigDecimal price;
+    private Integer stockCount;
+    private BigDecimal priceChange;
+    private Integer stockChange;
+}
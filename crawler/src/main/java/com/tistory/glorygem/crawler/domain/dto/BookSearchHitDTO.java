@@ -0,0 +1,15 @@
+package com.tistory.glorygem.crawler.domain.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BookSearchHitDTO {
+    private double score;  // BM25 점수 (높을수록 관련도 높음)
+    private BookDTO book;
+}
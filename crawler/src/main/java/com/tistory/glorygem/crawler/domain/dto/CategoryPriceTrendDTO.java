@@ -0,0 +1,26 @@
+package com.tistory.glorygem.crawler.domain.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 카테고리의 기간별 가격 / 재고 변화 집계
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class CategoryPriceTrendDTO {
+    private LocalDateTime bucket;
+    private long booksChanged;
+    private long priceChanges;
+    private long priceIncreases;
+    private long priceDecreases;
+    private Double avgChangePercent;
+    private long stockChanges;
+    private long soldOut;  // 재고가 있다가 0 이 된 횟수
+}
@@ -0,0 +1,23 @@
+package com.tistory.glorygem.crawler.domain.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class CategoryStatsDTO {
+    private String categoryName;
+    private long bookCount;
+    private BigDecimal priceMin;
+    private BigDecimal priceMax;
+    private BigDecimal priceAvg;
+    private long inStockCount;
+    private LocalDateTime updatedAt;
+}
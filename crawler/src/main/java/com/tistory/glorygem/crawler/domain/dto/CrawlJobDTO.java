@@ -0,0 +1,26 @@
+package com.tistory.glorygem.crawler.domain.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class CrawlJobDTO {
+    private String id;
+    private String type;
+    private String target;
+    private String mode;
+    private String status;
+    private LocalDateTime createdAt;
+    private LocalDateTime startedAt;
+    private LocalDateTime finishedAt;
+    private CrawlResultDTO progress;  // 카테고리/페이지/저장/오류 수, 초당 페이지 수
+    private Object result;
+    private String error;
+}
@@ -0,0 +1,25 @@
+package com.tistory.glorygem.crawler.domain.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class CrawlResultDTO {
+    private long categoriesTotal;
+    private long categoriesDone;
+    private long pagesFetched;
+    private long listingPagesFetched;
+    private long detailPagesFetched;
+    private long booksSaved;
+    private long booksUpdated;
+    private long booksFailed;
+    private long duplicates;
+    private long errors;
+    private long elapsedMillis;
+    private double pagesPerSecond;
+}
@@ -0,0 +1,24 @@
+package com.tistory.glorygem.crawler.domain.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ImportResultDTO {
+    private String format;
+    private long recordsRead;
+    private long recordsRejected;
+    private List<String> rejectedSamples;  // 처음 몇 건의 거부 사유 (줄 번호 포함)
+    private long inserted;
+    private long updated;
+    private long categoriesCreated;
+    private long copyMillis;
+    private long mergeMillis;
+}
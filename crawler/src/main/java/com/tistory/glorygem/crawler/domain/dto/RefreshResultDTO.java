@@ -0,0 +1,19 @@
+package com.tistory.glorygem.crawler.domain.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class RefreshResultDTO {
+    private long checked;       // 확인한 책 수
+    private long notModified;   // 304 응답 (본문 전송 없음)
+    private long unchanged;     // 200 이지만 본문 해시 동일 (파싱 생략)
+    private long updated;       // 내용이 바뀌어 갱신한 책 수
+    private long errors;
+    private long elapsedMillis;
+}
@@ -7,13 +7,20 @@ import lombok.NoArgsConstructor;
 import lombok.Setter;
 
 import java.math.BigDecimal;
+import java.time.LocalDateTime;
 import java.util.UUID;
 
 @Entity
 @Getter @Setter
 @AllArgsConstructor
 @NoArgsConstructor
-@Table(name = "Book")
+@Table(name = "Book", indexes = {
+        @Index(name = "uk_book_url", columnList = "url", unique = true),
+        // 조건 조회 (/api/books/query): 카테고리 / 평점 조건 + 가격 범위, 가격 정렬
+        @Index(name = "idx_book_category_price", columnList = "uuid_bookCategory, price"),
+        @Index(name = "idx_book_rating_price", columnList = "rating, price"),
+        @Index(name = "idx_book_price", columnList = "price")
+})
 public class Book {
 
     @Id
@@ -36,6 +43,12 @@ public class Book {
     @Column(name = "availability")
     private String availability;  // "In stock (19 available)"
 
+    @Column(name = "stock_count")
+    private Integer stockCount;  // 19 (품절이면 0, 목록 페이지처럼 수량이 없으면 null)
+
+    @Column(name = "rating")
+    private Integer rating;  // 별점 1 ~ 5
+
     @Column(name = "number_of_reviews")
     private Integer numberOfReviews;  // 0
 
@@ -45,6 +58,18 @@ public class Book {
     @Column(name = "url", length = 500)
     private String url;  // "https://books.toscrape.com/catalogue/its-only-the-himalayas_981/index.html"
 
+    @Column(name = "etag")
+    private String etag;  // 마지막 응답의 ETag
+
+    @Column(name = "last_modified")
+    private String lastModified;  // 마지막 응답의 Last-Modified
+
+    @Column(name = "content_hash", length = 64)
+    private String contentHash;  // 상세 페이지 본문 SHA-256
+
+    @Column(name = "last_crawled_at")
+    private LocalDateTime lastCrawledAt;
+
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "uuid_bookCategory")
     private BookCategory bookCategory;
@@ -12,7 +12,9 @@ import java.util.UUID;
 @Getter @Setter
 @AllArgsConstructor
 @NoArgsConstructor
-@Table(name = "BookCategory")
+@Table(name = "BookCategory", indexes = {
+        @Index(name = "uk_book_category_name", columnList = "category_name", unique = true)
+})
 public class BookCategory {
 
     // Getters/Setters
@@ -23,4 +25,7 @@ public class BookCategory {
 
     @Column(name = "category_name", nullable = false)
     private String categoryName;
+
+    @Column(name = "url_path", length = 500)
+    private String urlPath;  // "catalogue/category/books/travel_2/index.html" (사이트 기준 상대 경로)
 }
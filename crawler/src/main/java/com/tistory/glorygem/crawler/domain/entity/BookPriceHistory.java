@@ -0,0 +1,49 @@
+package com.tistory.glorygem.crawler.domain.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.io.Serializable;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * 책 가격 / 재고 이력 (가격이나 재고 수량이 바뀐 시점만 한 행씩 추가)
+ * 기본 키 (uuid_book, recorded_at) 인덱스로 책 한 권의 기간 조회가 범위 스캔이 됩니다
+ * 읽기/쓰기는 BookPriceHistoryRepository 의 JDBC 쿼리로만 합니다
+ */
+@Entity
+@Getter @Setter
+@AllArgsConstructor
+@NoArgsConstructor
+@IdClass(BookPriceHistory.Key.class)
+@Table(name = "BookPriceHistory")
+public class BookPriceHistory {
+
+    @Id
+    @Column(name = "uuid_book", columnDefinition = "UUID")
+    private UUID uuidBook;
+
+    @Id
+    @Column(name = "recorded_at")
+    private LocalDateTime recordedAt;
+
+    @Column(name = "price_cents")
+    private Integer priceCents;  // £45.17 → 4517
+
+    @Column(name = "stock_count")
+    private Integer stockCount;
+
+    @Getter @Setter
+    @EqualsAndHashCode
+    @AllArgsConstructor
+    @NoArgsConstructor
+    public static class Key implements Serializable {
+        private UUID uuidBook;
+        private LocalDateTime recordedAt;
+    }
+}
@@ -0,0 +1,47 @@
+package com.tistory.glorygem.crawler.domain.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+@Entity
+@Getter @Setter
+@AllArgsConstructor
+@NoArgsConstructor
+@Table(name = "CategoryStats")
+public class CategoryStats {
+
+    @Id
+    @Column(name = "uuid_bookCategory", columnDefinition = "UUID")
+    private UUID uuidBookCategory;
+
+    @Column(name = "category_name", nullable = false)
+    private String categoryName;
+
+    @Column(name = "book_count", nullable = false)
+    private long bookCount;
+
+    @Column(name = "price_min", precision = 10, scale = 2)
+    private BigDecimal priceMin;
+
+    @Column(name = "price_max", precision = 10, scale = 2)
+    private BigDecimal priceMax;
+
+    @Column(name = "price_sum", precision = 14, scale = 2)
+    private BigDecimal priceSum;  // 평균 = price_sum / priced_count
+
+    @Column(name = "priced_count", nullable = false)
+    private long pricedCount;  // 가격이 있는 책 수
+
+    @Column(name = "in_stock_count", nullable = false)
+    private long inStockCount;
+
+    @Column(name = "updated_at")
+    private LocalDateTime updatedAt;
+}
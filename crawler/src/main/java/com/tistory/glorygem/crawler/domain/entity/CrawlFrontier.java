@@ -0,0 +1,68 @@
+package com.tistory.glorygem.crawler.domain.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * 크롤링할 페이지 대기열 (재시작 시 이어서 크롤링하기 위한 체크포인트)
+ * 읽기/쓰기는 CrawlFrontierRepository 의 JDBC 쿼리로만 합니다
+ */
+@Entity
+@Getter @Setter
+@AllArgsConstructor
+@NoArgsConstructor
+@Table(name = "CrawlFrontier", indexes = {
+        @Index(name = "uk_crawl_frontier_url", columnList = "url", unique = true),
+        @Index(name = "idx_crawl_frontier_state", columnList = "state")
+})
+public class CrawlFrontier {
+
+    @Id
+    @Column(name = "uuid_frontier", columnDefinition = "UUID")
+    private UUID uuidFrontier;
+
+    @Column(name = "url", nullable = false)
+    private String url;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "page_type", nullable = false, length = 16)
+    private PageType pageType;
+
+    @Column(name = "uuid_bookCategory", columnDefinition = "UUID")
+    private UUID uuidBookCategory;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "state", nullable = false, length = 16)
+    private State state;
+
+    @Column(name = "attempts", nullable = false)
+    private int attempts;
+
+    @Column(name = "last_error", length = 500)
+    private String lastError;
+
+    @Column(name = "updated_at")
+    private LocalDateTime updatedAt;
+
+    public enum PageType {
+        /** 카테고리 목록 페이지 */
+        LISTING,
+        /** 책 상세 페이지 */
+        DETAIL
+    }
+
+    public enum State {
+        PENDING,
+        /** 작업자가 가져가 처리 중 (비정상 종료 시 다음 실행에서 PENDING 으로 되돌림) */
+        CLAIMED,
+        DONE,
+        /** 최대 재시도 횟수 초과 */
+        FAILED
+    }
+}
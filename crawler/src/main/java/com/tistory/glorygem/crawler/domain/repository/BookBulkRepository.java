@@ -0,0 +1,225 @@
+package com.tistory.glorygem.crawler.domain.repository;
+
+import com.tistory.glorygem.crawler.domain.entity.Book;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.PreparedStatement;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * 여러 권의 책을 한 번의 INSERT ... ON CONFLICT 로 저장하는 JDBC 저장소
+ */
+@Repository
+@RequiredArgsConstructor
+public class BookBulkRepository {
+
+    private static final String INSERT_PREFIX = """
+            INSERT INTO book (uuid_book, title, price, upc, product_type, availability, stock_count, rating,
+                              number_of_reviews, description, url, uuid_book_category,
+                              etag, last_modified, content_hash, last_crawled_at)
+            VALUES\s""";
+
+    private static final String VALUES_ROW = "(?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
+    // 목록 페이지는 수량 없이 "In stock" 만 주므로, 재고가 있던 책이면 상세 페이지의 availability 와 수량을 함께 유지
+    // (품절이었던 책이 다시 들어오면 수량을 모르는 상태로 비움)
+    private static final String ON_CONFLICT = """
+             ON CONFLICT (url) DO UPDATE SET
+                title = EXCLUDED.title,
+                price = EXCLUDED.price,
+                upc = COALESCE(EXCLUDED.upc, book.upc),
+                product_type = COALESCE(EXCLUDED.product_type, book.product_type),
+                availability = CASE WHEN EXCLUDED.stock_count IS NULL AND book.stock_count > 0
+                    THEN book.availability ELSE EXCLUDED.availability END,
+                stock_count = CASE WHEN EXCLUDED.stock_count IS NULL AND book.stock_count > 0
+                    THEN book.stock_count ELSE EXCLUDED.stock_count END,
+                rating = COALESCE(EXCLUDED.rating, book.rating),
+                number_of_reviews = COALESCE(EXCLUDED.number_of_reviews, book.number_of_reviews),
+                description = COALESCE(EXCLUDED.description, book.description),
+                uuid_book_category = EXCLUDED.uuid_book_category,
+                etag = COALESCE(EXCLUDED.etag, book.etag),
+                last_modified = COALESCE(EXCLUDED.last_modified, book.last_modified),
+                content_hash = COALESCE(EXCLUDED.content_hash, book.content_hash),
+                last_crawled_at = EXCLUDED.last_crawled_at
+            RETURNING uuid_book, url, uuid_book_category, (xmax = 0) AS inserted""";
+
+    // 본 문장은 upsert 전 스냅샷을 보므로 갱신된 책의 이전 카테고리를 함께 읽을 수 있음 (uk_book_url)
+    private static final String WITH_PREVIOUS_CATEGORY = """
+            WITH upserted AS (%s)
+            SELECT u.uuid_book, u.url, u.uuid_book_category, u.inserted,
+                   previous.uuid_book_category AS previous_category
+            FROM upserted u
+            LEFT JOIN book previous ON previous.url = u.url AND NOT u.inserted""";
+
+    private static final int COLUMNS = 16;
+
+    // PostgreSQL 문장 하나의 바인드 파라미터 한도 (32767) 안에 들어가는 행 수, chunk 가 더 크면 나눠서 실행
+    static final int MAX_ROWS_PER_STATEMENT = Short.MAX_VALUE / COLUMNS;
+
+    // availability 문자열만 있고 stock_count 가 비어 있는 기존 행 채우기
+    private static final String BACKFILL_STOCK_COUNT = """
+            UPDATE book SET stock_count = CASE
+                    WHEN availability LIKE 'Out of stock%' THEN 0
+                    ELSE substring(availability from '\\((\\d+) available\\)')::int END
+            WHERE stock_count IS NULL
+              AND (availability LIKE 'Out of stock%' OR availability LIKE 'In stock (% available)%')""";
+
+    // 재크롤링에서 본문이 그대로인 책 (304 / 해시 동일) 의 검증 헤더와 확인 시각만 갱신
+    private static final String UPDATE_VALIDATORS = """
+            UPDATE book b SET
+                etag = COALESCE(v.etag, b.etag),
+                last_modified = COALESCE(v.last_modified, b.last_modified),
+                last_crawled_at = ?
+            FROM unnest(?::uuid[], ?::text[], ?::text[]) AS v(uuid_book, etag, last_modified)
+            WHERE b.uuid_book = v.uuid_book""";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * url 기준으로 책을 일괄 upsert 합니다 (MAX_ROWS_PER_STATEMENT 행씩 같은 트랜잭션에서 실행)
+     * 저장된 Book 에는 DB 의 uuid 가 채워집니다
+     */
+    public UpsertResult upsert(Collection<Book> books) {
+        // 같은 문장 안에서 같은 url 이 두 번 나오면 ON CONFLICT 가 실패하므로 마지막 값만 사용
+        Map<String, Book> byUrl = new LinkedHashMap<>();
+        for (Book book : books) {
+            if (book.getUrl() != null) {
+                byUrl.put(book.getUrl(), book);
+            }
+        }
+        if (byUrl.isEmpty()) {
+            return UpsertResult.EMPTY;
+        }
+
+        List<Book> rows = new ArrayList<>(byUrl.values());
+        List<Book> inserted = new ArrayList<>();
+        List<Book> updated = new ArrayList<>();
+        Set<UUID> vacatedCategories = new HashSet<>();
+        for (int from = 0; from < rows.size(); from += MAX_ROWS_PER_STATEMENT) {
+            upsertRows(rows.subList(from, Math.min(rows.size(), from + MAX_ROWS_PER_STATEMENT)), byUrl,
+                    inserted, updated, vacatedCategories);
+        }
+        return new UpsertResult(inserted, updated, 0, vacatedCategories);
+    }
+
+    /**
+     * 다중 행 INSERT 문장 하나로 rows 를 upsert 합니다 (rows 는 MAX_ROWS_PER_STATEMENT 이하)
+     */
+    private void upsertRows(List<Book> rows, Map<String, Book> byUrl, List<Book> inserted, List<Book> updated,
+                            Set<UUID> vacatedCategories) {
+        StringBuilder sql = new StringBuilder(INSERT_PREFIX);
+        Object[] args = new Object[rows.size() * COLUMNS];
+        int i = 0;
+        for (Book book : rows) {
+            if (i > 0) {
+                sql.append(", ");
+            }
+            sql.append(VALUES_ROW);
+            args[i++] = book.getUuidBook() != null ? book.getUuidBook() : UUID.randomUUID();
+            args[i++] = book.getTitle();
+            args[i++] = book.getPrice();
+            args[i++] = book.getUpc();
+            args[i++] = book.getProductType();
+            args[i++] = book.getAvailability();
+            args[i++] = book.getStockCount();
+            args[i++] = book.getRating();
+            args[i++] = book.getNumberOfReviews();
+            args[i++] = book.getDescription();
+            args[i++] = book.getUrl();
+            args[i++] = book.getBookCategory() != null ? book.getBookCategory().getUuidBookCategory() : null;
+            args[i++] = book.getEtag();
+            args[i++] = book.getLastModified();
+            args[i++] = book.getContentHash();
+            args[i++] = book.getLastCrawledAt();
+        }
+        sql.append(ON_CONFLICT);
+
+        jdbcTemplate.query(WITH_PREVIOUS_CATEGORY.formatted(sql), rs -> {
+            Book book = byUrl.get(rs.getString("url"));
+            book.setUuidBook(rs.getObject("uuid_book", UUID.class));
+            if (rs.getBoolean("inserted")) {
+                inserted.add(book);
+                return;
+            }
+            updated.add(book);
+            UUID previousCategory = rs.getObject("previous_category", UUID.class);
+            if (previousCategory != null
+                    && !previousCategory.equals(rs.getObject("uuid_book_category", UUID.class))) {
+                vacatedCategories.add(previousCategory);
+            }
+        }, args);
+    }
+
+    /**
+     * 책들의 ETag / Last-Modified (응답에 없으면 기존 값 유지) 와 확인 시각을 한 문장으로 갱신합니다
+     *
+     * @return 갱신한 행 수
+     */
+    public int updateValidators(Collection<Book> books, LocalDateTime crawledAt) {
+        if (books.isEmpty()) {
+            return 0;
+        }
+        UUID[] uuids = new UUID[books.size()];
+        String[] etags = new String[books.size()];
+        String[] lastModified = new String[books.size()];
+        int i = 0;
+        for (Book book : books) {
+            uuids[i] = book.getUuidBook();
+            etags[i] = book.getEtag();
+            lastModified[i] = book.getLastModified();
+            i++;
+        }
+        return jdbcTemplate.update(connection -> {
+            PreparedStatement ps = connection.prepareStatement(UPDATE_VALIDATORS);
+            ps.setTimestamp(1, Timestamp.valueOf(crawledAt));
+            ps.setArray(2, connection.createArrayOf("uuid", uuids));
+            ps.setArray(3, connection.createArrayOf("text", etags));
+            ps.setArray(4, connection.createArrayOf("text", lastModified));
+            return ps;
+        });
+    }
+
+    /**
+     * 재고 수량 컬럼 추가 전에 저장된 책의 stock_count 를 availability 문자열에서 채웁니다
+     * 이미 채워진 행은 건드리지 않으므로 여러 번 실행해도 됩니다
+     */
+    public int backfillStockCounts() {
+        return jdbcTemplate.update(BACKFILL_STOCK_COUNT);
+    }
+
+    /**
+     * upsert 결과 (새로 저장된 책 / 갱신된 책 / 롤백되어 저장하지 못한 책 수 / 갱신으로 책이 빠져나간 이전 카테고리)
+     */
+    public record UpsertResult(List<Book> inserted, List<Book> updated, int failedCount,
+                               Set<UUID> vacatedCategories) {
+
+        public static final UpsertResult EMPTY = new UpsertResult(List.of(), List.of());
+
+        public UpsertResult(List<Book> inserted, List<Book> updated) {
+            this(inserted, updated, 0, Set.of());
+        }
+
+        public static UpsertResult failed(int count) {
+            return new UpsertResult(List.of(), List.of(), count, Set.of());
+        }
+
+        public int insertedCount() {
+            return inserted.size();
+        }
+
+        public int updatedCount() {
+            return updated.size();
+        }
+    }
+}
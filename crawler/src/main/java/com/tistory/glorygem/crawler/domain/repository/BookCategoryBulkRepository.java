@@ -0,0 +1,71 @@
+package com.tistory.glorygem.crawler.domain.repository;
+
+import com.tistory.glorygem.crawler.domain.entity.BookCategory;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * 여러 카테고리를 한 번의 INSERT ... ON CONFLICT 로 저장하는 JDBC 저장소
+ */
+@Repository
+@RequiredArgsConstructor
+public class BookCategoryBulkRepository {
+
+    private static final String INSERT_PREFIX = """
+            INSERT INTO book_category (uuid_book_category, category_name, url_path)
+            VALUES\s""";
+
+    private static final String VALUES_ROW = "(?, ?, ?)";
+
+    private static final String ON_CONFLICT = """
+             ON CONFLICT (category_name) DO UPDATE SET
+                url_path = EXCLUDED.url_path
+            RETURNING uuid_book_category, category_name""";
+
+    private static final int COLUMNS = 3;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * category_name 기준으로 카테고리를 일괄 upsert 하고 DB 의 uuid 가 채워진 카테고리를 반환합니다
+     */
+    public List<BookCategory> upsert(Collection<BookCategory> categories) {
+        Map<String, BookCategory> byName = new LinkedHashMap<>();
+        for (BookCategory category : categories) {
+            byName.put(category.getCategoryName(), category);
+        }
+        if (byName.isEmpty()) {
+            return List.of();
+        }
+
+        StringBuilder sql = new StringBuilder(INSERT_PREFIX);
+        Object[] args = new Object[byName.size() * COLUMNS];
+        int i = 0;
+        for (BookCategory category : byName.values()) {
+            if (i > 0) {
+                sql.append(", ");
+            }
+            sql.append(VALUES_ROW);
+            args[i++] = category.getUuidBookCategory() != null ? category.getUuidBookCategory() : UUID.randomUUID();
+            args[i++] = category.getCategoryName();
+            args[i++] = category.getUrlPath();
+        }
+        sql.append(ON_CONFLICT);
+
+        List<BookCategory> saved = new ArrayList<>(byName.size());
+        jdbcTemplate.query(sql.toString(), rs -> {
+            BookCategory category = byName.get(rs.getString("category_name"));
+            category.setUuidBookCategory(rs.getObject("uuid_book_category", UUID.class));
+            saved.add(category);
+        }, args);
+        return saved;
+    }
+}
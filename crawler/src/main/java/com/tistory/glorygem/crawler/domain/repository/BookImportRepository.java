@@ -0,0 +1,221 @@
+package com.tistory.glorygem.crawler.domain.repository;
+
+import com.tistory.glorygem.crawler.ingest.ImportedBook;
+import lombok.RequiredArgsConstructor;
+import org.postgresql.PGConnection;
+import org.postgresql.copy.CopyIn;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceUtils;
+import org.springframework.stereotype.Repository;
+
+import javax.sql.DataSource;
+import java.io.ByteArrayOutputStream;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.SQLException;
+
+/**
+ * 외부 크롤링 결과를 COPY 로 임시 테이블에 넣은 뒤 SQL 한 번으로 Book 에 병합하는 JDBC 저장소
+ * 호출하는 쪽의 트랜잭션 안에서 사용해야 합니다 (임시 테이블은 커밋 시 삭제)
+ */
+@Repository
+@RequiredArgsConstructor
+public class BookImportRepository {
+
+    private static final String CREATE_STAGING = """
+            CREATE TEMP TABLE book_import_staging (
+                seq               bigint,
+                title             text,
+                price             numeric(10, 2),
+                upc               text,
+                product_type      text,
+                availability      text,
+                stock_count       integer,
+                rating            integer,
+                number_of_reviews integer,
+                description       text,
+                url               text,
+                category_name     text
+            ) ON COMMIT DROP""";
+
+    private static final String COPY_STAGING = """
+            COPY book_import_staging (seq, title, price, upc, product_type, availability, stock_count, rating,
+                                      number_of_reviews, description, url, category_name)
+            FROM STDIN WITH (FORMAT csv)""";
+
+    // 새 카테고리를 먼저 만들고, 같은 url 은 파일에서 마지막 레코드만 사용
+    // (CTE 안에서 만든 카테고리는 같은 문장의 book_category 조회에 보이지 않으므로 created 도 함께 join)
+    private static final String MERGE = """
+            WITH created AS (
+                INSERT INTO book_category (uuid_book_category, category_name)
+                SELECT gen_random_uuid(), names.category_name
+                FROM (SELECT DISTINCT category_name FROM book_import_staging WHERE category_name IS NOT NULL) names
+                ON CONFLICT (category_name) DO NOTHING
+                RETURNING uuid_book_category, category_name
+            ), merged AS (
+                INSERT INTO book (uuid_book, title, price, upc, product_type, availability, stock_count, rating,
+                                  number_of_reviews, description, url, uuid_book_category, last_crawled_at)
+                SELECT DISTINCT ON (s.url)
+                       gen_random_uuid(), s.title, s.price, s.upc, s.product_type, s.availability, s.stock_count,
+                       s.rating, s.number_of_reviews, s.description, s.url,
+                       COALESCE(c.uuid_book_category, n.uuid_book_category), now()
+                FROM book_import_staging s
+                LEFT JOIN book_category c ON c.category_name = s.category_name
+                LEFT JOIN created n ON n.category_name = s.category_name
+                ORDER BY s.url, s.seq DESC
+                ON CONFLICT (url) DO UPDATE SET
+                    title = EXCLUDED.title,
+                    price = COALESCE(EXCLUDED.price, book.price),
+                    upc = COALESCE(EXCLUDED.upc, book.upc),
+                    product_type = COALESCE(EXCLUDED.product_type, book.product_type),
+                    availability = COALESCE(EXCLUDED.availability, book.availability),
+                    stock_count = COALESCE(EXCLUDED.stock_count, book.stock_count),
+                    rating = COALESCE(EXCLUDED.rating, book.rating),
+                    number_of_reviews = COALESCE(EXCLUDED.number_of_reviews, book.number_of_reviews),
+                    description = COALESCE(EXCLUDED.description, book.description),
+                    uuid_book_category = COALESCE(EXCLUDED.uuid_book_category, book.uuid_book_category),
+                    last_crawled_at = EXCLUDED.last_crawled_at
+                RETURNING (xmax = 0) AS inserted
+            )
+            SELECT (SELECT count(*) FROM created) AS categories_created,
+                   count(*) FILTER (WHERE inserted) AS inserted,
+                   count(*) FILTER (WHERE NOT inserted) AS updated
+            FROM merged""";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final DataSource dataSource;
+
+    /**
+     * 임시 테이블을 만들고 COPY 를 시작합니다 (StagingWriter.close 로 끝냄)
+     */
+    public StagingWriter openStaging() throws SQLException {
+        jdbcTemplate.execute(CREATE_STAGING);
+        Connection connection = DataSourceUtils.getConnection(dataSource);
+        CopyIn copyIn = connection.unwrap(PGConnection.class).getCopyAPI().copyIn(COPY_STAGING);
+        return new StagingWriter(copyIn);
+    }
+
+    /**
+     * 임시 테이블의 책을 Book 에 병합합니다 (없는 카테고리는 만들어 연결)
+     */
+    public MergeResult merge() {
+        jdbcTemplate.execute("ANALYZE book_import_staging");  // 임시 테이블은 autovacuum 이 통계를 만들지 않음
+        return jdbcTemplate.queryForObject(MERGE, (rs, rowNum) -> new MergeResult(
+                rs.getLong("inserted"), rs.getLong("updated"), rs.getLong("categories_created")));
+    }
+
+    /**
+     * 병합 결과 (새 책 / 갱신된 책 / 새로 만든 카테고리 수)
+     */
+    public record MergeResult(long inserted, long updated, long categoriesCreated) {
+    }
+
+    /**
+     * 레코드를 COPY CSV 로 인코딩해 모아 두었다가 BUFFER_SIZE 마다 서버로 보냅니다
+     */
+    public static final class StagingWriter implements AutoCloseable {
+
+        private static final int BUFFER_SIZE = 256 * 1024;
+
+        private final CopyIn copyIn;
+        private final ByteArrayOutputStream buffer = new ByteArrayOutputStream(BUFFER_SIZE + 4096);
+        private final StringBuilder line = new StringBuilder(512);
+        private long seq;
+        private boolean finished;
+
+        private StagingWriter(CopyIn copyIn) {
+            this.copyIn = copyIn;
+        }
+
+        public void write(ImportedBook book) throws SQLException {
+            line.setLength(0);
+            line.append(seq++).append(',');
+            text(book.title());
+            line.append(',');
+            decimal(book.price());
+            line.append(',');
+            text(book.upc());
+            line.append(',');
+            text(book.productType());
+            line.append(',');
+            text(book.availability());
+            line.append(',');
+            number(book.stockCount());
+            line.append(',');
+            number(book.rating());
+            line.append(',');
+            number(book.numberOfReviews());
+            line.append(',');
+            text(book.description());
+            line.append(',');
+            text(book.url());
+            line.append(',');
+            text(book.categoryName());
+            line.append('\n');
+
+            buffer.writeBytes(line.toString().getBytes(StandardCharsets.UTF_8));
+            if (buffer.size() >= BUFFER_SIZE) {
+                flush();
+            }
+        }
+
+        public long getRowCount() {
+            return seq;
+        }
+
+        /**
+         * 남은 레코드를 보내고 COPY 를 끝냅니다 (이미 끝났으면 아무것도 하지 않음)
+         */
+        @Override
+        public void close() throws SQLException {
+            if (finished) {
+                return;
+            }
+            finished = true;
+            try {
+                flush();
+                copyIn.endCopy();
+            } finally {
+                if (copyIn.isActive()) {
+                    copyIn.cancelCopy();
+                }
+            }
+        }
+
+        private void flush() throws SQLException {
+            if (buffer.size() > 0) {
+                copyIn.writeToCopy(buffer.toByteArray(), 0, buffer.size());
+                buffer.reset();
+            }
+        }
+
+        // CSV 에서 따옴표 없는 빈 값은 NULL, 문자열은 항상 따옴표로 감싸 빈 문자열과 구분
+        private void text(String value) {
+            if (value == null) {
+                return;
+            }
+            line.append('"');
+            for (int i = 0; i < value.length(); i++) {
+                char c = value.charAt(i);
+                if (c == '"') {
+                    line.append('"');
+                }
+                line.append(c);
+            }
+            line.append('"');
+        }
+
+        private void decimal(BigDecimal value) {
+            if (value != null) {
+                line.append(value.toPlainString());
+            }
+        }
+
+        private void number(Integer value) {
+            if (value != null) {
+                line.append(value);
+            }
+        }
+    }
+}
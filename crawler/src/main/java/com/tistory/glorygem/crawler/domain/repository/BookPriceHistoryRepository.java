@@ -0,0 +1,171 @@
+package com.tistory.glorygem.crawler.domain.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * 책 가격 / 재고 이력 JDBC 저장소
+ *
+ * 저장된 책의 현재 값을 책마다 마지막 이력 행과 비교해 가격(센트)이나 재고 수량이 달라진 책만 한 문장으로 추가합니다
+ * 마지막 이력 행은 기본 키 (uuid_book, recorded_at) 를 거꾸로 한 행만 읽으므로 이력이 길어져도 비용이 같고,
+ * 비교 기준이 DB 에 있어 재시작 후에도 바뀌지 않은 값은 다시 쓰지 않습니다
+ */
+@Repository
+@RequiredArgsConstructor
+public class BookPriceHistoryRepository {
+
+    private static final String RECORD_CHANGES = """
+            INSERT INTO book_price_history (uuid_book, recorded_at, price_cents, stock_count)
+            SELECT b.uuid_book, clock_timestamp(), (b.price * 100)::int, b.stock_count
+            FROM book b
+            LEFT JOIN LATERAL (
+                SELECT h.price_cents, h.stock_count FROM book_price_history h
+                WHERE h.uuid_book = b.uuid_book
+                ORDER BY h.recorded_at DESC
+                LIMIT 1) last ON true
+            WHERE %s
+              AND (b.price IS NOT NULL OR b.stock_count IS NOT NULL)
+              AND (last.price_cents IS DISTINCT FROM (b.price * 100)::int
+                   OR last.stock_count IS DISTINCT FROM b.stock_count)
+            ON CONFLICT DO NOTHING""";
+
+    // 이력이 한 행도 없는 책만 현재 값을 기준으로 추가 (기본 키로 존재 여부만 확인)
+    private static final String RECORD_MISSING = """
+            INSERT INTO book_price_history (uuid_book, recorded_at, price_cents, stock_count)
+            SELECT b.uuid_book, clock_timestamp(), (b.price * 100)::int, b.stock_count
+            FROM book b
+            WHERE (b.price IS NOT NULL OR b.stock_count IS NOT NULL)
+              AND NOT EXISTS (SELECT 1 FROM book_price_history h WHERE h.uuid_book = b.uuid_book)
+            ON CONFLICT DO NOTHING""";
+
+    // from 직전 한 행을 함께 읽어 첫 행의 변화량도 계산
+    private static final String HISTORY = """
+            SELECT recorded_at, price_cents, stock_count FROM (
+                (SELECT recorded_at, price_cents, stock_count FROM book_price_history
+                 WHERE uuid_book = ? AND recorded_at < ?
+                 ORDER BY recorded_at DESC
+                 LIMIT 1)
+                UNION ALL
+                (SELECT recorded_at, price_cents, stock_count FROM book_price_history
+                 WHERE uuid_book = ? AND recorded_at >= ?
+                 ORDER BY recorded_at
+                 LIMIT ?)) h
+            ORDER BY recorded_at""";
+
+    // 카테고리의 책마다 from 이후 이력과 그 직전 한 행만 기본 키 범위로 읽어 직전 행과 비교한 뒤 기간별로 집계
+    // (책의 이력 전체에 lag 를 계산하지 않음)
+    private static final String CATEGORY_TREND = """
+            SELECT date_trunc(?, h.recorded_at) AS bucket,
+                   count(DISTINCT b.uuid_book) FILTER (WHERE h.prev_price_cents <> h.price_cents
+                                                         OR h.prev_stock_count <> h.stock_count) AS books_changed,
+                   count(*) FILTER (WHERE h.prev_price_cents <> h.price_cents) AS price_changes,
+                   count(*) FILTER (WHERE h.price_cents > h.prev_price_cents) AS price_increases,
+                   count(*) FILTER (WHERE h.price_cents < h.prev_price_cents) AS price_decreases,
+                   avg(100.0 * (h.price_cents - h.prev_price_cents) / h.prev_price_cents)
+                       FILTER (WHERE h.prev_price_cents <> h.price_cents AND h.prev_price_cents > 0) AS avg_change_percent,
+                   count(*) FILTER (WHERE h.prev_stock_count <> h.stock_count) AS stock_changes,
+                   count(*) FILTER (WHERE h.stock_count = 0 AND h.prev_stock_count > 0) AS sold_out
+            FROM book b
+            CROSS JOIN LATERAL (
+                SELECT hh.recorded_at, hh.price_cents, hh.stock_count,
+                       lag(hh.price_cents) OVER w AS prev_price_cents,
+                       lag(hh.stock_count) OVER w AS prev_stock_count
+                FROM ((SELECT recorded_at, price_cents, stock_count FROM book_price_history
+                       WHERE uuid_book = b.uuid_book AND recorded_at < ?
+                       ORDER BY recorded_at DESC
+                       LIMIT 1)
+                      UNION ALL
+                      (SELECT recorded_at, price_cents, stock_count FROM book_price_history
+                       WHERE uuid_book = b.uuid_book AND recorded_at >= ?)) hh
+                WINDOW w AS (ORDER BY hh.recorded_at)) h
+            WHERE b.uuid_book_category = ? AND h.recorded_at >= ?
+            GROUP BY 1
+            ORDER BY 1""";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 주어진 책 중 가격이나 재고 수량이 마지막 이력과 다른 책의 현재 값을 추가합니다
+     *
+     * @return 추가한 행 수
+     */
+    public int recordChanges(Collection<UUID> uuidBooks) {
+        if (uuidBooks.isEmpty()) {
+            return 0;
+        }
+        return jdbcTemplate.update(connection -> {
+            PreparedStatement ps = connection.prepareStatement(RECORD_CHANGES.formatted("b.uuid_book = ANY (?)"));
+            ps.setArray(1, connection.createArrayOf("uuid", uuidBooks.toArray()));
+            return ps;
+        });
+    }
+
+    /**
+     * 모든 책을 비교합니다 (일괄 가져오기 후)
+     */
+    public int recordAll() {
+        return jdbcTemplate.update(RECORD_CHANGES.formatted("TRUE"));
+    }
+
+    /**
+     * 이력이 없는 책 (기능 도입 전에 저장된 책) 의 현재 값을 기준 이력으로 추가합니다
+     */
+    public int recordMissing() {
+        return jdbcTemplate.update(RECORD_MISSING);
+    }
+
+    /**
+     * 책 한 권의 from 이후 이력 (최대 limit 행, 시간순) 과 그 직전 한 행
+     */
+    public List<PricePoint> findHistory(UUID uuidBook, LocalDateTime from, int limit) {
+        return jdbcTemplate.query(HISTORY, (rs, rowNum) -> new PricePoint(
+                        rs.getTimestamp("recorded_at").toLocalDateTime(),
+                        integer(rs, "price_cents"),
+                        integer(rs, "stock_count")),
+                uuidBook, Timestamp.valueOf(from), uuidBook, Timestamp.valueOf(from), limit);
+    }
+
+    /**
+     * 카테고리의 from 이후 가격 / 재고 변화를 unit (day / week / month) 단위로 집계합니다
+     */
+    public List<TrendBucket> findCategoryTrend(UUID uuidBookCategory, LocalDateTime from, String unit) {
+        return jdbcTemplate.query(CATEGORY_TREND, (rs, rowNum) -> new TrendBucket(
+                        rs.getTimestamp("bucket").toLocalDateTime(),
+                        rs.getLong("books_changed"),
+                        rs.getLong("price_changes"),
+                        rs.getLong("price_increases"),
+                        rs.getLong("price_decreases"),
+                        rs.getObject("avg_change_percent") != null ? rs.getDouble("avg_change_percent") : null,
+                        rs.getLong("stock_changes"),
+                        rs.getLong("sold_out")),
+                unit, Timestamp.valueOf(from), Timestamp.valueOf(from), uuidBookCategory, Timestamp.valueOf(from));
+    }
+
+    private static Integer integer(ResultSet rs, String column) throws SQLException {
+        int value = rs.getInt(column);
+        return rs.wasNull() ? null : value;
+    }
+
+    /**
+     * 이력 한 행 (가격은 센트)
+     */
+    public record PricePoint(LocalDateTime recordedAt, Integer priceCents, Integer stockCount) {
+    }
+
+    /**
+     * 기간 하나의 집계 (avgChangePercent 는 가격이 바뀐 책이 없으면 null)
+     */
+    public record TrendBucket(LocalDateTime bucket, long booksChanged, long priceChanges, long priceIncreases,
+                              long priceDecreases, Double avgChangePercent, long stockChanges, long soldOut) {
+    }
+}
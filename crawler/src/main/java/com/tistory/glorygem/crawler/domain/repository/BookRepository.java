@@ -1,22 +1,121 @@
 package com.tistory.glorygem.crawler.domain.repository;
 
 import com.tistory.glorygem.crawler.domain.entity.Book;
-import com.tistory.glorygem.crawler.domain.entity.BookCategory;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.stream.Stream;
 
 @Repository
-public interface BookRepository extends JpaRepository<Book, UUID> {
+public interface BookRepository extends JpaRepository<Book, UUID>, JpaSpecificationExecutor<Book> {
 
-    Optional<Book> findByUrl(String url);
+    @Query("select b.url from Book b")
+    Stream<String> streamAllUrls();
 
-    List<Book> findByBookCategory(BookCategory bookCategory);
+    String ROW_SELECT = """
+            select new com.tistory.glorygem.crawler.domain.repository.BookRow(
+                   b.uuidBook, b.title, b.price, b.upc, b.productType, b.availability,
+                   b.stockCount, b.rating, b.numberOfReviews, b.description, b.url, c.categoryName)
+            from Book b left join b.bookCategory c
+            """;
 
-    List<Book> findByBookCategory_CategoryName(String categoryName);
+    String ROW_SELECT_WITHOUT_DESCRIPTION = """
+            select new com.tistory.glorygem.crawler.domain.repository.BookRow(
+                   b.uuidBook, b.title, b.price, b.upc, b.productType, b.availability,
+                   b.stockCount, b.rating, b.numberOfReviews, b.url, c.categoryName)
+            from Book b left join b.bookCategory c
+            """;
 
-    boolean existsByUrl(String url);
-}
\ No newline at end of file
+    String AFTER_CURSOR = " where b.uuidBook > :cursor order by b.uuidBook";
+
+    String IN_CATEGORY_AFTER_CURSOR = " where c.categoryName = :categoryName and b.uuidBook > :cursor order by b.uuidBook";
+
+    // keyset 페이지네이션 (uuid 순서, cursor 이후 limit 건), 카테고리를 join 한 SQL 1번으로 조회
+    @Query(ROW_SELECT + AFTER_CURSOR)
+    List<BookRow> findRowsAfter(@Param("cursor") UUID cursor, Limit limit);
+
+    @Query(ROW_SELECT_WITHOUT_DESCRIPTION + AFTER_CURSOR)
+    List<BookRow> findRowsWithoutDescriptionAfter(@Param("cursor") UUID cursor, Limit limit);
+
+    @Query(ROW_SELECT + IN_CATEGORY_AFTER_CURSOR)
+    List<BookRow> findRowsByCategoryAfter(@Param("categoryName") String categoryName,
+                                          @Param("cursor") UUID cursor, Limit limit);
+
+    @Query(ROW_SELECT_WITHOUT_DESCRIPTION + IN_CATEGORY_AFTER_CURSOR)
+    List<BookRow> findRowsByCategoryWithoutDescriptionAfter(@Param("categoryName") String categoryName,
+                                                            @Param("cursor") UUID cursor, Limit limit);
+
+    @Query(ROW_SELECT + " where b.uuidBook in :ids")
+    List<BookRow> findRowsByIds(@Param("ids") Collection<UUID> ids);
+
+    /**
+     * 조건 조회 (BookSpecifications), 카테고리를 같은 SQL 에서 join 하여 책마다 따로 조회하지 않습니다
+     */
+    @Override
+    @EntityGraph(attributePaths = "bookCategory")
+    Page<Book> findAll(Specification<Book> spec, Pageable pageable);
+
+    /**
+     * cursor 이후의 책을 카테고리와 함께 조회합니다 (재크롤링 chunk 용)
+     */
+    @Query("select b from Book b left join fetch b.bookCategory where b.uuidBook > :cursor order by b.uuidBook")
+    List<Book> findChunkWithCategoryAfter(@Param("cursor") UUID cursor, Pageable pageable);
+
+    /**
+     * 상세 페이지를 아직 가져오지 않은 책 (목록 페이지만으로 저장되어 UPC 가 없음)
+     */
+    @Query("select b from Book b left join fetch b.bookCategory where b.uuidBook > :cursor and b.upc is null order by b.uuidBook")
+    List<Book> findMissingDetailAfter(@Param("cursor") UUID cursor, Pageable pageable);
+
+    String CATEGORY_AGGREGATE_SELECT = """
+            select c.uuidBookCategory as categoryId, c.categoryName as categoryName,
+                   count(b) as bookCount, min(b.price) as priceMin, max(b.price) as priceMax,
+                   sum(b.price) as priceSum, count(b.price) as pricedCount,
+                   sum(case when b.availability like 'In stock%' then 1 else 0 end) as inStockCount
+            from Book b join b.bookCategory c
+            """;
+
+    /**
+     * 카테고리별 책 수 / 가격 / 재고 집계 (통계 재계산용)
+     */
+    @Query(CATEGORY_AGGREGATE_SELECT + " group by c.uuidBookCategory, c.categoryName")
+    List<CategoryAggregate> aggregateByCategory();
+
+    @Query(CATEGORY_AGGREGATE_SELECT + " where c.uuidBookCategory = :categoryId group by c.uuidBookCategory, c.categoryName")
+    Optional<CategoryAggregate> aggregateByCategoryId(@Param("categoryId") UUID categoryId);
+
+    /**
+     * 전체 책을 카테고리명과 함께 DB 커서로 읽어옵니다 (내보내기용, 트랜잭션 안에서 사용)
+     */
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query(ROW_SELECT)
+    Stream<BookRow> streamAllRows();
+
+    /**
+     * 전체 책의 제목 / 설명을 DB 커서로 읽어옵니다 (검색 색인용, 트랜잭션 안에서 사용)
+     */
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("select new com.tistory.glorygem.crawler.domain.repository.BookText(b.uuidBook, b.title, b.description) from Book b")
+    Stream<BookText> streamAllTexts();
+}
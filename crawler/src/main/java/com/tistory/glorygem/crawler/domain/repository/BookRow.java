@@ -0,0 +1,41 @@
+package com.tistory.glorygem.crawler.domain.repository;
+
+import com.tistory.glorygem.crawler.domain.dto.BookDTO;
+
+import java.math.BigDecimal;
+import java.util.UUID;
+
+/**
+ * 책 목록 조회용 projection
+ * 카테고리명을 join 으로 같은 SQL 에서 읽으므로 책마다 카테고리를 따로 조회하지 않습니다
+ */
+public record BookRow(UUID uuidBook, String title, BigDecimal price, String upc, String productType,
+                      String availability, Integer stockCount, Integer rating, Integer numberOfReviews,
+                      String description, String url, String categoryName) {
+
+    /**
+     * description 컬럼을 읽지 않는 조회용
+     */
+    public BookRow(UUID uuidBook, String title, BigDecimal price, String upc, String productType,
+                   String availability, Integer stockCount, Integer rating, Integer numberOfReviews,
+                   String url, String categoryName) {
+        this(uuidBook, title, price, upc, productType, availability, stockCount, rating, numberOfReviews,
+                null, url, categoryName);
+    }
+
+    public BookDTO toDTO() {
+        return BookDTO.builder()
+                .title(title)
+                .price(price)
+                .upc(upc)
+                .productType(productType)
+                .availability(availability)
+                .stockCount(stockCount)
+                .rating(rating)
+                .numberOfReviews(numberOfReviews)
+                .description(description)
+                .url(url)
+                .categoryName(categoryName)
+                .build();
+    }
+}
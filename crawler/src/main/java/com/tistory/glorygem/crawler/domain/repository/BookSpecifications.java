@@ -0,0 +1,55 @@
+package com.tistory.glorygem.crawler.domain.repository;
+
+import com.tistory.glorygem.crawler.domain.entity.Book;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.math.BigDecimal;
+import java.util.UUID;
+
+/**
+ * 책 조건 조회용 Specification
+ * 범위는 인덱스가 있는 컬럼(uuid_book_category, price, rating)으로 좁히고,
+ * 재고 조건은 인덱스 없이 그 결과에서 거릅니다
+ */
+public final class BookSpecifications {
+
+    private BookSpecifications() {
+    }
+
+    /**
+     * 카테고리 FK 로 비교 (카테고리 테이블을 join 하지 않음)
+     */
+    public static Specification<Book> inCategory(UUID categoryId) {
+        return (root, query, cb) -> cb.equal(root.get("bookCategory").get("uuidBookCategory"), categoryId);
+    }
+
+    public static Specification<Book> priceAtLeast(BigDecimal minPrice) {
+        return (root, query, cb) -> cb.greaterThanOrEqualTo(root.get("price"), minPrice);
+    }
+
+    public static Specification<Book> priceAtMost(BigDecimal maxPrice) {
+        return (root, query, cb) -> cb.lessThanOrEqualTo(root.get("price"), maxPrice);
+    }
+
+    public static Specification<Book> ratingAtLeast(int minRating) {
+        return (root, query, cb) -> cb.greaterThanOrEqualTo(root.get("rating"), minRating);
+    }
+
+    public static Specification<Book> ratingAtMost(int maxRating) {
+        return (root, query, cb) -> cb.lessThanOrEqualTo(root.get("rating"), maxRating);
+    }
+
+    /**
+     * 재고가 minStock 권 이상 (1 이하면 재고 있음)
+     * 목록 페이지로만 저장된 책은 수량 없이 "In stock" 만 알 수 있으므로 재고 있음에는 포함하고,
+     * 2 권 이상 조건에서는 수량을 모르므로 제외합니다
+     */
+    public static Specification<Book> stockAtLeast(int minStock) {
+        if (minStock > 1) {
+            return (root, query, cb) -> cb.greaterThanOrEqualTo(root.get("stockCount"), minStock);
+        }
+        return (root, query, cb) -> cb.or(
+                cb.greaterThanOrEqualTo(root.get("stockCount"), 1),
+                cb.and(cb.isNull(root.get("stockCount")), cb.like(root.get("availability"), "In stock%")));
+    }
+}
@@ -0,0 +1,9 @@
+package com.tistory.glorygem.crawler.domain.repository;
+
+import java.util.UUID;
+
+/**
+ * 검색 색인용 projection (제목, 설명)
+ */
+public record BookText(UUID uuidBook, String title, String description) {
+}
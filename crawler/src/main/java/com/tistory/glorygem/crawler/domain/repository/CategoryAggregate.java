@@ -0,0 +1,26 @@
+package com.tistory.glorygem.crawler.domain.repository;
+
+import java.math.BigDecimal;
+import java.util.UUID;
+
+/**
+ * 카테고리별 집계 쿼리 결과 projection
+ */
+public interface CategoryAggregate {
+
+    UUID getCategoryId();
+
+    String getCategoryName();
+
+    Long getBookCount();
+
+    BigDecimal getPriceMin();
+
+    BigDecimal getPriceMax();
+
+    BigDecimal getPriceSum();
+
+    Long getPricedCount();
+
+    Long getInStockCount();
+}
@@ -0,0 +1,11 @@
+package com.tistory.glorygem.crawler.domain.repository;
+
+import com.tistory.glorygem.crawler.domain.entity.CategoryStats;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.UUID;
+
+@Repository
+public interface CategoryStatsRepository extends JpaRepository<CategoryStats, UUID> {
+}
@@ -0,0 +1,127 @@
+package com.tistory.glorygem.crawler.domain.repository;
+
+import com.tistory.glorygem.crawler.domain.entity.CrawlFrontier.PageType;
+import com.tistory.glorygem.crawler.domain.entity.CrawlFrontier.State;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * 크롤링 대기열 JDBC 저장소
+ * 여러 작업자가 SELECT ... FOR UPDATE SKIP LOCKED 로 서로 겹치지 않게 묶음 단위로 가져갑니다
+ */
+@Repository
+@RequiredArgsConstructor
+public class CrawlFrontierRepository {
+
+    private static final String INSERT = """
+            INSERT INTO crawl_frontier (uuid_frontier, url, page_type, uuid_book_category, state, attempts, updated_at)
+            VALUES (?, ?, ?, ?, 'PENDING', 0, now())
+            ON CONFLICT (url) DO NOTHING""";
+
+    // DETAIL 이 LISTING 보다 먼저 정렬되어 대기열이 불어나지 않도록 상세 페이지부터 처리
+    private static final String CLAIM = """
+            UPDATE crawl_frontier SET state = 'CLAIMED', updated_at = now()
+            WHERE uuid_frontier IN (
+                SELECT uuid_frontier FROM crawl_frontier
+                WHERE state = 'PENDING'
+                ORDER BY page_type, updated_at
+                LIMIT ?
+                FOR UPDATE SKIP LOCKED)
+            RETURNING uuid_frontier, url, page_type, uuid_book_category, attempts""";
+
+    private static final String MARK_DONE = """
+            UPDATE crawl_frontier SET state = 'DONE', last_error = NULL, updated_at = now()
+            WHERE uuid_frontier = ?""";
+
+    private static final String MARK_FAILED = """
+            UPDATE crawl_frontier
+            SET attempts = attempts + 1,
+                state = CASE WHEN attempts + 1 >= ? THEN 'FAILED' ELSE 'PENDING' END,
+                last_error = LEFT(?, 500),
+                updated_at = now()
+            WHERE uuid_frontier = ?""";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 대기열에 추가합니다 (이미 있는 url 은 무시)
+     */
+    public void enqueue(Collection<Entry> entries) {
+        if (entries.isEmpty()) {
+            return;
+        }
+        List<Object[]> args = entries.stream()
+                .map(entry -> new Object[]{
+                        entry.id() != null ? entry.id() : UUID.randomUUID(),
+                        entry.url(), entry.pageType().name(), entry.categoryId()})
+                .toList();
+        jdbcTemplate.batchUpdate(INSERT, args);
+    }
+
+    /**
+     * 대기 중인 항목을 최대 limit 개 가져가 CLAIMED 로 표시합니다
+     * 다른 작업자가 잠근 행은 건너뛰므로 동시에 호출해도 같은 항목을 받지 않습니다
+     */
+    public List<Entry> claim(int limit) {
+        return jdbcTemplate.query(CLAIM, (rs, rowNum) -> new Entry(
+                rs.getObject("uuid_frontier", UUID.class),
+                rs.getString("url"),
+                PageType.valueOf(rs.getString("page_type")),
+                rs.getObject("uuid_book_category", UUID.class),
+                rs.getInt("attempts")), limit);
+    }
+
+    public void markDone(Collection<UUID> ids) {
+        if (ids.isEmpty()) {
+            return;
+        }
+        jdbcTemplate.batchUpdate(MARK_DONE, ids.stream().map(id -> new Object[]{id}).toList());
+    }
+
+    /**
+     * 실패 횟수를 올리고, maxAttempts 미만이면 다시 PENDING 으로 돌려놓습니다
+     */
+    public void markFailed(UUID id, String error, int maxAttempts) {
+        jdbcTemplate.update(MARK_FAILED, maxAttempts, error, id);
+    }
+
+    /**
+     * 이전 실행이 비정상 종료되어 CLAIMED 로 남은 항목을 다시 PENDING 으로 돌립니다
+     */
+    public int releaseClaimed() {
+        return jdbcTemplate.update("UPDATE crawl_frontier SET state = 'PENDING' WHERE state = 'CLAIMED'");
+    }
+
+    public Map<State, Long> countByState() {
+        Map<State, Long> counts = new EnumMap<>(State.class);
+        for (State state : State.values()) {
+            counts.put(state, 0L);
+        }
+        jdbcTemplate.query("SELECT state, count(*) AS cnt FROM crawl_frontier GROUP BY state",
+                rs -> {
+                    counts.put(State.valueOf(rs.getString("state")), rs.getLong("cnt"));
+                });
+        return counts;
+    }
+
+    public void clear() {
+        jdbcTemplate.update("DELETE FROM crawl_frontier");
+    }
+
+    /**
+     * 대기열 항목 (id 가 null 이면 추가 시 새로 생성)
+     */
+    public record Entry(UUID id, String url, PageType pageType, UUID categoryId, int attempts) {
+
+        public static Entry pending(String url, PageType pageType, UUID categoryId) {
+            return new Entry(null, url, pageType, categoryId, 0);
+        }
+    }
+}
@@ -0,0 +1,8 @@
+package com.tistory.glorygem.crawler.event;
+
+/**
+ * 외부 크롤링 결과를 일괄 가져온 뒤 발행되는 이벤트
+ * 책 목록 대신 건수만 담으므로, 받는 쪽은 증분 반영 대신 DB 에서 다시 읽습니다
+ */
+public record BooksImportedEvent(long inserted, long updated, long categoriesCreated) {
+}
@@ -0,0 +1,17 @@
+package com.tistory.glorygem.crawler.event;
+
+import com.tistory.glorygem.crawler.domain.entity.Book;
+
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * 책이 일괄 저장된 뒤 발행되는 이벤트 (새로 저장된 책 / 갱신된 책 / 갱신으로 책이 빠져나간 이전 카테고리)
+ */
+public record BooksSavedEvent(List<Book> inserted, List<Book> updated, Set<UUID> vacatedCategories) {
+
+    public BooksSavedEvent(List<Book> inserted, List<Book> updated) {
+        this(inserted, updated, Set.of());
+    }
+}
@@ -0,0 +1,46 @@
+package com.tistory.glorygem.crawler.export;
+
+import com.tistory.glorygem.crawler.config.CrawlerProperties;
+import com.tistory.glorygem.crawler.service.BookExportService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.stereotype.Component;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * 명령줄 내보내기: crawler.export.run 이 있으면 시작 시 내보낸 뒤 종료합니다
+ * 예: java -jar crawler.jar --spring.main.web-application-type=none --crawler.export.run=csv --crawler.export.output=books.csv.gz
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "crawler.export", name = "run")
+public class BookExportRunner implements ApplicationRunner {
+
+    private final BookExportService bookExportService;
+    private final CrawlerProperties properties;
+    private final ConfigurableApplicationContext context;
+
+    @Override
+    public void run(ApplicationArguments args) throws Exception {
+        CrawlerProperties.Export export = properties.getExport();
+        Path target = export.getOutput() != null ? Path.of(export.getOutput()) : null;
+        int exitCode = 0;
+        try {
+            Path file = bookExportService.exportToFile(export.getRun(), target);
+            log.info("내보내기 파일: {} ({} bytes)", file.toAbsolutePath(), Files.size(file));
+        } catch (Exception e) {
+            log.error("명령줄 내보내기 실패", e);
+            exitCode = 1;
+        }
+        int code = exitCode;
+        System.exit(SpringApplication.exit(context, () -> code));
+    }
+}
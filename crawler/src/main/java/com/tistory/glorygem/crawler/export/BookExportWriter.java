@@ -0,0 +1,18 @@
+package com.tistory.glorygem.crawler.export;
+
+import com.tistory.glorygem.crawler.domain.repository.BookRow;
+
+import java.io.IOException;
+
+/**
+ * 책을 한 건씩 받아 내보내기 형식으로 쓰는 writer (ExportFormat.open / openNdjson 으로 생성)
+ */
+public interface BookExportWriter {
+
+    void write(BookRow row) throws IOException;
+
+    /**
+     * 남은 데이터와 (압축하면) gzip trailer 를 씁니다 (대상 스트림은 닫지 않음)
+     */
+    void finish() throws IOException;
+}
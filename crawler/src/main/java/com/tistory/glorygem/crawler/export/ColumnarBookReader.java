@@ -0,0 +1,122 @@
+package com.tistory.glorygem.crawler.export;
+
+import com.tistory.glorygem.crawler.domain.repository.BookRow;
+
+import java.io.BufferedInputStream;
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Consumer;
+import java.util.zip.GZIPInputStream;
+
+/**
+ * 열 단위 내보내기 파일(ExportFormat.COLUMNAR)을 블록 단위로 읽어 한 건씩 돌려줍니다
+ */
+public final class ColumnarBookReader {
+
+    private ColumnarBookReader() {
+    }
+
+    /**
+     * gzip 으로 압축된 열 단위 파일을 읽고 읽은 건수를 반환합니다
+     */
+    public static long read(InputStream gzipped, Consumer<BookRow> consumer) throws IOException {
+        DataInputStream in = new DataInputStream(new BufferedInputStream(new GZIPInputStream(gzipped), 64 * 1024));
+        if (in.readInt() != ColumnarExportWriter.MAGIC) {
+            throw new IOException("열 단위 내보내기 파일이 아닙니다");
+        }
+        int version = in.readInt();
+        if (version != ColumnarExportWriter.VERSION) {
+            throw new IOException("지원하지 않는 버전: " + version);
+        }
+
+        List<String> dictionary = new ArrayList<>();
+        long count = 0;
+        int size;
+        while ((size = in.readInt()) > 0) {
+            int newEntries = in.readInt();
+            for (int i = 0; i < newEntries; i++) {
+                dictionary.add(readString(in));
+            }
+
+            UUID[] uuids = new UUID[size];
+            for (int i = 0; i < size; i++) {
+                uuids[i] = new UUID(in.readLong(), in.readLong());
+            }
+            long[] prices = new long[size];
+            for (int i = 0; i < size; i++) {
+                prices[i] = in.readLong();
+            }
+            int[] stockCounts = readInts(in, size);
+            byte[] ratings = new byte[size];
+            in.readFully(ratings);
+            int[] reviews = readInts(in, size);
+            int[] categories = readInts(in, size);
+            String[] titles = readStrings(in, size);
+            String[] upcs = readStrings(in, size);
+            String[] productTypes = readStrings(in, size);
+            String[] availabilities = readStrings(in, size);
+            String[] urls = readStrings(in, size);
+            String[] descriptions = readStrings(in, size);
+
+            for (int i = 0; i < size; i++) {
+                consumer.accept(new BookRow(uuids[i], titles[i],
+                        prices[i] == ColumnarExportWriter.NULL_PRICE
+                                ? null : BigDecimal.valueOf(prices[i], ColumnarExportWriter.PRICE_SCALE),
+                        upcs[i], productTypes[i], availabilities[i],
+                        orNull(stockCounts[i]), ratings[i] == ColumnarExportWriter.NULL_INT ? null : (int) ratings[i],
+                        orNull(reviews[i]), descriptions[i], urls[i],
+                        categories[i] == ColumnarExportWriter.NULL_CATEGORY ? null : dictionary.get(categories[i])));
+            }
+            count += size;
+        }
+        return count;
+    }
+
+    private static Integer orNull(int value) {
+        return value == ColumnarExportWriter.NULL_INT ? null : value;
+    }
+
+    private static int[] readInts(DataInputStream in, int size) throws IOException {
+        int[] values = new int[size];
+        for (int i = 0; i < size; i++) {
+            values[i] = in.readInt();
+        }
+        return values;
+    }
+
+    private static String[] readStrings(DataInputStream in, int size) throws IOException {
+        String[] values = new String[size];
+        for (int i = 0; i < size; i++) {
+            values[i] = readString(in);
+        }
+        return values;
+    }
+
+    private static String readString(DataInputStream in) throws IOException {
+        int length = readVarInt(in) - 1;
+        if (length < 0) {
+            return null;
+        }
+        byte[] bytes = new byte[length];
+        in.readFully(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private static int readVarInt(DataInputStream in) throws IOException {
+        int value = 0;
+        int shift = 0;
+        int b;
+        do {
+            b = in.readUnsignedByte();
+            value |= (b & 0x7F) << shift;
+            shift += 7;
+        } while ((b & 0x80) != 0);
+        return value;
+    }
+}
@@ -0,0 +1,168 @@
+package com.tistory.glorygem.crawler.export;
+
+import com.tistory.glorygem.crawler.domain.repository.BookRow;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * 열 단위 바이너리 형식
+ *
+ * 헤더 (MAGIC, VERSION) 뒤에 BLOCK_ROWS 건씩 묶은 블록이 이어지고, 행 수 0 인 블록으로 끝납니다
+ * 블록마다 새로 나온 카테고리명(사전 추가분)을 먼저 쓰고, 열을 하나씩 이어 씁니다
+ * 가격은 소수 둘째 자리까지의 고정 소수점 long (£45.17 → 4517), 카테고리는 사전 번호로 저장합니다
+ * 한 블록만 메모리에 두므로 전체 행 수와 관계없이 메모리 사용량이 일정합니다
+ */
+final class ColumnarExportWriter implements BookExportWriter {
+
+    static final int MAGIC = 0x424B434C;  // "BKCL"
+    static final int VERSION = 1;
+    static final int BLOCK_ROWS = 4096;
+    static final int PRICE_SCALE = 2;
+
+    static final long NULL_PRICE = Long.MIN_VALUE;
+    static final int NULL_INT = -1;
+    static final int NULL_CATEGORY = -1;
+
+    private final GZIPOutputStream gzip;
+    private final DataOutputStream out;
+    private final Map<String, Integer> dictionary = new HashMap<>();
+    private final List<String> newEntries = new ArrayList<>();
+    private final BookRow[] block = new BookRow[BLOCK_ROWS];
+    private int size;
+
+    ColumnarExportWriter(GZIPOutputStream gzip) throws IOException {
+        this.gzip = gzip;
+        this.out = new DataOutputStream(new BufferedOutputStream(gzip, 64 * 1024));
+        out.writeInt(MAGIC);
+        out.writeInt(VERSION);
+    }
+
+    @Override
+    public void write(BookRow row) throws IOException {
+        block[size++] = row;
+        if (size == BLOCK_ROWS) {
+            flushBlock();
+        }
+    }
+
+    @Override
+    public void finish() throws IOException {
+        if (size > 0) {
+            flushBlock();
+        }
+        out.writeInt(0);
+        out.flush();
+        gzip.finish();
+    }
+
+    private void flushBlock() throws IOException {
+        int[] categories = new int[size];
+        for (int i = 0; i < size; i++) {
+            categories[i] = categoryId(block[i].categoryName());
+        }
+
+        out.writeInt(size);
+        out.writeInt(newEntries.size());
+        for (String entry : newEntries) {
+            writeString(entry);
+        }
+        newEntries.clear();
+
+        for (int i = 0; i < size; i++) {
+            out.writeLong(block[i].uuidBook().getMostSignificantBits());
+            out.writeLong(block[i].uuidBook().getLeastSignificantBits());
+        }
+        for (int i = 0; i < size; i++) {
+            out.writeLong(fixedPoint(block[i].price()));
+        }
+        for (int i = 0; i < size; i++) {
+            out.writeInt(orNull(block[i].stockCount()));
+        }
+        for (int i = 0; i < size; i++) {
+            out.writeByte(orNull(block[i].rating()));
+        }
+        for (int i = 0; i < size; i++) {
+            out.writeInt(orNull(block[i].numberOfReviews()));
+        }
+        for (int i = 0; i < size; i++) {
+            out.writeInt(categories[i]);
+        }
+        for (int i = 0; i < size; i++) {
+            writeString(block[i].title());
+        }
+        for (int i = 0; i < size; i++) {
+            writeString(block[i].upc());
+        }
+        for (int i = 0; i < size; i++) {
+            writeString(block[i].productType());
+        }
+        for (int i = 0; i < size; i++) {
+            writeString(block[i].availability());
+        }
+        for (int i = 0; i < size; i++) {
+            writeString(block[i].url());
+        }
+        for (int i = 0; i < size; i++) {
+            writeString(block[i].description());
+        }
+
+        Arrays.fill(block, 0, size, null);
+        size = 0;
+    }
+
+    private int categoryId(String categoryName) {
+        if (categoryName == null) {
+            return NULL_CATEGORY;
+        }
+        Integer id = dictionary.get(categoryName);
+        if (id == null) {
+            id = dictionary.size();
+            dictionary.put(categoryName, id);
+            newEntries.add(categoryName);
+        }
+        return id;
+    }
+
+    static long fixedPoint(BigDecimal price) {
+        if (price == null) {
+            return NULL_PRICE;
+        }
+        return price.setScale(PRICE_SCALE, RoundingMode.HALF_UP).unscaledValue().longValueExact();
+    }
+
+    private static int orNull(Integer value) {
+        return value != null ? value : NULL_INT;
+    }
+
+    /**
+     * varint(바이트 수 + 1) + UTF-8, null 은 0
+     */
+    private void writeString(String value) throws IOException {
+        if (value == null) {
+            writeVarInt(0);
+            return;
+        }
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        writeVarInt(bytes.length + 1);
+        out.write(bytes);
+    }
+
+    private void writeVarInt(int value) throws IOException {
+        while ((value & ~0x7F) != 0) {
+            out.writeByte((value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        out.writeByte(value);
+    }
+}
@@ -0,0 +1,97 @@
+package com.tistory.glorygem.crawler.export;
+
+import com.tistory.glorygem.crawler.domain.repository.BookRow;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * RFC 4180 CSV (쉼표, 따옴표, 줄바꿈이 있는 값만 따옴표로 감쌈)
+ */
+final class CsvExportWriter implements BookExportWriter {
+
+    static final String HEADER = "uuid,title,price,upc,product_type,availability,stock_count,rating,"
+            + "number_of_reviews,category,url,description";
+
+    private final GZIPOutputStream gzip;
+    private final Writer writer;
+
+    CsvExportWriter(GZIPOutputStream gzip) throws IOException {
+        this.gzip = gzip;
+        this.writer = new BufferedWriter(new OutputStreamWriter(gzip, StandardCharsets.UTF_8));
+        writer.write(HEADER);
+        writer.write("\r\n");
+    }
+
+    @Override
+    public void write(BookRow row) throws IOException {
+        writer.write(row.uuidBook().toString());
+        writer.write(',');
+        field(row.title());
+        writer.write(',');
+        BigDecimal price = row.price();
+        if (price != null) {
+            writer.write(price.toPlainString());
+        }
+        writer.write(',');
+        field(row.upc());
+        writer.write(',');
+        field(row.productType());
+        writer.write(',');
+        field(row.availability());
+        writer.write(',');
+        number(row.stockCount());
+        writer.write(',');
+        number(row.rating());
+        writer.write(',');
+        number(row.numberOfReviews());
+        writer.write(',');
+        field(row.categoryName());
+        writer.write(',');
+        field(row.url());
+        writer.write(',');
+        field(row.description());
+        writer.write("\r\n");
+    }
+
+    @Override
+    public void finish() throws IOException {
+        writer.flush();
+        gzip.finish();
+    }
+
+    private void number(Integer value) throws IOException {
+        if (value != null) {
+            writer.write(Integer.toString(value));
+        }
+    }
+
+    private void field(String value) throws IOException {
+        if (value == null) {
+            return;
+        }
+        boolean quote = false;
+        for (int i = 0; i < value.length() && !quote; i++) {
+            char c = value.charAt(i);
+            quote = c == ',' || c == '"' || c == '\n' || c == '\r';
+        }
+        if (!quote) {
+            writer.write(value);
+            return;
+        }
+        writer.write('"');
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c == '"') {
+                writer.write('"');
+            }
+            writer.write(c);
+        }
+        writer.write('"');
+    }
+}
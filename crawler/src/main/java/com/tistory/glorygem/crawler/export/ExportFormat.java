@@ -0,0 +1,76 @@
+package com.tistory.glorygem.crawler.export;
+
+import tools.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * 카탈로그 내보내기 형식 (모두 gzip 압축)
+ */
+public enum ExportFormat {
+    /** RFC 4180 CSV, 첫 줄은 헤더 */
+    CSV("csv.gz"),
+    /** 한 줄에 JSON 하나 */
+    NDJSON("ndjson.gz"),
+    /** 열 단위 바이너리 (ColumnarExportWriter 참고) */
+    COLUMNAR("bkc.gz");
+
+    private static final int GZIP_BUFFER_SIZE = 64 * 1024;
+
+    private final String extension;
+
+    ExportFormat(String extension) {
+        this.extension = extension;
+    }
+
+    public String getExtension() {
+        return extension;
+    }
+
+    /**
+     * out 에 gzip 으로 압축해 쓰는 writer 를 만듭니다
+     */
+    public BookExportWriter open(OutputStream out, ObjectMapper objectMapper) throws IOException {
+        GZIPOutputStream gzip = new GZIPOutputStream(out, GZIP_BUFFER_SIZE);
+        return switch (this) {
+            case CSV -> new CsvExportWriter(gzip);
+            case NDJSON -> new NdjsonExportWriter(gzip, gzip, objectMapper);
+            case COLUMNAR -> new ColumnarExportWriter(gzip);
+        };
+    }
+
+    /**
+     * 압축하지 않은 NDJSON writer (/api/books/stream 응답, 내보내기 NDJSON 과 같은 행 형식)
+     */
+    public static BookExportWriter openNdjson(OutputStream out, ObjectMapper objectMapper) {
+        return new NdjsonExportWriter(out, null, objectMapper);
+    }
+
+    /**
+     * 요청 파라미터 ("csv", "ndjson", "columnar") 를 형식으로 바꿉니다
+     *
+     * @throws IllegalArgumentException 지원하지 않는 형식
+     */
+    public static ExportFormat parse(String value) {
+        for (ExportFormat format : values()) {
+            if (format.name().equalsIgnoreCase(value)) {
+                return format;
+            }
+        }
+        throw new IllegalArgumentException("지원하지 않는 내보내기 형식입니다: " + value + " (csv, ndjson, columnar)");
+    }
+
+    /**
+     * 내보내기 파일 이름의 확장자로 형식을 찾습니다 (없으면 null)
+     */
+    public static ExportFormat fromFileName(String fileName) {
+        for (ExportFormat format : values()) {
+            if (fileName.endsWith("." + format.extension)) {
+                return format;
+            }
+        }
+        return null;
+    }
+}
@@ -0,0 +1,41 @@
+package com.tistory.glorygem.crawler.export;
+
+import com.tistory.glorygem.crawler.domain.repository.BookRow;
+import tools.jackson.databind.ObjectMapper;
+
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * 한 줄에 책 하나의 JSON (BookRow 필드 그대로)
+ */
+final class NdjsonExportWriter implements BookExportWriter {
+
+    private static final byte NEWLINE = '\n';
+
+    private final GZIPOutputStream gzip;  // 압축하지 않으면 null
+    private final OutputStream out;
+    private final ObjectMapper objectMapper;
+
+    NdjsonExportWriter(OutputStream target, GZIPOutputStream gzip, ObjectMapper objectMapper) {
+        this.gzip = gzip;
+        this.out = new BufferedOutputStream(target, 16 * 1024);
+        this.objectMapper = objectMapper;
+    }
+
+    @Override
+    public void write(BookRow row) throws IOException {
+        out.write(objectMapper.writeValueAsBytes(row));  // writeValue(out, ..) 는 스트림을 닫으므로 사용하지 않음
+        out.write(NEWLINE);
+    }
+
+    @Override
+    public void finish() throws IOException {
+        out.flush();
+        if (gzip != null) {
+            gzip.finish();
+        }
+    }
+}
@@ -0,0 +1,22 @@
+package com.tistory.glorygem.crawler.feed;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * 변경 피드의 항목 하나 (저장이 커밋된 뒤의 책 값)
+ * changedFields 는 UPDATED 일 때 바뀐 필드 이름이며, 이전 값을 모르면 비어 있습니다
+ */
+public record BookChange(long sequence, Type type, UUID uuidBook, String url, String title, String categoryName,
+                         BigDecimal price, String availability, Integer stockCount, Integer rating,
+                         List<String> changedFields, LocalDateTime changedAt) {
+
+    public enum Type {
+        INSERTED,
+        UPDATED,
+        /** 일괄 가져오기처럼 개별 변경을 남기지 않은 변경 (구독자는 전체를 다시 읽어야 함) */
+        RESYNC
+    }
+}
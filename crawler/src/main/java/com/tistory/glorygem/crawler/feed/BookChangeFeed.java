@@ -0,0 +1,313 @@
+package com.tistory.glorygem.crawler.feed;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.tistory.glorygem.crawler.config.CrawlerProperties;
+import com.tistory.glorygem.crawler.domain.entity.Book;
+import com.tistory.glorygem.crawler.domain.entity.BookCategory;
+import com.tistory.glorygem.crawler.domain.repository.BookRepository;
+import com.tistory.glorygem.crawler.domain.repository.BookRow;
+import com.tistory.glorygem.crawler.event.BooksImportedEvent;
+import com.tistory.glorygem.crawler.event.BooksSavedEvent;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.Hibernate;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.stream.Stream;
+
+/**
+ * 커밋된 책 추가 / 변경을 순번과 함께 보관하는 메모리 링 버퍼 (최근 capacity 건)
+ *
+ * 구독자는 마지막으로 받은 순번 이후만 읽으므로 구독자 수와 관계없이 버퍼는 하나이고,
+ * 링에서 밀려난 순번을 요청한 구독자는 truncated 결과를 받아 다시 동기화합니다
+ * upsert 는 값이 같아도 기존 책을 모두 갱신으로 돌려주므로, 책마다 마지막 값을 기억해 두고 바뀐 필드가 없으면 남기지 않습니다
+ * 기억하는 책 수는 max-tracked-books 로 제한하며, 밀려난 책의 다음 갱신은 비교 없이 그대로 남깁니다
+ * 순번은 프로세스마다 새로 시작하므로 이벤트 ID 앞에 시작 시각(epoch)을 붙여 재시작 전의 ID 를 구분합니다
+ */
+@Slf4j
+@Component
+public class BookChangeFeed {
+
+    private final BookRepository bookRepository;
+    private final TransactionTemplate readOnlyTransaction;
+    private final String epoch = Long.toString(System.currentTimeMillis(), 36);
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition appended = lock.newCondition();
+    private final BookChange[] ring;
+    private final Cache<UUID, Snapshot> snapshots;
+    private long latest;  // 마지막 순번 (0 이면 아직 없음)
+    private long suppressedUpdates;
+
+    public BookChangeFeed(BookRepository bookRepository, TransactionTemplate transactionTemplate,
+                          CrawlerProperties properties) {
+        this.bookRepository = bookRepository;
+        this.readOnlyTransaction = new TransactionTemplate(transactionTemplate.getTransactionManager());
+        this.readOnlyTransaction.setReadOnly(true);
+        this.ring = new BookChange[Math.max(1, properties.getFeed().getCapacity())];
+        this.snapshots = Caffeine.newBuilder()
+                .maximumSize(properties.getFeed().getMaxTrackedBooks())
+                .build();
+    }
+
+    /**
+     * 시작 후 별도 스레드에서 DB 의 현재 값을 읽어 둡니다 (첫 재크롤링부터 바뀌지 않은 갱신을 거르기 위해)
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void loadOnStartup() {
+        Thread.ofVirtual().name("book-change-feed").start(this::loadSnapshots);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onBooksSaved(BooksSavedEvent event) {
+        LocalDateTime now = LocalDateTime.now();
+        lock.lock();
+        try {
+            long before = latest;
+            for (Book book : event.inserted()) {
+                record(book, BookChange.Type.INSERTED, now);
+            }
+            for (Book book : event.updated()) {
+                record(book, BookChange.Type.UPDATED, now);
+            }
+            if (latest != before) {
+                appended.signalAll();
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 일괄 가져오기는 책마다 남기지 않고 RESYNC 한 건만 남긴 뒤 기억해 둔 값을 다시 읽습니다
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onBooksImported(BooksImportedEvent event) {
+        lock.lock();
+        try {
+            snapshots.invalidateAll();
+            append(new BookChange(latest + 1, BookChange.Type.RESYNC, null, null, null, null, null, null, null, null,
+                    List.of(), LocalDateTime.now()));
+            appended.signalAll();
+        } finally {
+            lock.unlock();
+        }
+        Thread.ofVirtual().name("book-change-feed").start(this::loadSnapshots);
+    }
+
+    /**
+     * after 다음 순번부터 최대 max 건
+     * after 가 링에서 밀려났거나 이 프로세스가 만든 적 없는 순번이면 truncated
+     */
+    public Slice readAfter(long after, int max) {
+        lock.lock();
+        try {
+            long oldest = Math.max(1, latest - ring.length + 1);
+            if (after > latest || after < oldest - 1) {
+                return new Slice(List.of(), true, latest);
+            }
+            long until = Math.min(latest, after + Math.max(1, max));
+            List<BookChange> changes = new ArrayList<>((int) (until - after));
+            for (long sequence = after + 1; sequence <= until; sequence++) {
+                changes.add(ring[slot(sequence)]);
+            }
+            return new Slice(changes, false, latest);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * after 이후 변경이 생기거나 timeoutNanos 가 지날 때까지 기다린 뒤 마지막 순번을 반환합니다
+     */
+    public long awaitAfter(long after, long timeoutNanos) throws InterruptedException {
+        lock.lock();
+        try {
+            long nanos = timeoutNanos;
+            while (latest <= after && nanos > 0) {
+                nanos = appended.awaitNanos(nanos);
+            }
+            return latest;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public long latestSequence() {
+        lock.lock();
+        try {
+            return latest;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * SSE 이벤트 ID ("epoch-순번")
+     */
+    public String eventId(long sequence) {
+        return epoch + "-" + sequence;
+    }
+
+    /**
+     * Last-Event-ID 의 순번 (다른 프로세스가 만든 ID 이거나 형식이 틀리면 -1)
+     */
+    public long sequenceOf(String eventId) {
+        int dash = eventId.indexOf('-');
+        if (dash != epoch.length() || !eventId.startsWith(epoch)) {
+            return -1;
+        }
+        try {
+            return Long.parseLong(eventId, dash + 1, eventId.length(), 10);
+        } catch (NumberFormatException e) {
+            return -1;
+        }
+    }
+
+    public Map<String, Object> getStats() {
+        lock.lock();
+        try {
+            Map<String, Object> stats = new HashMap<>();
+            stats.put("epoch", epoch);
+            stats.put("latestSequence", latest);
+            stats.put("oldestSequence", Math.max(latest == 0 ? 0 : 1, latest - ring.length + 1));
+            stats.put("capacity", ring.length);
+            stats.put("trackedBooks", snapshots.estimatedSize());
+            stats.put("suppressedUpdates", suppressedUpdates);
+            return stats;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 저장된 책 한 권을 이전 값과 비교해 남깁니다 (잠금 안에서 호출)
+     * DB 와 같은 규칙으로 합칩니다: 평점이 비어 있으면 기존 값 유지,
+     * 재고 수량이 비어 있고 기존에 재고가 있었으면 availability 와 수량을 함께 유지
+     */
+    private void record(Book book, BookChange.Type type, LocalDateTime now) {
+        UUID uuid = book.getUuidBook();
+        if (uuid == null) {
+            return;
+        }
+        Snapshot previous = snapshots.getIfPresent(uuid);
+        boolean keepStock = book.getStockCount() == null && previous != null
+                && previous.stockCount() != null && previous.stockCount() > 0;
+        Snapshot current = new Snapshot(book.getTitle(), categoryName(book.getBookCategory(), previous),
+                book.getPrice(),
+                keepStock ? previous.availability() : book.getAvailability(),
+                keepStock ? previous.stockCount() : book.getStockCount(),
+                book.getRating() != null || previous == null ? book.getRating() : previous.rating());
+        snapshots.put(uuid, current);
+
+        List<String> changedFields = previous != null ? previous.changedFields(current) : List.of();
+        if (type == BookChange.Type.UPDATED && previous != null && changedFields.isEmpty()) {
+            suppressedUpdates++;
+            return;
+        }
+        append(new BookChange(latest + 1, type, uuid, book.getUrl(), current.title(), current.categoryName(),
+                current.price(), current.availability(), current.stockCount(), current.rating(), changedFields, now));
+    }
+
+    /**
+     * 저장 경로는 모두 카테고리를 함께 읽어 두지만 (재크롤링 / 상세 보강은 join fetch),
+     * 커밋 후 리스너에서 지연 로딩이 일어나지 않도록 초기화되지 않은 프록시면 기억해 둔 값을 씁니다
+     */
+    private static String categoryName(BookCategory category, Snapshot previous) {
+        if (category == null) {
+            return null;
+        }
+        if (!Hibernate.isInitialized(category)) {
+            return previous != null ? previous.categoryName() : null;
+        }
+        return category.getCategoryName();
+    }
+
+    private void append(BookChange change) {
+        latest = change.sequence();
+        ring[slot(latest)] = change;
+    }
+
+    private int slot(long sequence) {
+        return (int) ((sequence - 1) % ring.length);
+    }
+
+    /**
+     * DB 의 현재 값을 기억합니다 (그 사이 저장 이벤트로 들어온 값이 더 새로우므로 덮어쓰지 않음)
+     */
+    private void loadSnapshots() {
+        long startedAt = System.nanoTime();
+        long[] loaded = new long[1];
+        try {
+            readOnlyTransaction.executeWithoutResult(status -> {
+                try (Stream<BookRow> rows = bookRepository.streamAllRows()) {
+                    rows.forEach(row -> {
+                        Snapshot snapshot = new Snapshot(row.title(), row.categoryName(), row.price(),
+                                row.availability(), row.stockCount(), row.rating());
+                        lock.lock();
+                        try {
+                            snapshots.asMap().putIfAbsent(row.uuidBook(), snapshot);
+                        } finally {
+                            lock.unlock();
+                        }
+                        loaded[0]++;
+                    });
+                }
+            });
+            log.info("변경 피드 기준값 로딩 완료: {} 건, {} ms", loaded[0],
+                    (System.nanoTime() - startedAt) / 1_000_000);
+        } catch (RuntimeException e) {
+            log.error("변경 피드 기준값 로딩 실패 (변경 여부를 모르는 책은 모두 갱신으로 남김)", e);
+        }
+    }
+
+    /**
+     * readAfter 결과 (truncated 이면 changes 는 비어 있고 latestSequence 부터 다시 읽으면 됨)
+     */
+    public record Slice(List<BookChange> changes, boolean truncated, long latestSequence) {
+    }
+
+    /**
+     * 책마다 기억해 두는 마지막 값 (피드에 싣는 필드만)
+     */
+    private record Snapshot(String title, String categoryName, BigDecimal price, String availability,
+                            Integer stockCount, Integer rating) {
+
+        List<String> changedFields(Snapshot current) {
+            List<String> changed = new ArrayList<>(2);
+            if (!Objects.equals(title, current.title)) {
+                changed.add("title");
+            }
+            if (!Objects.equals(categoryName, current.categoryName)) {
+                changed.add("categoryName");
+            }
+            if (price == null ? current.price != null : current.price == null || price.compareTo(current.price) != 0) {
+                changed.add("price");
+            }
+            if (!Objects.equals(availability, current.availability)) {
+                changed.add("availability");
+            }
+            if (!Objects.equals(stockCount, current.stockCount)) {
+                changed.add("stockCount");
+            }
+            if (!Objects.equals(rating, current.rating)) {
+                changed.add("rating");
+            }
+            return changed;
+        }
+    }
+}
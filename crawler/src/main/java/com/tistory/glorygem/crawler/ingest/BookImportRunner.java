@@ -0,0 +1,47 @@
+package com.tistory.glorygem.crawler.ingest;
+
+import com.tistory.glorygem.crawler.config.CrawlerProperties;
+import com.tistory.glorygem.crawler.domain.dto.ImportResultDTO;
+import com.tistory.glorygem.crawler.service.BookImportService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.stereotype.Component;
+
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * 명령줄 가져오기: crawler.ingest.file 이 있으면 시작 시 가져온 뒤 종료합니다
+ * 예: java -jar crawler.jar --spring.main.web-application-type=none --crawler.ingest.file=books.ndjson.gz
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "crawler.ingest", name = "file")
+public class BookImportRunner implements ApplicationRunner {
+
+    private final BookImportService bookImportService;
+    private final CrawlerProperties properties;
+    private final ConfigurableApplicationContext context;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        Path file = Path.of(properties.getIngest().getFile());
+        int exitCode = 0;
+        try (InputStream in = Files.newInputStream(file)) {
+            ImportResultDTO result = bookImportService.importDump(DumpFormat.fromFileName(file.toString()), in);
+            result.getRejectedSamples().forEach(reason -> log.warn("거부된 레코드 {}", reason));
+        } catch (Exception e) {
+            log.error("명령줄 가져오기 실패: {}", file, e);
+            exitCode = 1;
+        }
+        int code = exitCode;
+        System.exit(SpringApplication.exit(context, () -> code));
+    }
+}
@@ -0,0 +1,113 @@
+package com.tistory.glorygem.crawler.ingest;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * RFC 4180 CSV reader (따옴표 안의 쉼표 / 줄바꿈 / "" 허용)
+ * 첫 레코드의 헤더로 열과 DumpField 를 연결하고, 모르는 열은 건너뜁니다
+ */
+final class CsvDumpReader implements DumpReader {
+
+    private final BufferedReader reader;
+    private final DumpField[] columns;
+    private final List<String> record = new ArrayList<>();
+    private final StringBuilder value = new StringBuilder();
+    private long lineNumber;
+
+    CsvDumpReader(BufferedReader reader) throws IOException {
+        this.reader = reader;
+        if (!readRecord()) {
+            throw new IOException("CSV 헤더가 없습니다");
+        }
+        columns = new DumpField[record.size()];
+        for (int i = 0; i < columns.length; i++) {
+            String name = record.get(i);
+            if (i == 0 && name.startsWith("\uFEFF")) {  // UTF-8 BOM
+                name = name.substring(1);
+            }
+            columns[i] = DumpField.of(name);
+        }
+        if (!Arrays.asList(columns).contains(DumpField.URL)) {
+            throw new IOException("CSV 헤더에 url 열이 없습니다");
+        }
+    }
+
+    @Override
+    public boolean next(String[] fields) throws IOException {
+        while (readRecord()) {
+            if (record.size() == 1 && record.get(0).isEmpty()) {
+                continue;  // 빈 줄
+            }
+            Arrays.fill(fields, null);
+            for (int i = 0; i < columns.length && i < record.size(); i++) {
+                if (columns[i] != null) {
+                    fields[columns[i].ordinal()] = record.get(i);
+                }
+            }
+            return true;
+        }
+        return false;
+    }
+
+    @Override
+    public long lineNumber() {
+        return lineNumber;
+    }
+
+    /**
+     * 레코드 하나를 record 에 읽습니다 (파일 끝이면 false)
+     */
+    private boolean readRecord() throws IOException {
+        record.clear();
+        value.setLength(0);
+        int c = reader.read();
+        if (c < 0) {
+            return false;
+        }
+        lineNumber++;
+        boolean quoted = false;
+        while (true) {
+            if (quoted) {
+                if (c < 0) {
+                    throw new IOException("닫히지 않은 따옴표 (" + lineNumber + " 번째 줄)");
+                }
+                if (c == '"') {
+                    int next = reader.read();
+                    if (next == '"') {
+                        value.append('"');
+                    } else {
+                        quoted = false;
+                        c = next;
+                        continue;
+                    }
+                } else {
+                    if (c == '\n') {
+                        lineNumber++;
+                    }
+                    value.append((char) c);
+                }
+            } else if (c < 0 || c == '\n') {
+                endValue();
+                return true;
+            } else if (c == '\r') {
+                // \r\n 의 \r 은 무시
+            } else if (c == ',') {
+                endValue();
+            } else if (c == '"' && value.isEmpty()) {
+                quoted = true;
+            } else {
+                value.append((char) c);
+            }
+            c = reader.read();
+        }
+    }
+
+    private void endValue() {
+        record.add(value.toString());
+        value.setLength(0);
+    }
+}
@@ -0,0 +1,44 @@
+package com.tistory.glorygem.crawler.ingest;
+
+import java.util.Locale;
+
+/**
+ * 가져오기 파일의 필드 (CSV 헤더 / JSON 키)
+ * 이름은 대소문자와 '_' 를 무시하고 비교하므로 category_name, categoryName 모두 받습니다
+ */
+public enum DumpField {
+    TITLE("title"),
+    PRICE("price"),
+    UPC("upc"),
+    PRODUCT_TYPE("producttype"),
+    AVAILABILITY("availability"),
+    STOCK_COUNT("stockcount"),
+    RATING("rating"),
+    NUMBER_OF_REVIEWS("numberofreviews", "reviews"),
+    DESCRIPTION("description"),
+    URL("url"),
+    CATEGORY("categoryname", "category");
+
+    private static final DumpField[] VALUES = values();
+
+    private final String[] names;
+
+    DumpField(String... names) {
+        this.names = names;
+    }
+
+    /**
+     * 필드 이름에 해당하는 필드 (모르는 이름이면 null, uuid 등은 무시)
+     */
+    public static DumpField of(String name) {
+        String normalized = name.replace("_", "").trim().toLowerCase(Locale.ROOT);
+        for (DumpField field : VALUES) {
+            for (String candidate : field.names) {
+                if (candidate.equals(normalized)) {
+                    return field;
+                }
+            }
+        }
+        return null;
+    }
+}
@@ -0,0 +1,78 @@
+package com.tistory.glorygem.crawler.ingest;
+
+import tools.jackson.databind.ObjectMapper;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.PushbackInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Locale;
+import java.util.zip.GZIPInputStream;
+
+/**
+ * 가져오기 파일 형식 (gzip 압축 여부는 내용으로 판단)
+ */
+public enum DumpFormat {
+    /** 첫 줄이 헤더인 RFC 4180 CSV (내보내기 CSV 그대로 가능) */
+    CSV,
+    /** 한 줄에 JSON 객체 하나 (playwright-crawler 의 책 객체, 내보내기 NDJSON 그대로 가능) */
+    NDJSON;
+
+    private static final int GZIP_MAGIC = 0x8b1f;
+
+    /**
+     * 요청 파라미터 ("csv", "ndjson") 를 형식으로 바꿉니다
+     *
+     * @throws IllegalArgumentException 지원하지 않는 형식
+     */
+    public static DumpFormat parse(String value) {
+        for (DumpFormat format : values()) {
+            if (format.name().equalsIgnoreCase(value)) {
+                return format;
+            }
+        }
+        throw new IllegalArgumentException("지원하지 않는 가져오기 형식입니다: " + value + " (csv, ndjson)");
+    }
+
+    /**
+     * 파일 이름으로 형식을 찾습니다 (.csv, .ndjson, .jsonl, 뒤에 .gz 허용)
+     *
+     * @throws IllegalArgumentException 알 수 없는 확장자
+     */
+    public static DumpFormat fromFileName(String fileName) {
+        String name = fileName.toLowerCase(Locale.ROOT);
+        if (name.endsWith(".gz")) {
+            name = name.substring(0, name.length() - 3);
+        }
+        if (name.endsWith(".csv")) {
+            return CSV;
+        }
+        if (name.endsWith(".ndjson") || name.endsWith(".jsonl")) {
+            return NDJSON;
+        }
+        throw new IllegalArgumentException("가져오기 형식을 알 수 없는 파일입니다: " + fileName);
+    }
+
+    /**
+     * in 을 읽는 reader 를 만듭니다 (gzip 이면 풀면서 읽음)
+     */
+    public DumpReader open(InputStream in, ObjectMapper objectMapper) throws IOException {
+        BufferedReader reader = new BufferedReader(
+                new InputStreamReader(decompress(in), StandardCharsets.UTF_8), 64 * 1024);
+        return switch (this) {
+            case CSV -> new CsvDumpReader(reader);
+            case NDJSON -> new NdjsonDumpReader(reader, objectMapper);
+        };
+    }
+
+    private static InputStream decompress(InputStream in) throws IOException {
+        PushbackInputStream pushback = new PushbackInputStream(in, 2);
+        byte[] magic = new byte[2];
+        int read = pushback.readNBytes(magic, 0, 2);
+        pushback.unread(magic, 0, read);
+        boolean gzip = read == 2 && ((magic[0] & 0xff) | (magic[1] & 0xff) << 8) == GZIP_MAGIC;
+        return gzip ? new GZIPInputStream(pushback, 64 * 1024) : pushback;
+    }
+}
@@ -0,0 +1,22 @@
+package com.tistory.glorygem.crawler.ingest;
+
+import java.io.IOException;
+
+/**
+ * 가져오기 파일을 한 건씩 읽는 reader (DumpFormat.open 으로 생성)
+ */
+public interface DumpReader {
+
+    /**
+     * 다음 레코드의 값을 DumpField 순서로 fields 에 채웁니다 (없는 필드는 null)
+     *
+     * @return 더 읽을 레코드가 없으면 false
+     * @throws IOException 읽기 실패나 형식 오류 (줄 번호 포함)
+     */
+    boolean next(String[] fields) throws IOException;
+
+    /**
+     * 지금까지 읽은 줄 수 (오류 메시지용)
+     */
+    long lineNumber();
+}
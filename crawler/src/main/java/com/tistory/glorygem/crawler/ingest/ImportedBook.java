@@ -0,0 +1,80 @@
+package com.tistory.glorygem.crawler.ingest;
+
+import com.tistory.glorygem.crawler.crawl.BookPageExtractor;
+
+import java.math.BigDecimal;
+
+/**
+ * 가져오기 파일의 레코드 하나를 Book 컬럼 형식으로 정리한 값
+ * 가격은 "£51.77" 같은 원문도 받고, 재고 수량이 없으면 availability 문자열에서 읽습니다
+ */
+public record ImportedBook(String title, BigDecimal price, String upc, String productType, String availability,
+                           Integer stockCount, Integer rating, Integer numberOfReviews, String description,
+                           String url, String categoryName) {
+
+    /** varchar(255) 컬럼 (title, upc, product_type, availability, category_name) */
+    static final int MAX_TEXT_LENGTH = 255;
+    static final int MAX_URL_LENGTH = 500;
+
+    /**
+     * DumpField 순서의 값으로 만듭니다
+     *
+     * @throws IllegalArgumentException 저장할 수 없는 레코드 (url / 제목 없음, 컬럼 길이 초과)
+     */
+    public static ImportedBook of(String[] fields) {
+        String url = text(fields, DumpField.URL);
+        String title = text(fields, DumpField.TITLE);
+        if (url == null) {
+            throw new IllegalArgumentException("url 이 없습니다");
+        }
+        if (title == null) {
+            throw new IllegalArgumentException("title 이 없습니다: " + url);
+        }
+        if (url.length() > MAX_URL_LENGTH) {
+            throw new IllegalArgumentException("url 이 너무 깁니다: " + url.substring(0, 80) + "...");
+        }
+
+        String availability = text(fields, DumpField.AVAILABILITY);
+        String price = text(fields, DumpField.PRICE);
+        Integer stockCount = number(fields, DumpField.STOCK_COUNT);
+        if (stockCount == null && availability != null) {
+            stockCount = BookPageExtractor.parseStockCount(availability);
+        }
+        Integer rating = number(fields, DumpField.RATING);
+        if (rating != null && (rating < 1 || rating > 5)) {
+            rating = null;
+        }
+
+        ImportedBook book = new ImportedBook(title, price != null ? BookPageExtractor.parsePrice(price) : null,
+                text(fields, DumpField.UPC), text(fields, DumpField.PRODUCT_TYPE), availability, stockCount, rating,
+                number(fields, DumpField.NUMBER_OF_REVIEWS), text(fields, DumpField.DESCRIPTION), url,
+                text(fields, DumpField.CATEGORY));
+        checkLength("title", book.title);
+        checkLength("upc", book.upc);
+        checkLength("product_type", book.productType);
+        checkLength("availability", book.availability);
+        checkLength("category", book.categoryName);
+        return book;
+    }
+
+    private static String text(String[] fields, DumpField field) {
+        String value = fields[field.ordinal()];
+        if (value == null) {
+            return null;
+        }
+        value = value.trim();
+        return value.isEmpty() ? null : value;
+    }
+
+    private static Integer number(String[] fields, DumpField field) {
+        String value = text(fields, field);
+        return value != null ? BookPageExtractor.parseCount(value) : null;
+    }
+
+    private static void checkLength(String column, String value) {
+        if (value != null && value.length() > MAX_TEXT_LENGTH) {
+            throw new IllegalArgumentException(column + " 이 " + MAX_TEXT_LENGTH + " 자를 넘습니다: "
+                    + value.substring(0, 80) + "...");
+        }
+    }
+}
@@ -0,0 +1,60 @@
+package com.tistory.glorygem.crawler.ingest;
+
+import tools.jackson.core.JacksonException;
+import tools.jackson.databind.JsonNode;
+import tools.jackson.databind.ObjectMapper;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.Map;
+
+/**
+ * 한 줄에 JSON 객체 하나 (모르는 키와 객체 / 배열 값은 무시)
+ */
+final class NdjsonDumpReader implements DumpReader {
+
+    private final BufferedReader reader;
+    private final ObjectMapper objectMapper;
+    private long lineNumber;
+
+    NdjsonDumpReader(BufferedReader reader, ObjectMapper objectMapper) {
+        this.reader = reader;
+        this.objectMapper = objectMapper;
+    }
+
+    @Override
+    public boolean next(String[] fields) throws IOException {
+        String line;
+        while ((line = reader.readLine()) != null) {
+            lineNumber++;
+            if (line.isBlank()) {
+                continue;
+            }
+            JsonNode node;
+            try {
+                node = objectMapper.readTree(line);
+            } catch (JacksonException e) {
+                throw new IOException("JSON 형식 오류 (" + lineNumber + " 번째 줄): " + e.getOriginalMessage(), e);
+            }
+            if (!node.isObject()) {
+                throw new IOException("JSON 객체가 아닙니다 (" + lineNumber + " 번째 줄)");
+            }
+            Arrays.fill(fields, null);
+            for (Map.Entry<String, JsonNode> property : node.properties()) {
+                DumpField field = DumpField.of(property.getKey());
+                JsonNode value = property.getValue();
+                if (field != null && value.isValueNode() && !value.isNull()) {
+                    fields[field.ordinal()] = value.asString();
+                }
+            }
+            return true;
+        }
+        return false;
+    }
+
+    @Override
+    public long lineNumber() {
+        return lineNumber;
+    }
+}
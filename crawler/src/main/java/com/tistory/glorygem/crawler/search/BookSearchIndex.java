@@ -0,0 +1,328 @@
+package com.tistory.glorygem.crawler.search;
+
+import com.tistory.glorygem.crawler.domain.entity.Book;
+import com.tistory.glorygem.crawler.domain.repository.BookRepository;
+import com.tistory.glorygem.crawler.domain.repository.BookText;
+import com.tistory.glorygem.crawler.event.BooksImportedEvent;
+import com.tistory.glorygem.crawler.event.BooksSavedEvent;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.stream.Stream;
+
+/**
+ * 책 제목 / 설명의 메모리 역색인 (BM25 순위)
+ *
+ * 단어마다 문서 번호와 빈도를 int 배열(Postings)로 보관하고, 검색은 질의 단어의 posting 만 훑어 점수를 더합니다
+ * 제목에 나온 단어는 TITLE_WEIGHT 번 나온 것으로 셉니다
+ * 시작 시 Book 테이블을 읽어 만들고, 이후에는 저장이 커밋된 책만 증분 반영합니다
+ * 갱신된 책은 이전 문서를 삭제 표시하고 새 번호로 추가하며, 삭제 표시가 많아지면 DB 에서 다시 만듭니다
+ */
+@Slf4j
+@Component
+public class BookSearchIndex {
+
+    static final double K1 = 1.2;
+    static final double B = 0.75;
+    static final int TITLE_WEIGHT = 2;
+    private static final double REBUILD_DELETED_RATIO = 0.3;
+    private static final int REBUILD_MIN_DELETED = 1_000;
+
+    private final BookRepository bookRepository;
+    private final TransactionTemplate readOnlyTransaction;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private final AtomicBoolean rebuilding = new AtomicBoolean();
+    private final AtomicBoolean rebuildRequested = new AtomicBoolean();  // 재색인 중 다시 요청됨 (끝난 뒤 한 번 더)
+    private final AtomicLong queries = new AtomicLong();
+
+    private volatile boolean loaded;
+    private Segment segment = new Segment();
+    private List<BookText> pendingDuringRebuild;  // 재색인 중 들어온 변경 (교체 직전에 다시 적용)
+
+    public BookSearchIndex(BookRepository bookRepository, TransactionTemplate transactionTemplate) {
+        this.bookRepository = bookRepository;
+        this.readOnlyTransaction = new TransactionTemplate(transactionTemplate.getTransactionManager());
+        this.readOnlyTransaction.setReadOnly(true);
+    }
+
+    /**
+     * 시작 후 별도 스레드에서 색인을 만듭니다 (만드는 동안의 검색은 빈 결과)
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void buildOnStartup() {
+        Thread.ofVirtual().name("book-search-index").start(this::rebuild);
+    }
+
+    /**
+     * Book 테이블 전체를 DB 커서로 읽어 새 색인을 만든 뒤 교체합니다
+     * 만드는 동안 저장된 책은 따로 모아 두었다가 교체 직전에 새 색인에 다시 반영합니다
+     */
+    public void rebuild() {
+        if (!rebuilding.compareAndSet(false, true)) {
+            rebuildRequested.set(true);
+            return;
+        }
+        long startedAt = System.nanoTime();
+        lock.writeLock().lock();
+        try {
+            pendingDuringRebuild = new ArrayList<>();
+        } finally {
+            lock.writeLock().unlock();
+        }
+        try {
+            Segment fresh = new Segment();
+            readOnlyTransaction.executeWithoutResult(status -> {
+                try (Stream<BookText> texts = bookRepository.streamAllTexts()) {
+                    texts.forEach(text -> fresh.add(text.uuidBook(), text.title(), text.description()));
+                }
+            });
+
+            lock.writeLock().lock();
+            try {
+                for (BookText text : pendingDuringRebuild) {
+                    fresh.add(text.uuidBook(), text.title(), text.description());
+                }
+                segment = fresh;
+                loaded = true;
+            } finally {
+                pendingDuringRebuild = null;
+                lock.writeLock().unlock();
+            }
+            log.info("검색 색인 생성 완료: {} 건, {} 개 단어, {} KB, {} ms", fresh.liveCount, fresh.postings.size(),
+                    fresh.memoryBytes() / 1024, (System.nanoTime() - startedAt) / 1_000_000);
+        } catch (RuntimeException e) {
+            lock.writeLock().lock();
+            try {
+                pendingDuringRebuild = null;
+            } finally {
+                lock.writeLock().unlock();
+            }
+            log.error("검색 색인 생성 실패", e);
+        } finally {
+            rebuilding.set(false);
+        }
+        if (rebuildRequested.getAndSet(false)) {
+            rebuild();
+        }
+    }
+
+    /**
+     * 저장이 커밋된 책을 색인에 반영합니다
+     * 설명 없이 갱신된 책 (목록 페이지 재저장) 은 DB 의 기존 설명이 유지되므로 이미 색인된 문서를 그대로 둡니다
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onBooksSaved(BooksSavedEvent event) {
+        boolean rebuildNeeded;
+        lock.writeLock().lock();
+        try {
+            for (Book book : event.inserted()) {
+                index(book);
+            }
+            for (Book book : event.updated()) {
+                if (book.getDescription() != null || !segment.contains(book.getUuidBook())) {
+                    index(book);
+                }
+            }
+            rebuildNeeded = segment.deletedCount >= REBUILD_MIN_DELETED
+                    && segment.deletedCount > segment.docCount * REBUILD_DELETED_RATIO;
+        } finally {
+            lock.writeLock().unlock();
+        }
+        if (rebuildNeeded && !rebuilding.get()) {
+            Thread.ofVirtual().name("book-search-index").start(this::rebuild);
+        }
+    }
+
+    /**
+     * 일괄 가져오기 후에는 DB 에서 색인을 다시 만듭니다 (만드는 동안은 이전 색인으로 검색)
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onBooksImported(BooksImportedEvent event) {
+        Thread.ofVirtual().name("book-search-index").start(this::rebuild);
+    }
+
+    /**
+     * 질의어를 포함하는 책을 BM25 점수 순으로 최대 limit 건 반환합니다
+     */
+    public List<SearchHit> search(String query, int limit) {
+        queries.incrementAndGet();
+        List<String> terms = new ArrayList<>(new LinkedHashSet<>(Tokenizer.tokenize(query)));
+        if (terms.isEmpty() || limit <= 0) {
+            return List.of();
+        }
+        lock.readLock().lock();
+        try {
+            return segment.search(terms, limit);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public boolean isLoaded() {
+        return loaded;
+    }
+
+    /**
+     * 색인 크기와 삭제 표시 비율
+     */
+    public Map<String, Object> getStats() {
+        lock.readLock().lock();
+        try {
+            Map<String, Object> stats = new HashMap<>();
+            stats.put("loaded", loaded);
+            stats.put("rebuilding", rebuilding.get());
+            stats.put("documents", segment.liveCount);
+            stats.put("deletedDocuments", segment.deletedCount);
+            stats.put("terms", segment.postings.size());
+            stats.put("memoryBytes", segment.memoryBytes());
+            stats.put("queries", queries.get());
+            return stats;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private void index(Book book) {
+        if (book.getUuidBook() == null) {
+            return;
+        }
+        segment.add(book.getUuidBook(), book.getTitle(), book.getDescription());
+        if (pendingDuringRebuild != null) {
+            pendingDuringRebuild.add(new BookText(book.getUuidBook(), book.getTitle(), book.getDescription()));
+        }
+    }
+
+    /**
+     * 색인 한 벌 (문서 번호는 추가 순서, 삭제는 표시만 하고 재색인 때 정리)
+     * 잠금은 BookSearchIndex 가 담당합니다
+     */
+    private static final class Segment {
+
+        private final Map<String, Postings> postings = new HashMap<>();
+        private final Map<UUID, Integer> docByUuid = new HashMap<>();
+        private final BitSet deleted = new BitSet();
+        private UUID[] uuids = new UUID[1024];
+        private int[] lengths = new int[1024];
+        private int docCount;
+        private int liveCount;
+        private int deletedCount;
+        private long totalLength;
+
+        boolean contains(UUID uuid) {
+            return docByUuid.containsKey(uuid);
+        }
+
+        void add(UUID uuid, String title, String description) {
+            Integer previous = docByUuid.get(uuid);
+            if (previous != null) {
+                deleted.set(previous);
+                totalLength -= lengths[previous];
+                liveCount--;
+                deletedCount++;
+            }
+            if (docCount == Postings.MAX_DOCS) {
+                throw new IllegalStateException("검색 색인 문서 수 한도 초과: " + docCount);
+            }
+
+            Map<String, int[]> frequencies = new HashMap<>();
+            int length = 0;
+            for (String term : Tokenizer.tokenize(title)) {
+                frequencies.computeIfAbsent(term, t -> new int[1])[0] += TITLE_WEIGHT;
+                length += TITLE_WEIGHT;
+            }
+            for (String term : Tokenizer.tokenize(description)) {
+                frequencies.computeIfAbsent(term, t -> new int[1])[0]++;
+                length++;
+            }
+
+            int doc = docCount++;
+            if (doc == uuids.length) {
+                uuids = Arrays.copyOf(uuids, doc * 2);
+                lengths = Arrays.copyOf(lengths, doc * 2);
+            }
+            uuids[doc] = uuid;
+            lengths[doc] = length;
+            docByUuid.put(uuid, doc);
+            liveCount++;
+            totalLength += length;
+            for (Map.Entry<String, int[]> entry : frequencies.entrySet()) {
+                postings.computeIfAbsent(entry.getKey(), t -> new Postings()).add(doc, entry.getValue()[0]);
+            }
+        }
+
+        /**
+         * 단어마다 posting 을 한 번씩 훑어 문서별 점수를 더한 뒤 상위 limit 건을 고릅니다
+         * 문서 빈도(df)에는 삭제 표시된 문서도 포함되지만 재색인 전까지의 근사치로 둡니다
+         */
+        List<SearchHit> search(List<String> terms, int limit) {
+            if (liveCount == 0) {
+                return List.of();
+            }
+            double averageLength = Math.max(1.0, (double) totalLength / liveCount);
+            float[] scores = new float[docCount];
+            for (String term : terms) {
+                Postings list = postings.get(term);
+                if (list == null) {
+                    continue;
+                }
+                int df = list.size();
+                double idf = Math.log(1 + (liveCount - df + 0.5) / (df + 0.5));
+                for (int i = 0; i < df; i++) {
+                    int doc = list.doc(i);
+                    if (deleted.get(doc)) {
+                        continue;
+                    }
+                    int tf = list.freq(i);
+                    double norm = K1 * (1 - B + B * lengths[doc] / averageLength);
+                    scores[doc] += (float) (idf * tf * (K1 + 1) / (tf + norm));
+                }
+            }
+
+            PriorityQueue<Integer> top = new PriorityQueue<>(limit + 1,
+                    (a, b) -> Float.compare(scores[a], scores[b]));
+            for (int doc = 0; doc < docCount; doc++) {
+                if (scores[doc] <= 0) {
+                    continue;
+                }
+                if (top.size() < limit) {
+                    top.add(doc);
+                } else if (scores[doc] > scores[top.peek()]) {
+                    top.poll();
+                    top.add(doc);
+                }
+            }
+            SearchHit[] hits = new SearchHit[top.size()];
+            for (int i = hits.length - 1; i >= 0; i--) {
+                int doc = top.poll();
+                hits[i] = new SearchHit(uuids[doc], scores[doc]);
+            }
+            return List.of(hits);
+        }
+
+        long memoryBytes() {
+            long bytes = 8L * uuids.length + 4L * lengths.length + deleted.size() / 8;
+            bytes += 64L * docByUuid.size();  // UUID 키와 HashMap 항목 근사치
+            for (Map.Entry<String, Postings> entry : postings.entrySet()) {
+                bytes += 48L + 2L * entry.getKey().length() + entry.getValue().memoryBytes();
+            }
+            return bytes;
+        }
+    }
+}
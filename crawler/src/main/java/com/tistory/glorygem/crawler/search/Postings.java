@@ -0,0 +1,40 @@
+package com.tistory.glorygem.crawler.search;
+
+/**
+ * 단어 하나의 posting 목록 (문서 번호 오름차순)
+ * 문서 번호와 빈도를 int 하나에 담습니다 (상위 24bit 문서 번호, 하위 8bit 빈도, 빈도는 255 에서 자름)
+ */
+final class Postings {
+
+    static final int MAX_DOCS = 1 << 24;
+    private static final int FREQ_BITS = 8;
+    private static final int MAX_FREQ = (1 << FREQ_BITS) - 1;
+
+    private int[] entries = new int[2];
+    private int size;
+
+    void add(int doc, int freq) {
+        if (size == entries.length) {
+            int[] grown = new int[entries.length + (entries.length >> 1) + 1];
+            System.arraycopy(entries, 0, grown, 0, size);
+            entries = grown;
+        }
+        entries[size++] = doc << FREQ_BITS | Math.min(freq, MAX_FREQ);
+    }
+
+    int size() {
+        return size;
+    }
+
+    int doc(int index) {
+        return entries[index] >>> FREQ_BITS;
+    }
+
+    int freq(int index) {
+        return entries[index] & MAX_FREQ;
+    }
+
+    long memoryBytes() {
+        return 16L + 4L * entries.length;
+    }
+}
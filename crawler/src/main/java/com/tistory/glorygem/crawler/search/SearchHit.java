@@ -0,0 +1,9 @@
+package com.tistory.glorygem.crawler.search;
+
+import java.util.UUID;
+
+/**
+ * 검색 결과 한 건 (책 uuid, BM25 점수)
+ */
+public record SearchHit(UUID uuidBook, double score) {
+}
@@ -1,91 +1,112 @@
 package com.tistory.glorygem.crawler.service;
 
+import com.tistory.glorygem.crawler.config.CrawlerProperties;
+import com.tistory.glorygem.crawler.crawl.BookPageExtractor;
+import com.tistory.glorygem.crawler.crawl.BookPageExtractor.CategoryLink;
+import com.tistory.glorygem.crawler.crawl.PageFetcher;
 import com.tistory.glorygem.crawler.domain.entity.BookCategory;
+import com.tistory.glorygem.crawler.domain.repository.BookCategoryBulkRepository;
 import com.tistory.glorygem.crawler.domain.repository.BookCategoryRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.jsoup.Jsoup;
 import org.jsoup.nodes.Document;
-import org.jsoup.nodes.Element;
-import org.jsoup.select.Elements;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.io.IOException;
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 
 @Slf4j
 @Service
 @RequiredArgsConstructor
 public class BookCategoryService {
 
-    private static final String BASE_URL = "https://books.toscrape.com";
-    private static final int TIMEOUT = 10000;
-
     private final BookCategoryRepository bookCategoryRepository;
+    private final BookCategoryBulkRepository bookCategoryBulkRepository;
+    private final PageFetcher pageFetcher;
+    private final BookPageExtractor bookPageExtractor;
+    private final CrawlerProperties properties;
+    private final CatalogCache catalogCache;
 
     /**
-     * 모든 카테고리 정보를 크롤링하여 DB에 저장합니다
+     * 메인 페이지의 카테고리 정보를 크롤링하여 DB와 동기화합니다
+     * 저장된 카테고리를 한 번에 읽고, 새 카테고리와 경로가 바뀐 카테고리만 한 번의 upsert 로 저장합니다
+     * 반환 목록은 페이지의 카테고리 순서를 따르며 모두 url_path 가 채워져 있습니다
      */
-    @Transactional
     public List<BookCategory> crawlAndSaveCategories() throws IOException {
         log.info("카테고리 크롤링 시작");
-        List<BookCategory> categories = new ArrayList<>();
-
-        Document doc = Jsoup.connect(BASE_URL)
-                .timeout(TIMEOUT)
-                .userAgent("Mozilla/5.0")
-                .get();
-
-        Elements categoryElements = doc.select("div.side_categories ul.nav-list li ul li a");
-
-        for (Element element : categoryElements) {
-            String categoryName = element.text().trim();
+        Document doc = pageFetcher.fetch(properties.getBaseUrl());
+        List<CategoryLink> links = bookPageExtractor.categoryLinks(doc);
 
-            // 중복 체크
-            if (!bookCategoryRepository.existsByCategoryName(categoryName)) {
-                BookCategory category = new BookCategory();
-                category.setCategoryName(categoryName);
+        Map<String, BookCategory> stored = new HashMap<>();
+        for (BookCategory category : bookCategoryRepository.findAll()) {
+            stored.put(category.getCategoryName(), category);
+        }
 
-                BookCategory savedCategory = bookCategoryRepository.save(category);
-                categories.add(savedCategory);
-                log.info("새 카테고리 저장: {}", categoryName);
-            } else {
-                BookCategory existingCategory = bookCategoryRepository
-                        .findByCategoryName(categoryName)
-                        .orElseThrow();
-                categories.add(existingCategory);
-                log.info("기존 카테고리 발견: {}", categoryName);
+        List<BookCategory> categories = new ArrayList<>(links.size());
+        List<BookCategory> changed = new ArrayList<>();
+        for (CategoryLink link : links) {
+            BookCategory category = stored.get(link.name());
+            if (category == null) {
+                category = new BookCategory();
+                category.setCategoryName(link.name());
+                category.setUrlPath(link.urlPath());
+                changed.add(category);
+                log.info("새 카테고리 저장: {}", link.name());
+            } else if (!Objects.equals(category.getUrlPath(), link.urlPath())) {
+                category.setUrlPath(link.urlPath());
+                changed.add(category);
             }
+            categories.add(category);
         }
 
-        log.info("총 {} 개의 카테고리 처리 완료", categories.size());
+        if (!changed.isEmpty()) {
+            bookCategoryBulkRepository.upsert(changed);
+            catalogCache.invalidateCategories();
+        }
+        log.info("총 {} 개의 카테고리 처리 완료 (신규 / 경로 변경 {} 개)", categories.size(), changed.size());
         return categories;
     }
 
     /**
-     * 모든 카테고리 조회
+     * 모든 카테고리 조회 (캐시)
      */
-    @Transactional(readOnly = true)
     public List<BookCategory> getAllCategories() {
-        return bookCategoryRepository.findAll();
+        return catalogCache.allCategories(bookCategoryRepository::findAll);
     }
 
     /**
-     * 카테고리명으로 조회
+     * 카테고리 개수 조회
      */
     @Transactional(readOnly = true)
+    public long countCategories() {
+        return bookCategoryRepository.count();
+    }
+
+    /**
+     * 카테고리명으로 조회 (캐시)
+     */
     public BookCategory getCategoryByName(String categoryName) {
-        return bookCategoryRepository.findByCategoryName(categoryName)
-                .orElseThrow(() -> new IllegalArgumentException("카테고리를 찾을 수 없습니다: " + categoryName));
+        BookCategory category = findCategory(categoryName);
+        if (category == null) {
+            throw new IllegalArgumentException("카테고리를 찾을 수 없습니다: " + categoryName);
+        }
+        return category;
     }
 
     /**
-     * 카테고리가 존재하는지 확인
+     * 카테고리가 존재하는지 확인 (캐시)
      */
-    @Transactional(readOnly = true)
     public boolean existsCategory(String categoryName) {
-        return bookCategoryRepository.existsByCategoryName(categoryName);
+        return findCategory(categoryName) != null;
+    }
+
+    private BookCategory findCategory(String categoryName) {
+        return catalogCache.category(categoryName,
+                name -> bookCategoryRepository.findByCategoryName(name).orElse(null));
     }
 }
\ No newline at end of file
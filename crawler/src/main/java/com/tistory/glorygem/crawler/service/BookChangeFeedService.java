@@ -0,0 +1,152 @@
+package com.tistory.glorygem.crawler.service;
+
+import com.tistory.glorygem.crawler.config.CrawlerProperties;
+import com.tistory.glorygem.crawler.feed.BookChange;
+import com.tistory.glorygem.crawler.feed.BookChangeFeed;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter.DataWithMediaType;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 책 변경 피드를 Server-Sent Events 로 내보내는 구독 관리자
+ *
+ * 구독자마다 가상 스레드 하나가 링 버퍼에서 자기 순번 이후를 batchSize 건씩 읽어 한 번에 보내므로,
+ * 구독자별로 쌓이는 메모리는 한 batch 뿐이고 느린 구독자는 자기 스레드만 막습니다
+ * 링에서 밀려날 만큼 뒤처지면 reset 이벤트를 보내고 최신 순번부터 이어갑니다 (클라이언트는 목록을 다시 읽음)
+ */
+@Slf4j
+@Service
+public class BookChangeFeedService {
+
+    private static final long SSE_TIMEOUT_MILLIS = TimeUnit.HOURS.toMillis(1);
+    private static final long RECONNECT_MILLIS = 3000;
+
+    private final BookChangeFeed feed;
+    private final int maxSubscribers;
+    private final int batchSize;
+    private final long heartbeatNanos;
+
+    private final Map<SseEmitter, Thread> subscribers = new ConcurrentHashMap<>();
+    private final AtomicLong sentChanges = new AtomicLong();
+    private final AtomicLong resets = new AtomicLong();
+
+    public BookChangeFeedService(BookChangeFeed feed, CrawlerProperties properties) {
+        this.feed = feed;
+        this.maxSubscribers = properties.getFeed().getMaxSubscribers();
+        this.batchSize = Math.max(1, properties.getFeed().getBatchSize());
+        this.heartbeatNanos = TimeUnit.SECONDS.toNanos(Math.max(1, properties.getFeed().getHeartbeatSeconds()));
+    }
+
+    /**
+     * lastEventId 다음 변경부터 구독합니다 (없으면 지금 이후의 변경만)
+     *
+     * @throws IllegalStateException 구독자 수 한도 초과
+     */
+    public SseEmitter subscribe(String lastEventId) {
+        if (subscribers.size() >= maxSubscribers) {
+            throw new IllegalStateException("변경 피드 구독자 수 한도 초과: " + maxSubscribers);
+        }
+        long cursor = lastEventId == null || lastEventId.isBlank()
+                ? feed.latestSequence()
+                : feed.sequenceOf(lastEventId.trim());
+
+        SseEmitter emitter = new SseEmitter(SSE_TIMEOUT_MILLIS);
+        Thread streamer = Thread.ofVirtual().name("book-change-feed-sse").unstarted(() -> stream(emitter, cursor));
+        subscribers.put(emitter, streamer);
+        emitter.onCompletion(() -> stop(emitter));
+        emitter.onTimeout(() -> stop(emitter));
+        emitter.onError(e -> stop(emitter));
+        streamer.start();
+        return emitter;
+    }
+
+    public Map<String, Object> getStats() {
+        Map<String, Object> stats = new HashMap<>(feed.getStats());
+        stats.put("subscribers", subscribers.size());
+        stats.put("maxSubscribers", maxSubscribers);
+        stats.put("sentChanges", sentChanges.get());
+        stats.put("resets", resets.get());
+        return stats;
+    }
+
+    /**
+     * 구독자 하나의 전송 루프 (연결이 끊기거나 서버가 종료될 때까지)
+     */
+    private void stream(SseEmitter emitter, long cursor) {
+        try {
+            if (cursor < 0) {
+                cursor = reset(emitter);
+            } else {
+                emitter.send(SseEmitter.event().reconnectTime(RECONNECT_MILLIS).comment("subscribed"));
+            }
+            while (subscribers.containsKey(emitter)) {
+                if (feed.awaitAfter(cursor, heartbeatNanos) <= cursor) {
+                    emitter.send(SseEmitter.event().comment("heartbeat"));
+                    continue;
+                }
+                BookChangeFeed.Slice slice = feed.readAfter(cursor, batchSize);
+                if (slice.truncated()) {
+                    cursor = reset(emitter);
+                    continue;
+                }
+                Set<DataWithMediaType> batch = new LinkedHashSet<>();
+                for (BookChange change : slice.changes()) {
+                    batch.addAll(SseEmitter.event()
+                            .id(feed.eventId(change.sequence()))
+                            .name(change.type() == BookChange.Type.RESYNC ? "reset" : "change")
+                            .data(change, MediaType.APPLICATION_JSON)
+                            .build());
+                    cursor = change.sequence();
+                }
+                emitter.send(batch);
+                sentChanges.addAndGet(slice.changes().size());
+            }
+        } catch (InterruptedException e) {
+            emitter.complete();
+        } catch (IOException | IllegalStateException e) {
+            log.debug("변경 피드 구독 종료: {}", e.getMessage());
+            emitter.completeWithError(e);
+        } finally {
+            subscribers.remove(emitter);
+        }
+    }
+
+    /**
+     * 이어 보낼 수 없는 구독자에게 reset 을 보내고 최신 순번을 새 위치로 반환합니다
+     */
+    private long reset(SseEmitter emitter) throws IOException {
+        resets.incrementAndGet();
+        long latest = feed.latestSequence();
+        emitter.send(SseEmitter.event()
+                .id(feed.eventId(latest))
+                .name("reset")
+                .reconnectTime(RECONNECT_MILLIS)
+                .data(Map.of("latestSequence", latest), MediaType.APPLICATION_JSON));
+        return latest;
+    }
+
+    private void stop(SseEmitter emitter) {
+        Thread streamer = subscribers.remove(emitter);
+        if (streamer != null) {
+            streamer.interrupt();
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        subscribers.keySet().forEach(SseEmitter::complete);
+        subscribers.values().forEach(Thread::interrupt);
+    }
+}
@@ -0,0 +1,151 @@
+package com.tistory.glorygem.crawler.service;
+
+import com.tistory.glorygem.crawler.config.CrawlerProperties;
+import com.tistory.glorygem.crawler.domain.repository.BookRepository;
+import com.tistory.glorygem.crawler.domain.repository.BookRow;
+import com.tistory.glorygem.crawler.export.BookExportWriter;
+import com.tistory.glorygem.crawler.export.ExportFormat;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import tools.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+
+/**
+ * Book 테이블을 DB 커서로 읽어 스트리밍합니다 (NDJSON 스트리밍 응답과 파일 내보내기가 같은 경로를 사용)
+ * 엔티티 대신 projection 을 한 건씩만 메모리에 두므로 행 수와 관계없이 메모리 사용량이 일정합니다
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class BookExportService {
+
+    private static final Pattern EXPORT_FILE_NAME = Pattern.compile("[A-Za-z0-9._-]+");
+    private static final DateTimeFormatter FILE_TIMESTAMP = DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss");
+
+    private final BookRepository bookRepository;
+    private final ObjectMapper objectMapper;
+    private final CrawlerProperties properties;
+
+    /**
+     * 모든 책을 NDJSON (한 줄에 JSON 하나, 압축 없음) 으로 출력합니다
+     * 내보내기 NDJSON 과 같은 writer 와 DB 커서를 사용합니다
+     */
+    @Transactional(readOnly = true)
+    public long writeNdjson(OutputStream out) throws IOException {
+        long count = writeAll(ExportFormat.openNdjson(out, objectMapper));
+        out.flush();
+        log.info("NDJSON 스트리밍 완료: {} 건", count);
+        return count;
+    }
+
+    /**
+     * 모든 책을 format 형식(gzip)으로 출력하고 출력한 건수를 반환합니다
+     * 엔티티 대신 projection 을 DB 커서로 읽으므로 영속성 컨텍스트에 아무것도 쌓이지 않습니다
+     */
+    @Transactional(readOnly = true)
+    public long export(ExportFormat format, OutputStream out) throws IOException {
+        long startedAt = System.nanoTime();
+        long count = writeAll(format.open(out, objectMapper));
+        out.flush();
+        log.info("{} 내보내기 완료: {} 건, {} ms", format, count, (System.nanoTime() - startedAt) / 1_000_000);
+        return count;
+    }
+
+    /**
+     * 모든 책의 projection 을 DB 커서로 읽어 writer 에 쓰고 finish 합니다
+     */
+    private long writeAll(BookExportWriter writer) throws IOException {
+        long count = 0;
+        try (Stream<BookRow> rows = bookRepository.streamAllRows()) {
+            for (BookRow row : (Iterable<BookRow>) rows::iterator) {
+                writer.write(row);
+                count++;
+            }
+        }
+        writer.finish();
+        return count;
+    }
+
+    /**
+     * 내보내기 디렉터리에 파일로 내보냅니다
+     * 임시 파일에 다 쓴 뒤 이름을 바꾸므로 내려받는 쪽이 쓰는 중인 파일을 보지 않습니다
+     */
+    @Transactional(readOnly = true)
+    public Path exportToFile(ExportFormat format, Path target) throws IOException {
+        Path file = target != null ? target
+                : exportDirectory().resolve("books-" + LocalDateTime.now().format(FILE_TIMESTAMP) + "." + format.getExtension());
+        Path parent = file.toAbsolutePath().getParent();
+        Files.createDirectories(parent);
+        Path temp = Files.createTempFile(parent, ".export-", ".tmp");
+        try {
+            try (OutputStream out = Files.newOutputStream(temp)) {
+                export(format, out);
+            }
+            Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+        return file;
+    }
+
+    /**
+     * 내보내기 디렉터리의 파일 목록 (이름, 크기)
+     */
+    public List<Map<String, Object>> listExportFiles() throws IOException {
+        List<Map<String, Object>> files = new ArrayList<>();
+        Path directory = exportDirectory();
+        if (!Files.isDirectory(directory)) {
+            return files;
+        }
+        try (DirectoryStream<Path> entries = Files.newDirectoryStream(directory)) {
+            for (Path entry : entries) {
+                String name = entry.getFileName().toString();
+                if (ExportFormat.fromFileName(name) != null && Files.isRegularFile(entry)) {
+                    Map<String, Object> file = new HashMap<>();
+                    file.put("name", name);
+                    file.put("bytes", Files.size(entry));
+                    files.add(file);
+                }
+            }
+        }
+        return files;
+    }
+
+    /**
+     * 내려받을 내보내기 파일 경로 (디렉터리 밖을 가리키는 이름은 거부)
+     *
+     * @throws IllegalArgumentException 허용하지 않는 파일 이름
+     * @throws NoSuchFileException      파일이 없음
+     */
+    public Path resolveExportFile(String name) throws NoSuchFileException {
+        if (!EXPORT_FILE_NAME.matcher(name).matches() || name.startsWith(".") || ExportFormat.fromFileName(name) == null) {
+            throw new IllegalArgumentException("내보내기 파일 이름이 아닙니다: " + name);
+        }
+        Path file = exportDirectory().resolve(name);
+        if (!Files.isRegularFile(file)) {
+            throw new NoSuchFileException(name);
+        }
+        return file;
+    }
+
+    private Path exportDirectory() {
+        return Path.of(properties.getExport().getDirectory()).toAbsolutePath().normalize();
+    }
+}
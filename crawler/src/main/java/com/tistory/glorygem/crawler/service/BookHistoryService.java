@@ -0,0 +1,162 @@
+package com.tistory.glorygem.crawler.service;
+
+import com.tistory.glorygem.crawler.domain.dto.BookPriceHistoryDTO;
+import com.tistory.glorygem.crawler.domain.dto.CategoryPriceTrendDTO;
+import com.tistory.glorygem.crawler.domain.entity.Book;
+import com.tistory.glorygem.crawler.domain.entity.BookCategory;
+import com.tistory.glorygem.crawler.domain.repository.BookPriceHistoryRepository;
+import com.tistory.glorygem.crawler.domain.repository.BookPriceHistoryRepository.PricePoint;
+import com.tistory.glorygem.crawler.domain.repository.BookPriceHistoryRepository.TrendBucket;
+import com.tistory.glorygem.crawler.domain.repository.BookRepository;
+import com.tistory.glorygem.crawler.event.BooksImportedEvent;
+import com.tistory.glorygem.crawler.event.BooksSavedEvent;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * 책 가격 / 재고 이력
+ * 저장이 커밋될 때마다 저장된 책만 마지막 이력과 비교해 달라진 값을 한 문장으로 추가하고 (BookPriceHistoryRepository),
+ * 책별 이력과 카테고리별 변화 추이를 조회합니다
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class BookHistoryService {
+
+    /** 조회 기간 상한 (일) */
+    public static final int MAX_DAYS = 3650;
+
+    /** 추이 집계 단위 (date_trunc) */
+    private static final Set<String> TREND_UNITS = Set.of("day", "week", "month");
+
+    private final BookPriceHistoryRepository bookPriceHistoryRepository;
+    private final BookRepository bookRepository;
+    private final BookCategoryService bookCategoryService;
+
+    /**
+     * 이력이 없는 책 (기능 도입 전에 저장된 책) 의 현재 값을 기준 이력으로 남깁니다
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void recordBaseline() {
+        int recorded = bookPriceHistoryRepository.recordMissing();
+        if (recorded > 0) {
+            log.info("가격 이력 기준값 기록: {} 건", recorded);
+        }
+    }
+
+    /**
+     * 이력 기록이 실패해도 크롤링 저장에는 영향을 주지 않습니다 (다음 저장 때 다시 비교됨)
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public void onBooksSaved(BooksSavedEvent event) {
+        List<UUID> uuidBooks = new ArrayList<>(event.inserted().size() + event.updated().size());
+        for (Book book : event.inserted()) {
+            uuidBooks.add(book.getUuidBook());
+        }
+        for (Book book : event.updated()) {
+            uuidBooks.add(book.getUuidBook());
+        }
+        uuidBooks.removeIf(uuid -> uuid == null);
+        try {
+            int recorded = bookPriceHistoryRepository.recordChanges(uuidBooks);
+            log.debug("가격 이력 {} 건 기록 (저장 {} 권)", recorded, uuidBooks.size());
+        } catch (DataAccessException e) {
+            log.error("가격 이력 기록 실패 ({} 권): {}", uuidBooks.size(), e.getMessage());
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public void onBooksImported(BooksImportedEvent event) {
+        try {
+            log.info("가져오기 후 가격 이력 {} 건 기록", bookPriceHistoryRepository.recordAll());
+        } catch (DataAccessException e) {
+            log.error("가져오기 후 가격 이력 기록 실패: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 책 한 권의 최근 days 일 이력 (시간순, 최대 limit 건, 책이 없으면 empty)
+     */
+    @Transactional(readOnly = true)
+    public Optional<List<BookPriceHistoryDTO>> getHistory(UUID uuidBook, int days, int limit) {
+        if (!bookRepository.existsById(uuidBook)) {
+            return Optional.empty();
+        }
+        LocalDateTime from = LocalDateTime.now().minusDays(days);
+        List<PricePoint> points = bookPriceHistoryRepository.findHistory(uuidBook, from, limit);
+
+        List<BookPriceHistoryDTO> history = new ArrayList<>(points.size());
+        PricePoint previous = null;
+        for (PricePoint point : points) {
+            if (!point.recordedAt().isBefore(from)) {
+                history.add(toDTO(point, previous));
+            }
+            previous = point;
+        }
+        return Optional.of(history);
+    }
+
+    /**
+     * 카테고리의 최근 days 일 가격 / 재고 변화를 unit 단위로 집계합니다
+     *
+     * @throws IllegalArgumentException 없는 카테고리나 알 수 없는 집계 단위
+     */
+    @Transactional(readOnly = true)
+    public List<CategoryPriceTrendDTO> getCategoryTrend(String categoryName, int days, String unit) {
+        if (!TREND_UNITS.contains(unit)) {
+            throw new IllegalArgumentException("알 수 없는 집계 단위: " + unit + " (day / week / month)");
+        }
+        BookCategory category = bookCategoryService.getCategoryByName(categoryName);
+        List<TrendBucket> buckets = bookPriceHistoryRepository.findCategoryTrend(
+                category.getUuidBookCategory(), LocalDateTime.now().minusDays(days), unit);
+        return buckets.stream()
+                .map(bucket -> CategoryPriceTrendDTO.builder()
+                        .bucket(bucket.bucket())
+                        .booksChanged(bucket.booksChanged())
+                        .priceChanges(bucket.priceChanges())
+                        .priceIncreases(bucket.priceIncreases())
+                        .priceDecreases(bucket.priceDecreases())
+                        .avgChangePercent(bucket.avgChangePercent())
+                        .stockChanges(bucket.stockChanges())
+                        .soldOut(bucket.soldOut())
+                        .build())
+                .toList();
+    }
+
+    static BookPriceHistoryDTO toDTO(PricePoint point, PricePoint previous) {
+        BookPriceHistoryDTO.BookPriceHistoryDTOBuilder dto = BookPriceHistoryDTO.builder()
+                .recordedAt(point.recordedAt())
+                .price(cents(point.priceCents()))
+                .stockCount(point.stockCount());
+        if (previous != null) {
+            if (point.priceCents() != null && previous.priceCents() != null) {
+                dto.priceChange(cents(point.priceCents() - previous.priceCents()));
+            }
+            if (point.stockCount() != null && previous.stockCount() != null) {
+                dto.stockChange(point.stockCount() - previous.stockCount());
+            }
+        }
+        return dto.build();
+    }
+
+    private static BigDecimal cents(Integer cents) {
+        return cents != null ? BigDecimal.valueOf(cents, 2) : null;
+    }
+}
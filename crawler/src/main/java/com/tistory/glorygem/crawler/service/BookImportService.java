@@ -0,0 +1,89 @@
+package com.tistory.glorygem.crawler.service;
+
+import com.tistory.glorygem.crawler.domain.dto.ImportResultDTO;
+import com.tistory.glorygem.crawler.domain.repository.BookImportRepository;
+import com.tistory.glorygem.crawler.event.BooksImportedEvent;
+import com.tistory.glorygem.crawler.ingest.DumpField;
+import com.tistory.glorygem.crawler.ingest.DumpFormat;
+import com.tistory.glorygem.crawler.ingest.DumpReader;
+import com.tistory.glorygem.crawler.ingest.ImportedBook;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import tools.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * playwright-crawler 등 외부 크롤러의 결과 파일(CSV / NDJSON)을 일괄 가져옵니다
+ *
+ * 파일을 한 건씩 읽어 PostgreSQL COPY 로 임시 테이블에 흘려 넣고,
+ * INSERT ... SELECT ... ON CONFLICT 한 번으로 카테고리 연결과 Book upsert 를 끝냅니다
+ * 전체가 한 트랜잭션이므로 중간에 실패하면 아무것도 반영되지 않습니다
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class BookImportService {
+
+    private static final int MAX_REJECTED_SAMPLES = 20;
+
+    private final BookImportRepository bookImportRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final ObjectMapper objectMapper;
+
+    /**
+     * @throws IOException 파일 형식 오류 (줄 번호 포함), 이 경우 트랜잭션은 롤백됩니다
+     */
+    @Transactional(rollbackFor = {IOException.class, SQLException.class})
+    public ImportResultDTO importDump(DumpFormat format, InputStream in) throws IOException, SQLException {
+        long startedAt = System.nanoTime();
+        DumpReader reader = format.open(in, objectMapper);
+        String[] fields = new String[DumpField.values().length];
+        long read = 0;
+        long rejected = 0;
+        List<String> rejectedSamples = new ArrayList<>();
+
+        try (BookImportRepository.StagingWriter staging = bookImportRepository.openStaging()) {
+            while (reader.next(fields)) {
+                read++;
+                try {
+                    staging.write(ImportedBook.of(fields));
+                } catch (IllegalArgumentException e) {
+                    rejected++;
+                    if (rejectedSamples.size() < MAX_REJECTED_SAMPLES) {
+                        rejectedSamples.add(reader.lineNumber() + ": " + e.getMessage());
+                    }
+                }
+            }
+        }
+        long copiedAt = System.nanoTime();
+
+        BookImportRepository.MergeResult merged = bookImportRepository.merge();
+        long mergedAt = System.nanoTime();
+        eventPublisher.publishEvent(
+                new BooksImportedEvent(merged.inserted(), merged.updated(), merged.categoriesCreated()));
+
+        log.info("가져오기 완료 ({}): {} 건 읽음, {} 건 거부, 신규 {} / 갱신 {}, 새 카테고리 {}, COPY {} ms, 병합 {} ms",
+                format, read, rejected, merged.inserted(), merged.updated(), merged.categoriesCreated(),
+                (copiedAt - startedAt) / 1_000_000, (mergedAt - copiedAt) / 1_000_000);
+
+        return ImportResultDTO.builder()
+                .format(format.name())
+                .recordsRead(read)
+                .recordsRejected(rejected)
+                .rejectedSamples(rejectedSamples)
+                .inserted(merged.inserted())
+                .updated(merged.updated())
+                .categoriesCreated(merged.categoriesCreated())
+                .copyMillis((copiedAt - startedAt) / 1_000_000)
+                .mergeMillis((mergedAt - copiedAt) / 1_000_000)
+                .build();
+    }
+}
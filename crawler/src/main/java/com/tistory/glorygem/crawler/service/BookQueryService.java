@@ -0,0 +1,110 @@
+package com.tistory.glorygem.crawler.service;
+
+import com.tistory.glorygem.crawler.domain.dto.BookDTO;
+import com.tistory.glorygem.crawler.domain.dto.BookFilterDTO;
+import com.tistory.glorygem.crawler.domain.entity.Book;
+import com.tistory.glorygem.crawler.domain.entity.BookCategory;
+import com.tistory.glorygem.crawler.domain.repository.BookBulkRepository;
+import com.tistory.glorygem.crawler.domain.repository.BookRepository;
+import com.tistory.glorygem.crawler.domain.repository.BookSpecifications;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 가격 / 평점 / 재고 / 카테고리 조건 조회 (/api/books/query)
+ * 조건마다 Specification 을 붙여 SQL 하나로 조회하며, 정렬은 인덱스의 첫 컬럼인 가격 / 평점만 허용합니다
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class BookQueryService {
+
+    /** 정렬 키 → Book 속성 */
+    private static final Map<String, String> SORT_PROPERTIES = Map.of(
+            "price", "price",        // idx_book_price, idx_book_category_price
+            "rating", "rating");     // idx_book_rating_price
+
+    private final BookRepository bookRepository;
+    private final BookBulkRepository bookBulkRepository;
+    private final BookCategoryService bookCategoryService;
+
+    /**
+     * 재고 수량 컬럼이 생기기 전에 저장된 책의 stock_count 를 채웁니다
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfillStockCounts() {
+        int updated = bookBulkRepository.backfillStockCounts();
+        if (updated > 0) {
+            log.info("재고 수량 채우기 완료: {} 건", updated);
+        }
+    }
+
+    /**
+     * 조건에 맞는 책 한 페이지 (카테고리가 없으면 빈 페이지)
+     *
+     * @throws IllegalArgumentException 알 수 없는 정렬 키나 잘못된 범위
+     */
+    @Transactional(readOnly = true)
+    public Page<BookDTO> query(BookFilterDTO filter, int page, int size) {
+        List<Specification<Book>> conditions = new ArrayList<>();
+        if (filter.getCategory() != null) {
+            if (!bookCategoryService.existsCategory(filter.getCategory())) {
+                return Page.empty(PageRequest.of(page, size));
+            }
+            BookCategory category = bookCategoryService.getCategoryByName(filter.getCategory());
+            conditions.add(BookSpecifications.inCategory(category.getUuidBookCategory()));
+        }
+        if (filter.getMinPrice() != null && filter.getMaxPrice() != null
+                && filter.getMinPrice().compareTo(filter.getMaxPrice()) > 0) {
+            throw new IllegalArgumentException("minPrice 가 maxPrice 보다 큽니다");
+        }
+        if (filter.getMinPrice() != null) {
+            conditions.add(BookSpecifications.priceAtLeast(filter.getMinPrice()));
+        }
+        if (filter.getMaxPrice() != null) {
+            conditions.add(BookSpecifications.priceAtMost(filter.getMaxPrice()));
+        }
+        if (filter.getMinRating() != null) {
+            conditions.add(BookSpecifications.ratingAtLeast(filter.getMinRating()));
+        }
+        if (filter.getMaxRating() != null) {
+            conditions.add(BookSpecifications.ratingAtMost(filter.getMaxRating()));
+        }
+        if (filter.getMinStock() != null) {
+            conditions.add(BookSpecifications.stockAtLeast(filter.getMinStock()));
+        }
+
+        PageRequest pageRequest = PageRequest.of(page, size, sortOf(filter));
+        return bookRepository.findAll(Specification.allOf(conditions), pageRequest)
+                .map(BookService::convertToDTO);
+    }
+
+    /**
+     * 같은 값이 많은 컬럼(평점)으로 정렬해도 페이지 경계가 흔들리지 않도록 uuid 를 마지막 정렬 키로 붙입니다
+     */
+    private static Sort sortOf(BookFilterDTO filter) {
+        Sort tieBreaker = Sort.by("uuidBook");
+        if (filter.getSort() == null) {
+            return tieBreaker;
+        }
+        String property = SORT_PROPERTIES.get(filter.getSort());
+        if (property == null) {
+            throw new IllegalArgumentException("정렬할 수 없는 값입니다: " + filter.getSort()
+                    + " (" + String.join(", ", SORT_PROPERTIES.keySet()) + ")");
+        }
+        Sort.Direction direction = filter.isDescending() ? Sort.Direction.DESC : Sort.Direction.ASC;
+        return Sort.by(direction, property).and(tieBreaker);
+    }
+}
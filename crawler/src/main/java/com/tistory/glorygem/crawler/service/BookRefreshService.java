@@ -0,0 +1,199 @@
+package com.tistory.glorygem.crawler.service;
+
+import com.tistory.glorygem.crawler.config.CrawlerProperties;
+import com.tistory.glorygem.crawler.crawl.BookPageExtractor;
+import com.tistory.glorygem.crawler.crawl.CrawlMetrics;
+import com.tistory.glorygem.crawler.crawl.CrawlProgress;
+import com.tistory.glorygem.crawler.crawl.FetchedPage;
+import com.tistory.glorygem.crawler.crawl.PageFetcher;
+import com.tistory.glorygem.crawler.domain.dto.RefreshResultDTO;
+import com.tistory.glorygem.crawler.domain.entity.Book;
+import com.tistory.glorygem.crawler.domain.repository.BookBulkRepository;
+import com.tistory.glorygem.crawler.domain.repository.BookBulkRepository.UpsertResult;
+import com.tistory.glorygem.crawler.domain.repository.BookRepository;
+import com.tistory.glorygem.crawler.event.BooksSavedEvent;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.TransactionException;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 저장된 책의 가격/재고를 조건부 요청으로 다시 확인합니다
+ * 304 응답이나 본문 해시가 같으면 파싱을 생략하고 검증 헤더만 갱신하며, 바뀐 책은 일괄 upsert 로 저장합니다
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class BookRefreshService {
+
+    private static final UUID FIRST_CURSOR = new UUID(0L, 0L);
+
+    private final BookRepository bookRepository;
+    private final BookBulkRepository bookBulkRepository;
+    private final PageFetcher pageFetcher;
+    private final BookPageExtractor bookPageExtractor;
+    private final TransactionTemplate transactionTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+    private final CrawlerProperties properties;
+    private final CrawlMetrics crawlMetrics;
+
+    /**
+     * 모든 책을 chunk 단위로 재확인합니다
+     */
+    public RefreshResultDTO refreshAll() {
+        return refreshAll(new CrawlProgress());
+    }
+
+    /**
+     * 모든 책을 재확인하고 진행 상황을 progress 에 기록합니다
+     */
+    public RefreshResultDTO refreshAll(CrawlProgress progress) {
+        log.info("재크롤링 시작");
+        long startedAt = System.nanoTime();
+        Counters counters = new Counters();
+
+        int chunkSize = properties.getBatch().getChunkSize();
+        UUID cursor = FIRST_CURSOR;
+        while (!progress.isCancelled()) {
+            List<Book> chunk = bookRepository.findChunkWithCategoryAfter(cursor, PageRequest.of(0, chunkSize));
+            if (chunk.isEmpty()) {
+                break;
+            }
+            refreshChunk(chunk, counters, progress);
+            cursor = chunk.get(chunk.size() - 1).getUuidBook();
+        }
+
+        RefreshResultDTO result = RefreshResultDTO.builder()
+                .checked(counters.checked.get())
+                .notModified(counters.notModified.get())
+                .unchanged(counters.unchanged.get())
+                .updated(counters.updated.get())
+                .errors(counters.errors.get())
+                .elapsedMillis(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt))
+                .build();
+        log.info("재크롤링 완료: 확인 {}, 304 {}, 동일 {}, 갱신 {}, 실패 {}", result.getChecked(),
+                result.getNotModified(), result.getUnchanged(), result.getUpdated(), result.getErrors());
+        return result;
+    }
+
+    /**
+     * chunk 의 상세 페이지를 동시에 확인한 뒤, 한 트랜잭션에서
+     * 본문이 그대로인 책은 검증 헤더와 확인 시각만, 바뀐 책은 일괄 upsert 로 저장합니다
+     * 이벤트는 트랜잭션 안에서 발행되어 커밋된 뒤에만 리스너에 전달됩니다
+     */
+    private void refreshChunk(List<Book> chunk, Counters counters, CrawlProgress progress) {
+        List<Book> changed = new ArrayList<>();
+        List<Book> revalidated = new ArrayList<>();
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            List<Future<Refreshed>> futures = new ArrayList<>();
+            for (Book book : chunk) {
+                futures.add(executor.submit(() -> refreshOne(book, counters, progress)));
+            }
+            for (Future<Refreshed> future : futures) {
+                try {
+                    Refreshed refreshed = future.get();
+                    if (refreshed != null) {
+                        (refreshed.changed() ? changed : revalidated).add(refreshed.book());
+                    }
+                } catch (ExecutionException e) {
+                    counters.errors.incrementAndGet();
+                    progress.error();
+                    log.warn("재크롤링 실패: {}", e.getCause().getMessage());
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    futures.forEach(f -> f.cancel(true));
+                    return;
+                }
+            }
+        }
+        if (changed.isEmpty() && revalidated.isEmpty()) {
+            return;
+        }
+
+        UpsertResult result;
+        long startedAt = System.nanoTime();
+        try {
+            result = transactionTemplate.execute(status -> {
+                bookBulkRepository.updateValidators(revalidated, LocalDateTime.now());
+                UpsertResult upserted = bookBulkRepository.upsert(changed);
+                if (!upserted.updated().isEmpty()) {
+                    eventPublisher.publishEvent(new BooksSavedEvent(List.of(), upserted.updated(),
+                            upserted.vacatedCategories()));
+                }
+                return upserted;
+            });
+        } catch (DataAccessException | TransactionException e) {
+            log.error("재크롤링 결과 {} 권 저장 실패, chunk 롤백: {}", changed.size() + revalidated.size(), e.getMessage());
+            result = UpsertResult.failed(changed.size());
+        }
+        crawlMetrics.written(CrawlMetrics.ALL_CATEGORIES, startedAt, result);
+        progress.booksUpdated(result.updatedCount());
+        progress.booksFailed(result.failedCount());
+    }
+
+    /**
+     * 한 권을 조건부 요청으로 확인합니다
+     * 바뀌었으면 새로 추출한 Book, 아니면 응답의 검증 헤더만 옮긴 기존 Book 을 반환합니다
+     */
+    private Refreshed refreshOne(Book book, Counters counters, CrawlProgress progress) throws IOException {
+        if (progress.isCancelled()) {
+            return null;
+        }
+        counters.checked.incrementAndGet();
+        String category = CrawlMetrics.categoryTag(book.getBookCategory());
+        long startedAt = System.nanoTime();
+        FetchedPage page = pageFetcher.fetchPage(book.getUrl(), book.getEtag(), book.getLastModified());
+        crawlMetrics.fetched(category, CrawlMetrics.DETAIL, startedAt, page.body().length);
+        progress.detailPageFetched();
+
+        if (page.notModified() || page.contentHash().equals(book.getContentHash())) {
+            (page.notModified() ? counters.notModified : counters.unchanged).incrementAndGet();
+            if (page.etag() != null) {
+                book.setEtag(page.etag());
+            }
+            if (page.lastModified() != null) {
+                book.setLastModified(page.lastModified());
+            }
+            return new Refreshed(book, false);
+        }
+
+        startedAt = System.nanoTime();
+        Book parsed = bookPageExtractor.extractDetail(bookPageExtractor.parseDetailPage(page),
+                book.getUrl(), book.getBookCategory());
+        crawlMetrics.parsed(category, CrawlMetrics.DETAIL, startedAt);
+        parsed.setUuidBook(book.getUuidBook());
+        BookService.applyValidators(parsed, page);
+        counters.updated.incrementAndGet();
+        return new Refreshed(parsed, true);
+    }
+
+    /**
+     * 한 권의 확인 결과 (changed 가 false 면 검증 헤더만 갱신)
+     */
+    private record Refreshed(Book book, boolean changed) {
+    }
+
+    private static class Counters {
+        private final AtomicLong checked = new AtomicLong();
+        private final AtomicLong notModified = new AtomicLong();
+        private final AtomicLong unchanged = new AtomicLong();
+        private final AtomicLong updated = new AtomicLong();
+        private final AtomicLong errors = new AtomicLong();
+    }
+}
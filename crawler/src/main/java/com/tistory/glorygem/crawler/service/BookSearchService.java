@@ -0,0 +1,59 @@
+package com.tistory.glorygem.crawler.service;
+
+import com.tistory.glorygem.crawler.domain.dto.BookSearchHitDTO;
+import com.tistory.glorygem.crawler.domain.repository.BookRepository;
+import com.tistory.glorygem.crawler.domain.repository.BookRow;
+import com.tistory.glorygem.crawler.search.BookSearchIndex;
+import com.tistory.glorygem.crawler.search.SearchHit;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * 책 제목 / 설명 검색
+ * 순위는 메모리 색인(BookSearchIndex)에서 정하고, 결과 책은 projection 쿼리 1번으로 읽습니다
+ */
+@Service
+@RequiredArgsConstructor
+public class BookSearchService {
+
+    private final BookSearchIndex bookSearchIndex;
+    private final BookRepository bookRepository;
+
+    /**
+     * 점수 순 검색 결과 (색인 이후 삭제된 책은 제외)
+     */
+    public List<BookSearchHitDTO> search(String query, int size) {
+        List<SearchHit> hits = bookSearchIndex.search(query, size);
+        if (hits.isEmpty()) {
+            return List.of();
+        }
+        List<UUID> ids = hits.stream().map(SearchHit::uuidBook).toList();
+        Map<UUID, BookRow> rows = new HashMap<>();
+        for (BookRow row : bookRepository.findRowsByIds(ids)) {
+            rows.put(row.uuidBook(), row);
+        }
+
+        List<BookSearchHitDTO> results = new ArrayList<>(hits.size());
+        for (SearchHit hit : hits) {
+            BookRow row = rows.get(hit.uuidBook());
+            if (row != null) {
+                results.add(new BookSearchHitDTO(hit.score(), row.toDTO()));
+            }
+        }
+        return results;
+    }
+
+    public boolean isIndexLoaded() {
+        return bookSearchIndex.isLoaded();
+    }
+
+    public Map<String, Object> getIndexStats() {
+        return bookSearchIndex.getStats();
+    }
+}
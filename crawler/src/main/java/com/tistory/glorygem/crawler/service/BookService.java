@@ -1,22 +1,36 @@
 package com.tistory.glorygem.crawler.service;
 
+import com.tistory.glorygem.crawler.config.CrawlerProperties;
+import com.tistory.glorygem.crawler.crawl.BookPageExtractor;
+import com.tistory.glorygem.crawler.crawl.BookUrlIndex;
+import com.tistory.glorygem.crawler.crawl.CrawlMetrics;
+import com.tistory.glorygem.crawler.crawl.CrawlMode;
+import com.tistory.glorygem.crawler.crawl.CrawlProgress;
+import com.tistory.glorygem.crawler.crawl.FetchedPage;
+import com.tistory.glorygem.crawler.crawl.PageFetcher;
 import com.tistory.glorygem.crawler.domain.entity.Book;
 import com.tistory.glorygem.crawler.domain.entity.BookCategory;
+import com.tistory.glorygem.crawler.domain.repository.BookBulkRepository;
+import com.tistory.glorygem.crawler.domain.repository.BookBulkRepository.UpsertResult;
 import com.tistory.glorygem.crawler.domain.repository.BookRepository;
+import com.tistory.glorygem.crawler.domain.repository.BookRow;
 import com.tistory.glorygem.crawler.domain.dto.BookDTO;
+import com.tistory.glorygem.crawler.domain.dto.BookPageDTO;
+import com.tistory.glorygem.crawler.domain.dto.CrawlResultDTO;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.jsoup.Jsoup;
 import org.jsoup.nodes.Document;
 import org.jsoup.nodes.Element;
-import org.jsoup.select.Elements;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.io.IOException;
-import java.math.BigDecimal;
-import java.util.ArrayList;
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.UUID;
 import java.util.stream.Collectors;
 
 @Slf4j
@@ -24,186 +38,303 @@ import java.util.stream.Collectors;
 @RequiredArgsConstructor
 public class BookService {
 
-    private static final String BASE_URL = "https://books.toscrape.com";
-    private static final int TIMEOUT = 10000;
-
     private final BookRepository bookRepository;
+    private final BookBulkRepository bookBulkRepository;
     private final BookCategoryService bookCategoryService;
+    private final PageFetcher pageFetcher;
+    private final BookPageExtractor bookPageExtractor;
+    private final BookUrlIndex bookUrlIndex;
+    private final ApplicationEventPublisher eventPublisher;
+    private final CrawlerProperties properties;
+    private final TransactionTemplate transactionTemplate;
+    private final CrawlMetrics crawlMetrics;
+    private final CatalogCache catalogCache;
+
+    /** 가장 작은 UUID (첫 페이지 조회 시 cursor) */
+    private static final UUID FIRST_CURSOR = new UUID(0, 0);
 
     /**
      * 특정 카테고리의 모든 책을 크롤링하여 저장합니다
+     * 트랜잭션은 저장 chunk 단위로만 열리고, 결과는 개수만 반환합니다
      */
-    @Transactional
-    public List<Book> crawlAndSaveBooksByCategory(String categoryName) throws IOException {
-        log.info("카테고리 '{}' 책 크롤링 시작", categoryName);
+    public CrawlResultDTO crawlAndSaveBooksByCategory(String categoryName) throws IOException {
+        return crawlAndSaveBooksByCategory(categoryName, properties.getCrawlMode(), new CrawlProgress());
+    }
 
+    /**
+     * 특정 카테고리의 모든 책을 mode 로 크롤링하여 저장하고 진행 상황을 progress 에 기록합니다
+     */
+    public CrawlResultDTO crawlAndSaveBooksByCategory(String categoryName, CrawlMode mode,
+                                                      CrawlProgress progress) throws IOException {
         BookCategory bookCategory = bookCategoryService.getCategoryByName(categoryName);
-        List<Book> books = new ArrayList<>();
-
-        // 카테고리 URL 생성 (실제로는 카테고리 엔티티에 URL을 저장하거나 매핑 로직 필요)
-        String categoryUrl = getCategoryUrl(categoryName);
-        String currentUrl = categoryUrl;
-
-        while (currentUrl != null) {
-            Document doc = Jsoup.connect(currentUrl)
-                    .timeout(TIMEOUT)
-                    .userAgent("Mozilla/5.0")
-                    .get();
-
-            Elements bookElements = doc.select("article.product_pod");
-
-            for (Element bookElement : bookElements) {
-                String bookUrl = extractBookUrl(bookElement);
-
-                // 중복 체크
-                if (!bookRepository.existsByUrl(bookUrl)) {
-                    Book book = crawlBookDetail(bookUrl, bookCategory);
-                    Book savedBook = bookRepository.save(book);
-                    books.add(savedBook);
-                    log.debug("새 책 저장: {}", book.getTitle());
-                } else {
-                    log.debug("이미 존재하는 책: {}", bookUrl);
-                }
-            }
-
-            currentUrl = getNextPageUrl(doc, currentUrl);
+        if (bookCategory.getUrlPath() == null) {
+            // 목록 경로를 저장하기 전에 만들어진 카테고리는 메인 페이지에서 한 번 동기화
+            bookCategoryService.crawlAndSaveCategories();
+            progress.listingPageFetched();
+            bookCategory = bookCategoryService.getCategoryByName(categoryName);
         }
-
-        log.info("카테고리 '{}'에서 총 {} 권의 책 저장 완료", categoryName, books.size());
-        return books;
+        bookUrlIndex.ensureLoaded();
+        progress.setCategoriesTotal(1);
+        crawlCategory(bookCategory, mode, progress);
+        progress.categoryDone();
+        return progress.toResult();
     }
 
     /**
      * 모든 카테고리의 모든 책을 크롤링하여 저장합니다
+     * 긴 트랜잭션 하나 대신 chunk 마다 커밋하므로 카탈로그 크기와 무관하게 메모리 사용량이 일정합니다
      */
-    @Transactional
-    public List<Book> crawlAndSaveAllBooks() throws IOException {
-        log.info("전체 책 크롤링 시작");
+    public CrawlResultDTO crawlAndSaveAllBooks() throws IOException {
+        return crawlAndSaveAllBooks(properties.getCrawlMode(), new CrawlProgress());
+    }
+
+    /**
+     * 모든 카테고리의 모든 책을 mode 로 크롤링하여 저장하고 진행 상황을 progress 에 기록합니다
+     */
+    public CrawlResultDTO crawlAndSaveAllBooks(CrawlMode mode, CrawlProgress progress) throws IOException {
+        log.info("전체 책 크롤링 시작 ({} 모드)", mode);
 
         // 먼저 카테고리를 크롤링하여 저장
         List<BookCategory> categories = bookCategoryService.crawlAndSaveCategories();
-        List<Book> allBooks = new ArrayList<>();
+        progress.listingPageFetched();
+        progress.setCategoriesTotal(categories.size());
+        bookUrlIndex.ensureLoaded();
 
         for (BookCategory category : categories) {
+            // 서버 부담 방지는 PageFetcher 의 요청 속도 제한이 담당
+            if (progress.isCancelled()) {
+                log.warn("크롤링 중단됨");
+                break;
+            }
             try {
-                List<Book> books = crawlAndSaveBooksByCategory(category.getCategoryName());
-                allBooks.addAll(books);
-
-                // 서버 부담 방지
-                Thread.sleep(1000);
+                crawlCategory(category, mode, progress);
             } catch (IOException e) {
+                progress.error();
                 log.error("카테고리 '{}' 크롤링 실패: {}", category.getCategoryName(), e.getMessage());
-            } catch (InterruptedException e) {
-                Thread.currentThread().interrupt();
-                log.error("크롤링 중단됨");
-                break;
             }
+            progress.categoryDone();
         }
 
-        log.info("전체 크롤링 완료: 총 {} 권의 책", allBooks.size());
-        return allBooks;
+        CrawlResultDTO result = progress.toResult();
+        log.info("전체 크롤링 완료 ({} 모드): 신규 {} 권, 갱신 {} 권, 저장 실패 {} 권, 요청 목록 {} / 상세 {}",
+                mode, result.getBooksSaved(), result.getBooksUpdated(), result.getBooksFailed(),
+                result.getListingPagesFetched(), result.getDetailPagesFetched());
+        return result;
     }
 
     /**
-     * 책 상세 정보를 크롤링합니다
+     * 카테고리 목록 페이지를 따라가며 새 책을 chunk 단위로 저장합니다
+     * LISTING 모드에서는 상세 페이지를 요청하지 않고 목록 항목만으로 Book 을 만듭니다
      */
-    private Book crawlBookDetail(String bookUrl, BookCategory bookCategory) throws IOException {
-        Document doc = Jsoup.connect(bookUrl)
-                .timeout(TIMEOUT)
-                .userAgent("Mozilla/5.0")
-                .get();
-
-        Book book = new Book();
-        book.setUrl(bookUrl);
-        book.setBookCategory(bookCategory);
-
-        // 제목
-        Element titleElement = doc.selectFirst("div.product_main h1");
-        if (titleElement != null) {
-            book.setTitle(titleElement.text());
-        }
+    private void crawlCategory(BookCategory bookCategory, CrawlMode mode, CrawlProgress progress) throws IOException {
+        String categoryName = bookCategory.getCategoryName();
+        log.info("카테고리 '{}' 책 크롤링 시작", categoryName);
+        BookWriteBuffer buffer = newWriteBuffer(categoryName);
+
+        String currentUrl = getCategoryUrl(bookCategory);
+
+        try {
+            while (currentUrl != null && !progress.isCancelled()) {
+                Document doc = fetchListing(currentUrl, bookCategory);
+                progress.listingPageFetched();
+
+                for (Element bookElement : bookPageExtractor.bookItems(doc)) {
+                    String bookUrl = extractBookUrl(bookElement);
+                    if (bookUrl == null) {
+                        continue;
+                    }
+
+                    // 중복 체크 (메모리 인덱스, DB 조회 없음)
+                    if (!bookUrlIndex.contains(bookUrl)) {
+                        Book book;
+                        if (mode == CrawlMode.LISTING) {
+                            book = bookPageExtractor.extractListingItem(bookElement, bookUrl, bookCategory);
+                        } else {
+                            book = crawlBookDetail(bookUrl, bookCategory);
+                            progress.detailPageFetched();
+                        }
+                        record(buffer.add(book), progress);
+                        log.debug("새 책 수집: {}", book.getTitle());
+                    } else {
+                        progress.duplicate();
+                        crawlMetrics.duplicate(categoryName);
+                        log.debug("이미 존재하는 책: {}", bookUrl);
+                    }
+                }
 
-        // 가격
-        Element priceElement = doc.selectFirst("p.price_color");
-        if (priceElement != null) {
-            String priceText = priceElement.text().replaceAll("[^0-9.]", "");
-            try {
-                book.setPrice(new BigDecimal(priceText));
-            } catch (NumberFormatException e) {
-                log.warn("가격 파싱 실패: {}", priceText);
+                currentUrl = getNextPageUrl(doc, currentUrl);
             }
+        } finally {
+            // 목록 크롤링이 실패해도 이미 모은 책은 저장
+            record(buffer.flush(), progress);
         }
 
-        // 상품 정보 테이블
-        Elements infoRows = doc.select("table.table tr");
-        for (Element row : infoRows) {
-            Element th = row.selectFirst("th");
-            Element td = row.selectFirst("td");
-
-            if (th != null && td != null) {
-                String key = th.text();
-                String value = td.text();
-
-                switch (key) {
-                    case "UPC":
-                        book.setUpc(value);
-                        break;
-                    case "Product Type":
-                        book.setProductType(value);
-                        break;
-                    case "Availability":
-                        book.setAvailability(value);
-                        break;
-                    case "Number of reviews":
-                        try {
-                            book.setNumberOfReviews(Integer.parseInt(value));
-                        } catch (NumberFormatException e) {
-                            log.warn("리뷰 수 파싱 실패: {}", value);
-                        }
-                        break;
+        log.info("카테고리 '{}' 크롤링 완료 (신규 {}, 갱신 {}, 저장 실패 {})", categoryName,
+                buffer.getInsertedCount(), buffer.getUpdatedCount(), buffer.getFailedCount());
+    }
+
+    static void record(UpsertResult result, CrawlProgress progress) {
+        progress.booksSaved(result.insertedCount());
+        progress.booksUpdated(result.updatedCount());
+        progress.booksFailed(result.failedCount());
+    }
+
+    /**
+     * 설정된 chunk 크기로 일괄 저장 버퍼를 생성합니다 (여러 카테고리가 섞이는 작업용)
+     */
+    BookWriteBuffer newWriteBuffer() {
+        return newWriteBuffer(CrawlMetrics.ALL_CATEGORIES);
+    }
+
+    /**
+     * 저장 시간 / 결과를 category 지표로 기록하는 일괄 저장 버퍼를 생성합니다
+     */
+    BookWriteBuffer newWriteBuffer(String category) {
+        return new BookWriteBuffer(bookBulkRepository, eventPublisher, transactionTemplate,
+                properties.getBatch().getChunkSize(), crawlMetrics, category);
+    }
+
+    /**
+     * 상세 페이지 없이 저장된 책(UPC 없음)의 상세 페이지를 가져와 나머지 필드를 채웁니다
+     */
+    public CrawlResultDTO enrichMissingDetails(CrawlProgress progress) {
+        BookWriteBuffer buffer = newWriteBuffer();
+        UUID cursor = FIRST_CURSOR;
+        List<Book> chunk;
+        do {
+            chunk = bookRepository.findMissingDetailAfter(cursor, PageRequest.of(0, properties.getBatch().getChunkSize()));
+            for (Book stored : chunk) {
+                if (progress.isCancelled()) {
+                    break;
+                }
+                try {
+                    Book book = crawlBookDetail(stored.getUrl(), stored.getBookCategory());
+                    progress.detailPageFetched();
+                    record(buffer.add(book), progress);
+                } catch (IOException e) {
+                    progress.error();
+                    log.warn("상세 정보 보강 실패: {} ({})", stored.getUrl(), e.getMessage());
                 }
             }
-        }
+            if (!chunk.isEmpty()) {
+                cursor = chunk.get(chunk.size() - 1).getUuidBook();
+            }
+        } while (!chunk.isEmpty() && !progress.isCancelled());
+        record(buffer.flush(), progress);
 
-        // 설명
-        Element descElement = doc.selectFirst("article.product_page > p");
-        if (descElement != null) {
-            book.setDescription(descElement.text());
-        }
+        CrawlResultDTO result = progress.toResult();
+        log.info("상세 정보 보강 완료: {} 권 (상세 페이지 요청 {})", result.getBooksUpdated(), result.getDetailPagesFetched());
+        return result;
+    }
 
+    /**
+     * 책 상세 정보를 크롤링합니다
+     */
+    Book crawlBookDetail(String bookUrl, BookCategory bookCategory) throws IOException {
+        String category = CrawlMetrics.categoryTag(bookCategory);
+        long startedAt = System.nanoTime();
+        FetchedPage page = pageFetcher.fetchPage(bookUrl);
+        crawlMetrics.fetched(category, CrawlMetrics.DETAIL, startedAt, page.body().length);
+
+        startedAt = System.nanoTime();
+        Book book = bookPageExtractor.extractDetail(bookPageExtractor.parseDetailPage(page), bookUrl, bookCategory);
+        crawlMetrics.parsed(category, CrawlMetrics.DETAIL, startedAt);
+        applyValidators(book, page);
         return book;
     }
 
     /**
-     * 책 목록 조회 (전체)
+     * 카테고리 목록 페이지를 가져와 파싱합니다 (요청 / 파싱 시간을 카테고리 지표로 기록)
      */
-    @Transactional(readOnly = true)
-    public List<BookDTO> getAllBooks() {
-        return bookRepository.findAll().stream()
-                .map(this::convertToDTO)
-                .collect(Collectors.toList());
+    Document fetchListing(String url, BookCategory bookCategory) throws IOException {
+        String category = CrawlMetrics.categoryTag(bookCategory);
+        long startedAt = System.nanoTime();
+        FetchedPage page = pageFetcher.fetchPage(url);
+        crawlMetrics.fetched(category, CrawlMetrics.LISTING, startedAt, page.body().length);
+
+        startedAt = System.nanoTime();
+        Document doc = page.parse();
+        crawlMetrics.parsed(category, CrawlMetrics.LISTING, startedAt);
+        return doc;
     }
 
     /**
-     * 카테고리별 책 목록 조회
+     * 다음 재크롤링에서 조건부 요청에 쓸 캐시 검증 값을 기록합니다
      */
-    @Transactional(readOnly = true)
-    public List<BookDTO> getBooksByCategory(String categoryName) {
-        return bookRepository.findByBookCategory_CategoryName(categoryName).stream()
-                .map(this::convertToDTO)
-                .collect(Collectors.toList());
+    static void applyValidators(Book book, FetchedPage page) {
+        book.setEtag(page.etag());
+        book.setLastModified(page.lastModified());
+        book.setContentHash(page.contentHash());
+        book.setLastCrawledAt(LocalDateTime.now());
+    }
+
+    /**
+     * 책 목록 조회 (keyset 페이지네이션)
+     */
+    public BookPageDTO getBooks(UUID cursor, int size) {
+        return getBooks(cursor, size, true);
+    }
+
+    /**
+     * 책 목록 조회 (keyset 페이지네이션)
+     * 카테고리명을 join 한 projection 쿼리 1번으로 읽고, includeDescription=false 면 description 컬럼을 읽지 않습니다
+     */
+    public BookPageDTO getBooks(UUID cursor, int size, boolean includeDescription) {
+        UUID after = cursor != null ? cursor : FIRST_CURSOR;
+        Limit limit = Limit.of(size + 1);
+        List<BookRow> rows = includeDescription
+                ? bookRepository.findRowsAfter(after, limit)
+                : bookRepository.findRowsWithoutDescriptionAfter(after, limit);
+        return toPage(rows, size);
+    }
+
+    /**
+     * 카테고리별 책 목록 조회 (keyset 페이지네이션)
+     */
+    public BookPageDTO getBooksByCategory(String categoryName, UUID cursor, int size) {
+        return getBooksByCategory(categoryName, cursor, size, true);
+    }
+
+    /**
+     * 카테고리별 책 목록 조회 (keyset 페이지네이션, 캐시)
+     * 캐시에 없을 때만 카테고리명을 join 한 projection 쿼리 1번으로 읽습니다
+     */
+    public BookPageDTO getBooksByCategory(String categoryName, UUID cursor, int size, boolean includeDescription) {
+        return catalogCache.booksByCategory(categoryName, cursor, size, includeDescription, () -> {
+            UUID after = cursor != null ? cursor : FIRST_CURSOR;
+            Limit limit = Limit.of(size + 1);
+            List<BookRow> rows = includeDescription
+                    ? bookRepository.findRowsByCategoryAfter(categoryName, after, limit)
+                    : bookRepository.findRowsByCategoryWithoutDescriptionAfter(categoryName, after, limit);
+            return toPage(rows, size);
+        });
+    }
+
+    /**
+     * size + 1 건을 조회해 다음 페이지 존재 여부를 판단합니다
+     */
+    private BookPageDTO toPage(List<BookRow> rows, int size) {
+        boolean hasNext = rows.size() > size;
+        List<BookRow> page = hasNext ? rows.subList(0, size) : rows;
+        return BookPageDTO.builder()
+                .books(page.stream().map(BookRow::toDTO).collect(Collectors.toList()))
+                .nextCursor(hasNext ? page.get(page.size() - 1).uuidBook() : null)
+                .hasNext(hasNext)
+                .build();
     }
 
     /**
      * Entity를 DTO로 변환
      */
-    private BookDTO convertToDTO(Book book) {
+    static BookDTO convertToDTO(Book book) {
         return BookDTO.builder()
                 .title(book.getTitle())
                 .price(book.getPrice())
                 .upc(book.getUpc())
                 .productType(book.getProductType())
                 .availability(book.getAvailability())
+                .stockCount(book.getStockCount())
+                .rating(book.getRating())
                 .numberOfReviews(book.getNumberOfReviews())
                 .description(book.getDescription())
                 .url(book.getUrl())
@@ -215,11 +346,10 @@ public class BookService {
     /**
      * 책 URL 추출
      */
-    private String extractBookUrl(Element bookElement) {
-        Element linkElement = bookElement.selectFirst("h3 a");
-        if (linkElement != null) {
-            String href = linkElement.attr("href");
-            return BASE_URL + "/catalogue/" + href.replace("../../../", "");
+    String extractBookUrl(Element bookElement) {
+        String href = bookPageExtractor.bookHref(bookElement);
+        if (href != null) {
+            return properties.getBaseUrl() + "/catalogue/" + href.replace("../../../", "");
         }
         return null;
     }
@@ -227,10 +357,9 @@ public class BookService {
     /**
      * 다음 페이지 URL 반환
      */
-    private String getNextPageUrl(Document doc, String currentUrl) {
-        Element nextButton = doc.selectFirst("li.next a");
-        if (nextButton != null) {
-            String nextHref = nextButton.attr("href");
+    String getNextPageUrl(Document doc, String currentUrl) {
+        String nextHref = bookPageExtractor.nextPageHref(doc);
+        if (nextHref != null) {
             int lastSlashIndex = currentUrl.lastIndexOf('/');
             String baseUrl = currentUrl.substring(0, lastSlashIndex + 1);
             return baseUrl + nextHref;
@@ -239,11 +368,14 @@ public class BookService {
     }
 
     /**
-     * 카테고리 이름으로 URL 생성 (간단한 매핑)
-     * 실제로는 더 정교한 매핑이 필요할 수 있습니다
+     * 카테고리 첫 목록 페이지 URL (카테고리 동기화 때 저장한 경로 사용)
      */
-    private String getCategoryUrl(String categoryName) {
-        String urlName = categoryName.toLowerCase().replace(" ", "-");
-        return BASE_URL + "/catalogue/category/books/" + urlName + "_2/index.html";
+    String getCategoryUrl(BookCategory bookCategory) {
+        String urlPath = bookCategory.getUrlPath();
+        if (urlPath == null) {
+            throw new IllegalStateException("카테고리 목록 경로가 없습니다. 카테고리를 먼저 크롤링하세요: "
+                    + bookCategory.getCategoryName());
+        }
+        return properties.getBaseUrl() + "/" + (urlPath.startsWith("/") ? urlPath.substring(1) : urlPath);
     }
 }
\ No newline at end of file
@@ -0,0 +1,131 @@
+package com.tistory.glorygem.crawler.service;
+
+import com.tistory.glorygem.crawler.crawl.CrawlMetrics;
+import com.tistory.glorygem.crawler.domain.entity.Book;
+import com.tistory.glorygem.crawler.domain.repository.BookBulkRepository;
+import com.tistory.glorygem.crawler.domain.repository.BookBulkRepository.UpsertResult;
+import com.tistory.glorygem.crawler.event.BooksSavedEvent;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataAccessException;
+import org.springframework.transaction.TransactionException;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 크롤링한 책을 chunk 단위로 모아 일괄 upsert 하는 버퍼 (크롤링 1회당 1개)
+ * chunk 마다 별도 트랜잭션으로 커밋하므로 실패해도 해당 chunk 만 롤백되고,
+ * 저장한 엔티티는 들고 있지 않고 개수만 셉니다
+ * 여러 가상 스레드에서 동시에 add 해도 안전합니다
+ */
+@Slf4j
+public class BookWriteBuffer {
+
+    private final BookBulkRepository bookBulkRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TransactionTemplate transactionTemplate;
+    private final int chunkSize;
+    private final CrawlMetrics crawlMetrics;
+    private final String category;
+    private final ReentrantLock lock = new ReentrantLock();
+
+    private List<Book> pending;
+    private long insertedCount;
+    private long updatedCount;
+    private long failedCount;
+
+    public BookWriteBuffer(BookBulkRepository bookBulkRepository, ApplicationEventPublisher eventPublisher,
+                           TransactionTemplate transactionTemplate, int chunkSize,
+                           CrawlMetrics crawlMetrics, String category) {
+        this.bookBulkRepository = bookBulkRepository;
+        this.eventPublisher = eventPublisher;
+        this.transactionTemplate = transactionTemplate;
+        this.chunkSize = Math.max(1, chunkSize);
+        this.crawlMetrics = crawlMetrics;
+        this.category = category;
+        this.pending = new ArrayList<>(this.chunkSize);
+    }
+
+    /**
+     * 책을 추가하고, chunk 가 가득 차면 저장합니다
+     */
+    public UpsertResult add(Book book) {
+        List<Book> chunk = null;
+        lock.lock();
+        try {
+            pending.add(book);
+            if (pending.size() >= chunkSize) {
+                chunk = pending;
+                pending = new ArrayList<>(chunkSize);
+            }
+        } finally {
+            lock.unlock();
+        }
+        return chunk != null ? write(chunk) : UpsertResult.EMPTY;
+    }
+
+    /**
+     * 남아있는 책을 모두 저장합니다
+     */
+    public UpsertResult flush() {
+        List<Book> chunk;
+        lock.lock();
+        try {
+            chunk = pending;
+            pending = new ArrayList<>(chunkSize);
+        } finally {
+            lock.unlock();
+        }
+        return write(chunk);
+    }
+
+    /**
+     * chunk 하나를 자체 트랜잭션으로 저장합니다
+     * 이벤트는 트랜잭션 안에서 발행되어 커밋된 뒤에만 리스너에 전달됩니다
+     */
+    private UpsertResult write(List<Book> chunk) {
+        if (chunk.isEmpty()) {
+            return UpsertResult.EMPTY;
+        }
+        UpsertResult result;
+        long startedAt = System.nanoTime();
+        try {
+            result = transactionTemplate.execute(status -> {
+                UpsertResult upserted = bookBulkRepository.upsert(chunk);
+                eventPublisher.publishEvent(new BooksSavedEvent(upserted.inserted(), upserted.updated(),
+                        upserted.vacatedCategories()));
+                return upserted;
+            });
+        } catch (DataAccessException | TransactionException e) {
+            log.error("책 {} 권 저장 실패, chunk 롤백: {}", chunk.size(), e.getMessage());
+            result = UpsertResult.failed(chunk.size());
+        }
+        crawlMetrics.written(category, startedAt, result);
+        lock.lock();
+        try {
+            insertedCount += result.insertedCount();
+            updatedCount += result.updatedCount();
+            failedCount += result.failedCount();
+        } finally {
+            lock.unlock();
+        }
+        log.debug("책 {} 권 일괄 저장 (신규 {}, 갱신 {})",
+                chunk.size(), result.insertedCount(), result.updatedCount());
+        return result;
+    }
+
+    public long getInsertedCount() {
+        return insertedCount;
+    }
+
+    public long getUpdatedCount() {
+        return updatedCount;
+    }
+
+    public long getFailedCount() {
+        return failedCount;
+    }
+}
@@ -0,0 +1,175 @@
+package com.tistory.glorygem.crawler.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.tistory.glorygem.crawler.config.CrawlerProperties;
+import com.tistory.glorygem.crawler.domain.dto.BookPageDTO;
+import com.tistory.glorygem.crawler.domain.entity.Book;
+import com.tistory.glorygem.crawler.domain.entity.BookCategory;
+import com.tistory.glorygem.crawler.event.BooksImportedEvent;
+import com.tistory.glorygem.crawler.event.BooksSavedEvent;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * 카테고리 / 카테고리별 책 목록 조회 캐시 (Caffeine, 크기 + TTL 제한)
+ *
+ * 데이터는 크롤링할 때만 바뀌므로 조회 결과를 메모리에 두고,
+ * 책 저장이 커밋되면 해당 카테고리의 책 목록만, 카테고리를 새로 저장하면 카테고리 캐시만 비웁니다
+ * 없는 카테고리(null)는 캐시하지 않습니다
+ * 적중 / 실패 수는 cache.gets{cache=catalog.*} 지표로 노출됩니다
+ */
+@Slf4j
+@Component
+public class CatalogCache implements MeterBinder {
+
+    private static final String ALL = "all";
+
+    private final Cache<String, List<BookCategory>> categories;
+    private final Cache<String, BookCategory> categoriesByName;
+    private final Cache<BookPageKey, BookPageDTO> bookPages;
+
+    public CatalogCache(CrawlerProperties properties) {
+        CrawlerProperties.Cache settings = properties.getCache();
+        Duration ttl = Duration.ofSeconds(settings.getTtlSeconds());
+        this.categories = Caffeine.newBuilder()
+                .maximumSize(1)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+        this.categoriesByName = Caffeine.newBuilder()
+                .maximumSize(settings.getMaxCategories())
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+        this.bookPages = Caffeine.newBuilder()
+                .maximumSize(settings.getMaxBookPages())
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+    }
+
+    public List<BookCategory> allCategories(Supplier<List<BookCategory>> loader) {
+        return categories.get(ALL, key -> List.copyOf(loader.get()));
+    }
+
+    public BookCategory category(String categoryName, Function<String, BookCategory> loader) {
+        return categoriesByName.get(categoryName, loader);
+    }
+
+    public BookPageDTO booksByCategory(String categoryName, UUID cursor, int size, boolean includeDescription,
+                                       Supplier<BookPageDTO> loader) {
+        return bookPages.get(new BookPageKey(categoryName, cursor, size, includeDescription), key -> loader.get());
+    }
+
+    /**
+     * 카테고리 캐시를 비웁니다 (트랜잭션 안이면 커밋 후에)
+     */
+    public void invalidateCategories() {
+        afterCommit(() -> {
+            categories.invalidateAll();
+            categoriesByName.invalidateAll();
+        });
+    }
+
+    /**
+     * 카테고리의 책 목록 페이지를 모두 비웁니다
+     */
+    public void invalidateBooks(String categoryName) {
+        bookPages.asMap().keySet().removeIf(key -> key.categoryName().equals(categoryName));
+    }
+
+    /**
+     * 일괄 가져오기 후에는 어느 카테고리가 바뀌었는지 모르므로 모두 비웁니다
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onBooksImported(BooksImportedEvent event) {
+        categories.invalidateAll();
+        categoriesByName.invalidateAll();
+        bookPages.invalidateAll();
+    }
+
+    /**
+     * 저장이 커밋된 책의 카테고리 목록만 비웁니다
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onBooksSaved(BooksSavedEvent event) {
+        Set<String> dirty = new HashSet<>();
+        collectCategories(event.inserted(), dirty);
+        collectCategories(event.updated(), dirty);
+        dirty.forEach(this::invalidateBooks);
+        if (!event.vacatedCategories().isEmpty()) {
+            bookPages.invalidateAll();  // 다른 카테고리로 옮겨진 책 (이전 카테고리는 id 만 알고 있어 전체 무효화, 드문 경우)
+        }
+        if (!dirty.isEmpty()) {
+            log.debug("책 목록 캐시 무효화: {}", dirty);
+        }
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        CaffeineCacheMetrics.monitor(registry, categories, "catalog.categories");
+        CaffeineCacheMetrics.monitor(registry, categoriesByName, "catalog.categoriesByName");
+        CaffeineCacheMetrics.monitor(registry, bookPages, "catalog.bookPages");
+    }
+
+    /**
+     * 캐시별 크기와 적중률
+     */
+    public Map<String, Object> getStats() {
+        Map<String, Object> stats = new HashMap<>();
+        stats.put("categories", stats(categories));
+        stats.put("categoriesByName", stats(categoriesByName));
+        stats.put("bookPages", stats(bookPages));
+        return stats;
+    }
+
+    private static Map<String, Object> stats(Cache<?, ?> cache) {
+        Map<String, Object> stats = new HashMap<>();
+        stats.put("size", cache.estimatedSize());
+        stats.put("hits", cache.stats().hitCount());
+        stats.put("misses", cache.stats().missCount());
+        stats.put("hitRate", cache.stats().hitRate());
+        return stats;
+    }
+
+    private static void collectCategories(List<Book> books, Set<String> names) {
+        for (Book book : books) {
+            if (book.getBookCategory() != null && book.getBookCategory().getCategoryName() != null) {
+                names.add(book.getBookCategory().getCategoryName());
+            }
+        }
+    }
+
+    private static void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+
+    private record BookPageKey(String categoryName, UUID cursor, int size, boolean includeDescription) {
+    }
+}
@@ -0,0 +1,245 @@
+package com.tistory.glorygem.crawler.service;
+
+import com.tistory.glorygem.crawler.domain.dto.CategoryStatsDTO;
+import com.tistory.glorygem.crawler.domain.entity.Book;
+import com.tistory.glorygem.crawler.domain.entity.CategoryStats;
+import com.tistory.glorygem.crawler.domain.repository.BookRepository;
+import com.tistory.glorygem.crawler.domain.repository.CategoryAggregate;
+import com.tistory.glorygem.crawler.domain.repository.CategoryStatsRepository;
+import com.tistory.glorygem.crawler.event.BooksImportedEvent;
+import com.tistory.glorygem.crawler.event.BooksSavedEvent;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.LocalDateTime;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 카테고리별 책 수 / 가격 / 재고 통계
+ * 책이 저장될 때마다 증분 갱신하고 CategoryStats 테이블에 보관하므로
+ * 개수/상태 조회 시 전체 목록을 읽지 않습니다
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class CatalogStatsService {
+
+    private static final String IN_STOCK_PREFIX = "In stock";
+
+    private final CategoryStatsRepository categoryStatsRepository;
+    private final BookRepository bookRepository;
+
+    private final Map<UUID, CategoryStats> statsById = new ConcurrentHashMap<>();
+    private final Map<String, CategoryStats> statsByName = new ConcurrentHashMap<>();
+    private final ReentrantLock lock = new ReentrantLock();
+
+    /**
+     * 시작 시 통계 테이블을 읽고, 비어 있으면 Book 테이블에서 다시 집계합니다
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional
+    public void load() {
+        List<CategoryStats> stored = categoryStatsRepository.findAll();
+        if (stored.isEmpty()) {
+            rebuild();
+            return;
+        }
+        stored.forEach(this::put);
+        log.info("카테고리 통계 로드 완료: {} 개 카테고리", stored.size());
+    }
+
+    /**
+     * Book 테이블을 집계하여 통계를 다시 만듭니다
+     */
+    @Transactional
+    public void rebuild() {
+        lock.lock();
+        try {
+            statsById.clear();
+            statsByName.clear();
+            for (CategoryAggregate aggregate : bookRepository.aggregateByCategory()) {
+                put(fromAggregate(aggregate));
+            }
+            categoryStatsRepository.deleteAllInBatch();
+            categoryStatsRepository.saveAll(statsById.values());
+            log.info("카테고리 통계 재집계 완료: {} 개 카테고리", statsById.size());
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 일괄 가져오기 후에는 Book 테이블에서 다시 집계합니다
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public void onBooksImported(BooksImportedEvent event) {
+        rebuild();
+    }
+
+    /**
+     * 저장이 커밋된 책을 통계에 반영합니다
+     * 새 책은 증분 갱신하고, 갱신된 책은 이전 값을 모르므로 해당 카테고리와 책이 빠져나간 이전 카테고리를 다시 집계합니다
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public void onBooksSaved(BooksSavedEvent event) {
+        lock.lock();
+        try {
+            Set<UUID> dirty = new HashSet<>();
+            for (Book book : event.inserted()) {
+                if (book.getBookCategory() == null) {
+                    continue;
+                }
+                UUID categoryId = book.getBookCategory().getUuidBookCategory();
+                CategoryStats stats = statsById.computeIfAbsent(categoryId, id -> {
+                    CategoryStats created = new CategoryStats();
+                    created.setUuidBookCategory(id);
+                    created.setCategoryName(book.getBookCategory().getCategoryName());
+                    statsByName.put(created.getCategoryName(), created);
+                    return created;
+                });
+                add(stats, book);
+                dirty.add(categoryId);
+            }
+
+            // 다른 카테고리로 옮겨진 책은 이전 카테고리도 다시 집계
+            Set<UUID> recompute = new HashSet<>(event.vacatedCategories());
+            for (Book book : event.updated()) {
+                if (book.getBookCategory() != null) {
+                    recompute.add(book.getBookCategory().getUuidBookCategory());
+                }
+            }
+            for (UUID categoryId : recompute) {
+                Optional<CategoryAggregate> aggregate = bookRepository.aggregateByCategoryId(categoryId);
+                if (aggregate.isPresent()) {
+                    put(fromAggregate(aggregate.get()));
+                    dirty.add(categoryId);
+                } else if (statsById.containsKey(categoryId)) {
+                    clear(statsById.get(categoryId));  // 남은 책이 없음
+                    dirty.add(categoryId);
+                }
+            }
+
+            LocalDateTime now = LocalDateTime.now();
+            List<CategoryStats> changed = dirty.stream().map(statsById::get).toList();
+            changed.forEach(stats -> stats.setUpdatedAt(now));
+            categoryStatsRepository.saveAll(changed);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 전체 책 수
+     */
+    public long getTotalBookCount() {
+        return statsById.values().stream().mapToLong(CategoryStats::getBookCount).sum();
+    }
+
+    /**
+     * 카테고리별 책 수 (통계가 없으면 0)
+     */
+    public long getBookCount(String categoryName) {
+        CategoryStats stats = statsByName.get(categoryName);
+        return stats != null ? stats.getBookCount() : 0;
+    }
+
+    /**
+     * 전체 요약 + 카테고리별 통계
+     */
+    public Map<String, Object> getSummary() {
+        List<CategoryStatsDTO> categories = statsById.values().stream()
+                .map(this::toDTO)
+                .sorted(Comparator.comparing(CategoryStatsDTO::getCategoryName))
+                .toList();
+
+        Map<String, Object> summary = new HashMap<>();
+        summary.put("totalBooks", categories.stream().mapToLong(CategoryStatsDTO::getBookCount).sum());
+        summary.put("inStockBooks", categories.stream().mapToLong(CategoryStatsDTO::getInStockCount).sum());
+        summary.put("categoryCount", categories.size());
+        summary.put("categories", categories);
+        return summary;
+    }
+
+    public CategoryStatsDTO getCategoryStats(String categoryName) {
+        CategoryStats stats = statsByName.get(categoryName);
+        if (stats == null) {
+            throw new IllegalArgumentException("카테고리 통계를 찾을 수 없습니다: " + categoryName);
+        }
+        return toDTO(stats);
+    }
+
+    private void add(CategoryStats stats, Book book) {
+        stats.setBookCount(stats.getBookCount() + 1);
+        BigDecimal price = book.getPrice();
+        if (price != null) {
+            stats.setPriceMin(stats.getPriceMin() == null ? price : stats.getPriceMin().min(price));
+            stats.setPriceMax(stats.getPriceMax() == null ? price : stats.getPriceMax().max(price));
+            stats.setPriceSum(stats.getPriceSum() == null ? price : stats.getPriceSum().add(price));
+            stats.setPricedCount(stats.getPricedCount() + 1);
+        }
+        if (book.getAvailability() != null && book.getAvailability().startsWith(IN_STOCK_PREFIX)) {
+            stats.setInStockCount(stats.getInStockCount() + 1);
+        }
+    }
+
+    private static void clear(CategoryStats stats) {
+        stats.setBookCount(0);
+        stats.setPriceMin(null);
+        stats.setPriceMax(null);
+        stats.setPriceSum(null);
+        stats.setPricedCount(0);
+        stats.setInStockCount(0);
+    }
+
+    private void put(CategoryStats stats) {
+        statsById.put(stats.getUuidBookCategory(), stats);
+        statsByName.put(stats.getCategoryName(), stats);
+    }
+
+    private CategoryStats fromAggregate(CategoryAggregate aggregate) {
+        CategoryStats stats = new CategoryStats();
+        stats.setUuidBookCategory(aggregate.getCategoryId());
+        stats.setCategoryName(aggregate.getCategoryName());
+        stats.setBookCount(aggregate.getBookCount());
+        stats.setPriceMin(aggregate.getPriceMin());
+        stats.setPriceMax(aggregate.getPriceMax());
+        stats.setPriceSum(aggregate.getPriceSum());
+        stats.setPricedCount(aggregate.getPricedCount());
+        stats.setInStockCount(aggregate.getInStockCount());
+        stats.setUpdatedAt(LocalDateTime.now());
+        return stats;
+    }
+
+    private CategoryStatsDTO toDTO(CategoryStats stats) {
+        BigDecimal average = stats.getPricedCount() == 0 || stats.getPriceSum() == null ? null
+                : stats.getPriceSum().divide(BigDecimal.valueOf(stats.getPricedCount()), 2, RoundingMode.HALF_UP);
+        return CategoryStatsDTO.builder()
+                .categoryName(stats.getCategoryName())
+                .bookCount(stats.getBookCount())
+                .priceMin(stats.getPriceMin())
+                .priceMax(stats.getPriceMax())
+                .priceAvg(average)
+                .inStockCount(stats.getInStockCount())
+                .updatedAt(stats.getUpdatedAt())
+                .build();
+    }
+}
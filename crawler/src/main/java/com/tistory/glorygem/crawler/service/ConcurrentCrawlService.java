@@ -0,0 +1,162 @@
+package com.tistory.glorygem.crawler.service;
+
+import com.tistory.glorygem.crawler.config.CrawlerProperties;
+import com.tistory.glorygem.crawler.crawl.BookPageExtractor;
+import com.tistory.glorygem.crawler.crawl.BookUrlIndex;
+import com.tistory.glorygem.crawler.crawl.CrawlMetrics;
+import com.tistory.glorygem.crawler.crawl.CrawlMode;
+import com.tistory.glorygem.crawler.crawl.CrawlProgress;
+import com.tistory.glorygem.crawler.domain.dto.CrawlResultDTO;
+import com.tistory.glorygem.crawler.domain.entity.Book;
+import com.tistory.glorygem.crawler.domain.entity.BookCategory;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.jsoup.nodes.Document;
+import org.jsoup.nodes.Element;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * 가상 스레드 기반 동시 크롤링
+ * 카테고리 목록 페이지와 책 상세 페이지를 동시에 가져오며,
+ * 동시 요청 수와 요청 속도는 PageFetcher 가 제한합니다
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ConcurrentCrawlService {
+
+    private final BookService bookService;
+    private final BookCategoryService bookCategoryService;
+    private final BookUrlIndex bookUrlIndex;
+    private final BookPageExtractor bookPageExtractor;
+    private final CrawlerProperties properties;
+    private final CrawlMetrics crawlMetrics;
+
+    /**
+     * 모든 카테고리의 책을 동시에 크롤링하여 저장합니다
+     */
+    public CrawlResultDTO crawlAllBooks() throws IOException {
+        return crawlAllBooks(properties.getCrawlMode(), new CrawlProgress());
+    }
+
+    /**
+     * 모든 카테고리의 책을 mode 로 동시에 크롤링하고 진행 상황을 progress 에 기록합니다
+     */
+    public CrawlResultDTO crawlAllBooks(CrawlMode mode, CrawlProgress progress) throws IOException {
+        List<BookCategory> categories = bookCategoryService.crawlAndSaveCategories();
+        progress.listingPageFetched();
+        return crawlCategories(categories, mode, progress);
+    }
+
+    /**
+     * 주어진 카테고리들의 책을 동시에 크롤링하여 저장합니다
+     */
+    public CrawlResultDTO crawlCategories(List<BookCategory> categories) {
+        return crawlCategories(categories, properties.getCrawlMode(), new CrawlProgress());
+    }
+
+    public CrawlResultDTO crawlCategories(List<BookCategory> categories, CrawlMode mode, CrawlProgress progress) {
+        log.info("동시 크롤링 시작: {} 개 카테고리 ({} 모드)", categories.size(), mode);
+        progress.setCategoriesTotal(categories.size());
+        BookWriteBuffer buffer = bookService.newWriteBuffer();
+        bookUrlIndex.ensureLoaded();
+
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            List<Future<?>> futures = new ArrayList<>();
+            for (BookCategory category : categories) {
+                futures.add(executor.submit(() -> crawlCategory(category, mode, executor, buffer, progress)));
+            }
+            // 카테고리 작업이 상세 작업을 모두 제출/대기한 뒤에 executor 를 닫아야 함
+            awaitAll(futures, progress);
+        }
+        BookService.record(buffer.flush(), progress);
+
+        CrawlResultDTO result = progress.toResult();
+        log.info("동시 크롤링 완료: {} 페이지 (목록 {} / 상세 {}), {} 권 저장, {} 페이지/초",
+                result.getPagesFetched(), result.getListingPagesFetched(), result.getDetailPagesFetched(),
+                result.getBooksSaved(),
+                String.format("%.2f", result.getPagesPerSecond()));
+        return result;
+    }
+
+    /**
+     * 카테고리 목록 페이지를 순서대로 따라가며 상세 페이지 작업을 제출합니다
+     * LISTING 모드에서는 상세 페이지 대신 목록 항목을 바로 저장합니다
+     */
+    private void crawlCategory(BookCategory category, CrawlMode mode, ExecutorService executor,
+                               BookWriteBuffer buffer, CrawlProgress progress) {
+        List<Future<?>> details = new ArrayList<>();
+        String currentUrl = bookService.getCategoryUrl(category);
+
+        try {
+            while (currentUrl != null && !progress.isCancelled()) {
+                Document doc = bookService.fetchListing(currentUrl, category);
+                progress.listingPageFetched();
+
+                for (Element bookElement : bookPageExtractor.bookItems(doc)) {
+                    String bookUrl = bookService.extractBookUrl(bookElement);
+                    if (bookUrl == null) {
+                        continue;
+                    }
+                    if (bookUrlIndex.contains(bookUrl)) {
+                        progress.duplicate();
+                        crawlMetrics.duplicate(CrawlMetrics.categoryTag(category));
+                        continue;
+                    }
+                    if (mode == CrawlMode.LISTING) {
+                        BookService.record(buffer.add(bookPageExtractor.extractListingItem(bookElement, bookUrl, category)), progress);
+                        continue;
+                    }
+                    details.add(executor.submit(() -> crawlDetail(bookUrl, category, buffer, progress)));
+                }
+
+                currentUrl = bookService.getNextPageUrl(doc, currentUrl);
+            }
+        } catch (IOException e) {
+            progress.error();
+            log.error("카테고리 '{}' 목록 크롤링 실패: {}", category.getCategoryName(), e.getMessage());
+        }
+
+        awaitAll(details, progress);
+        progress.categoryDone();
+        log.debug("카테고리 '{}' 동시 크롤링 완료", category.getCategoryName());
+    }
+
+    private void crawlDetail(String bookUrl, BookCategory category,
+                             BookWriteBuffer buffer, CrawlProgress progress) {
+        if (progress.isCancelled()) {
+            return;
+        }
+        try {
+            Book book = bookService.crawlBookDetail(bookUrl, category);
+            progress.detailPageFetched();
+            BookService.record(buffer.add(book), progress);
+        } catch (IOException e) {
+            progress.error();
+            log.warn("책 상세 크롤링 실패: {} ({})", bookUrl, e.getMessage());
+        }
+    }
+
+    private void awaitAll(List<Future<?>> futures, CrawlProgress progress) {
+        for (Future<?> future : futures) {
+            try {
+                future.get();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                futures.forEach(f -> f.cancel(true));
+                return;
+            } catch (ExecutionException e) {
+                progress.error();
+                log.error("크롤링 작업 실패", e.getCause());
+            }
+        }
+    }
+}
@@ -0,0 +1,260 @@
+package com.tistory.glorygem.crawler.service;
+
+import com.tistory.glorygem.crawler.config.CrawlerProperties;
+import com.tistory.glorygem.crawler.crawl.CrawlJob;
+import com.tistory.glorygem.crawler.crawl.CrawlJobType;
+import com.tistory.glorygem.crawler.crawl.CrawlMode;
+import com.tistory.glorygem.crawler.crawl.CrawlProgress;
+import com.tistory.glorygem.crawler.domain.dto.CrawlJobDTO;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 크롤링을 요청 스레드가 아닌 전용 executor 에서 실행하는 작업 관리자
+ * 진행 상황은 조회 API 와 SSE 로 제공하고, 실행 중인 작업을 취소할 수 있습니다
+ */
+@Slf4j
+@Service
+public class CrawlJobService {
+
+    private static final long SSE_TIMEOUT_MILLIS = TimeUnit.HOURS.toMillis(6);
+    private static final long PUSH_INTERVAL_MILLIS = 1000;
+    private static final int MAX_RETAINED_JOBS = 100;
+
+    private final BookService bookService;
+    private final BookCategoryService bookCategoryService;
+    private final ConcurrentCrawlService concurrentCrawlService;
+    private final FrontierCrawlService frontierCrawlService;
+    private final BookRefreshService bookRefreshService;
+    private final PageReplayService pageReplayService;
+
+    private final CrawlMode defaultMode;
+    private final ExecutorService executor;
+    private final ScheduledExecutorService progressPusher;
+    private final Map<String, CrawlJob> jobs = new ConcurrentHashMap<>();
+    private final Map<String, List<SseEmitter>> emitters = new ConcurrentHashMap<>();
+
+    public CrawlJobService(BookService bookService,
+                           BookCategoryService bookCategoryService,
+                           ConcurrentCrawlService concurrentCrawlService,
+                           FrontierCrawlService frontierCrawlService,
+                           BookRefreshService bookRefreshService,
+                           PageReplayService pageReplayService,
+                           CrawlerProperties properties) {
+        this.bookService = bookService;
+        this.bookCategoryService = bookCategoryService;
+        this.concurrentCrawlService = concurrentCrawlService;
+        this.frontierCrawlService = frontierCrawlService;
+        this.bookRefreshService = bookRefreshService;
+        this.pageReplayService = pageReplayService;
+        this.defaultMode = properties.getCrawlMode();
+
+        AtomicInteger threadCount = new AtomicInteger();
+        this.executor = Executors.newFixedThreadPool(properties.getJobs().getPoolSize(),
+                runnable -> new Thread(runnable, "crawl-job-" + threadCount.incrementAndGet()));
+        this.progressPusher = Executors.newSingleThreadScheduledExecutor(
+                runnable -> new Thread(runnable, "crawl-job-sse"));
+        this.progressPusher.scheduleAtFixedRate(this::pushProgress,
+                PUSH_INTERVAL_MILLIS, PUSH_INTERVAL_MILLIS, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * 작업을 등록하고 바로 반환합니다 (실행은 전용 executor 에서)
+     */
+    public CrawlJob submit(CrawlJobType type, String target) {
+        return submit(type, target, null);
+    }
+
+    /**
+     * mode 가 null 이면 crawler.crawl-mode 설정을 사용합니다
+     */
+    public CrawlJob submit(CrawlJobType type, String target, CrawlMode mode) {
+        CrawlJob job = new CrawlJob(type, target, mode != null ? mode : defaultMode);
+        jobs.put(job.getId(), job);
+        job.setFuture(executor.submit(() -> execute(job)));
+        log.info("크롤링 작업 등록: {} ({}, {} 모드)", job.getId(), type, job.getMode());
+        evictFinishedJobs();
+        return job;
+    }
+
+    public Optional<CrawlJob> find(String jobId) {
+        return Optional.ofNullable(jobs.get(jobId));
+    }
+
+    public List<CrawlJob> findAll() {
+        return jobs.values().stream()
+                .sorted(Comparator.comparing(CrawlJob::getCreatedAt).reversed())
+                .toList();
+    }
+
+    /**
+     * 작업을 취소합니다 (실행 중이면 크롤링 루프가 다음 단계에서 멈춤)
+     */
+    public CrawlJob cancel(String jobId) {
+        CrawlJob job = jobs.get(jobId);
+        if (job == null) {
+            throw new IllegalArgumentException("작업을 찾을 수 없습니다: " + jobId);
+        }
+        if (!job.isFinished()) {
+            job.getProgress().cancel();
+            if (job.getStatus() == CrawlJob.Status.QUEUED) {
+                finish(job, CrawlJob.Status.CANCELLED);
+            }
+            // 대기 중이면 실행되지 않게만 하고, 실행 중인 스레드는 인터럽트하지 않음
+            // (JDBC / 트랜잭션 도중 인터럽트되면 풀의 연결이 망가질 수 있으므로 progress 취소 플래그로 멈춤)
+            if (job.getFuture() != null) {
+                job.getFuture().cancel(false);
+            }
+            log.info("크롤링 작업 취소 요청: {}", jobId);
+        }
+        return job;
+    }
+
+    /**
+     * 작업 진행 상황을 Server-Sent Events 로 구독합니다
+     */
+    public SseEmitter subscribe(String jobId) {
+        CrawlJob job = jobs.get(jobId);
+        if (job == null) {
+            throw new IllegalArgumentException("작업을 찾을 수 없습니다: " + jobId);
+        }
+        SseEmitter emitter = new SseEmitter(SSE_TIMEOUT_MILLIS);
+        List<SseEmitter> jobEmitters = emitters.computeIfAbsent(jobId, id -> new CopyOnWriteArrayList<>());
+        jobEmitters.add(emitter);
+        emitter.onCompletion(() -> jobEmitters.remove(emitter));
+        emitter.onTimeout(() -> jobEmitters.remove(emitter));
+        emitter.onError(e -> jobEmitters.remove(emitter));
+
+        send(emitter, job);
+        if (job.isFinished()) {
+            emitter.complete();
+        }
+        return emitter;
+    }
+
+    public CrawlJobDTO toDTO(CrawlJob job) {
+        return CrawlJobDTO.builder()
+                .id(job.getId())
+                .type(job.getType().name())
+                .target(job.getTarget())
+                .mode(job.getMode().name())
+                .status(job.getStatus().name())
+                .createdAt(job.getCreatedAt())
+                .startedAt(job.getStartedAt())
+                .finishedAt(job.getFinishedAt())
+                .progress(job.getProgress().toResult())
+                .result(job.getResult())
+                .error(job.getError())
+                .build();
+    }
+
+    private void execute(CrawlJob job) {
+        if (job.isFinished()) {
+            return;
+        }
+        job.setStatus(CrawlJob.Status.RUNNING);
+        job.setStartedAt(LocalDateTime.now());
+        job.getProgress().start();
+        try {
+            job.setResult(run(job.getType(), job.getTarget(), job.getMode(), job.getProgress()));
+            finish(job, job.getProgress().isCancelled() ? CrawlJob.Status.CANCELLED : CrawlJob.Status.COMPLETED);
+        } catch (Exception e) {
+            log.error("크롤링 작업 실패: {} ({})", job.getId(), job.getType(), e);
+            job.setError(e.getMessage());
+            finish(job, job.getProgress().isCancelled() ? CrawlJob.Status.CANCELLED : CrawlJob.Status.FAILED);
+        }
+    }
+
+    private Object run(CrawlJobType type, String target, CrawlMode mode, CrawlProgress progress) throws IOException {
+        return switch (type) {
+            case CATEGORIES -> {
+                var categories = bookCategoryService.crawlAndSaveCategories();
+                progress.listingPageFetched();
+                yield categories;
+            }
+            case CATEGORY -> bookService.crawlAndSaveBooksByCategory(target, mode, progress);
+            case ALL -> bookService.crawlAndSaveAllBooks(mode, progress);
+            case CONCURRENT -> concurrentCrawlService.crawlAllBooks(mode, progress);
+            case FRONTIER -> frontierCrawlService.crawl(progress);
+            case ENRICH -> bookService.enrichMissingDetails(progress);
+            case REFRESH -> bookRefreshService.refreshAll(progress);
+            case REPLAY -> pageReplayService.replayAll(progress);
+        };
+    }
+
+    private void finish(CrawlJob job, CrawlJob.Status status) {
+        job.setStatus(status);
+        job.setFinishedAt(LocalDateTime.now());
+        log.info("크롤링 작업 종료: {} ({})", job.getId(), status);
+    }
+
+    /**
+     * 구독 중인 클라이언트에 진행 상황을 주기적으로 보냅니다
+     */
+    private void pushProgress() {
+        emitters.forEach((jobId, jobEmitters) -> {
+            CrawlJob job = jobs.get(jobId);
+            if (job == null) {
+                jobEmitters.forEach(SseEmitter::complete);
+                emitters.remove(jobId);
+                return;
+            }
+            for (SseEmitter emitter : jobEmitters) {
+                send(emitter, job);
+                if (job.isFinished()) {
+                    emitter.complete();
+                }
+            }
+            if (job.isFinished()) {
+                emitters.remove(jobId);
+            }
+        });
+    }
+
+    private void send(SseEmitter emitter, CrawlJob job) {
+        try {
+            emitter.send(SseEmitter.event()
+                    .name(job.isFinished() ? "done" : "progress")
+                    .data(toDTO(job)));
+        } catch (IOException | IllegalStateException e) {
+            emitter.completeWithError(e);
+        }
+    }
+
+    /**
+     * 끝난 작업은 최근 MAX_RETAINED_JOBS 개까지만 보관합니다
+     */
+    private void evictFinishedJobs() {
+        if (jobs.size() <= MAX_RETAINED_JOBS) {
+            return;
+        }
+        jobs.values().stream()
+                .filter(CrawlJob::isFinished)
+                .sorted(Comparator.comparing(CrawlJob::getCreatedAt))
+                .limit(jobs.size() - MAX_RETAINED_JOBS)
+                .forEach(job -> jobs.remove(job.getId()));
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        jobs.values().forEach(job -> job.getProgress().cancel());
+        progressPusher.shutdownNow();
+        executor.shutdownNow();
+    }
+}
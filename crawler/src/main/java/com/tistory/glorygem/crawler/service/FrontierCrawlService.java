@@ -0,0 +1,241 @@
+package com.tistory.glorygem.crawler.service;
+
+import com.tistory.glorygem.crawler.config.CrawlerProperties;
+import com.tistory.glorygem.crawler.crawl.BookPageExtractor;
+import com.tistory.glorygem.crawler.crawl.BookUrlIndex;
+import com.tistory.glorygem.crawler.crawl.CrawlMetrics;
+import com.tistory.glorygem.crawler.crawl.CrawlProgress;
+import com.tistory.glorygem.crawler.domain.dto.CrawlResultDTO;
+import com.tistory.glorygem.crawler.domain.entity.Book;
+import com.tistory.glorygem.crawler.domain.entity.BookCategory;
+import com.tistory.glorygem.crawler.domain.entity.CrawlFrontier.PageType;
+import com.tistory.glorygem.crawler.domain.entity.CrawlFrontier.State;
+import com.tistory.glorygem.crawler.domain.repository.BookBulkRepository;
+import com.tistory.glorygem.crawler.domain.repository.BookBulkRepository.UpsertResult;
+import com.tistory.glorygem.crawler.domain.repository.CrawlFrontierRepository;
+import com.tistory.glorygem.crawler.domain.repository.CrawlFrontierRepository.Entry;
+import com.tistory.glorygem.crawler.event.BooksSavedEvent;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.jsoup.nodes.Document;
+import org.jsoup.nodes.Element;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.TransactionException;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * DB 대기열(CrawlFrontier) 기반 전체 크롤링
+ * 작업자들이 대기열에서 페이지를 묶음으로 가져가 처리하고,
+ * 묶음마다 책 저장 / 새로 발견한 페이지 추가 / 완료 표시를 한 트랜잭션으로 커밋합니다
+ * 중간에 프로세스가 죽어도 다시 실행하면 남은 페이지부터 이어서 크롤링합니다
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class FrontierCrawlService {
+
+    private static final long IDLE_WAIT_MILLIS = 200;
+
+    private final CrawlFrontierRepository frontierRepository;
+    private final BookBulkRepository bookBulkRepository;
+    private final BookService bookService;
+    private final BookCategoryService bookCategoryService;
+    private final BookUrlIndex bookUrlIndex;
+    private final BookPageExtractor bookPageExtractor;
+    private final TransactionTemplate transactionTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+    private final CrawlerProperties properties;
+    private final CrawlMetrics crawlMetrics;
+
+    /**
+     * 남은 대기열이 있으면 이어서, 없으면 카테고리부터 새로 크롤링합니다
+     */
+    public CrawlResultDTO crawl() throws IOException {
+        return crawl(new CrawlProgress());
+    }
+
+    public CrawlResultDTO crawl(CrawlProgress progress) throws IOException {
+        Map<State, Long> counts = frontierRepository.countByState();
+        if (counts.get(State.PENDING) + counts.get(State.CLAIMED) == 0) {
+            seed(progress);
+        } else {
+            int released = frontierRepository.releaseClaimed();
+            log.info("대기열 이어서 크롤링: 대기 {} 건, 완료 {} 건 (처리 중이던 {} 건 재시도)",
+                    counts.get(State.PENDING) + released, counts.get(State.DONE), released);
+        }
+
+        Map<UUID, BookCategory> categories = bookCategoryService.getAllCategories().stream()
+                .collect(Collectors.toMap(BookCategory::getUuidBookCategory, Function.identity()));
+        bookUrlIndex.ensureLoaded();
+
+        // 대기열이 잠깐 비어도 다른 작업자가 처리 중인 묶음이 새 페이지를 추가할 수 있음
+        AtomicInteger inFlight = new AtomicInteger();
+        int workers = Math.max(1, properties.getFrontier().getWorkers());
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int i = 0; i < workers; i++) {
+                futures.add(executor.submit(() -> work(categories, inFlight, progress)));
+            }
+            for (Future<?> future : futures) {
+                try {
+                    future.get();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    futures.forEach(f -> f.cancel(true));
+                    break;
+                } catch (ExecutionException e) {
+                    progress.error();
+                    log.error("대기열 작업자 실패", e.getCause());
+                }
+            }
+        }
+
+        CrawlResultDTO result = progress.toResult();
+        log.info("대기열 크롤링 {}: {} 페이지, 신규 {} 권, 갱신 {} 권, 대기열 {}",
+                progress.isCancelled() ? "중단" : "완료", result.getPagesFetched(),
+                result.getBooksSaved(), result.getBooksUpdated(), frontierRepository.countByState());
+        return result;
+    }
+
+    /**
+     * 이전 실행 기록을 지우고 카테고리 첫 페이지들로 대기열을 채웁니다
+     */
+    private void seed(CrawlProgress progress) throws IOException {
+        frontierRepository.clear();
+        List<BookCategory> categories = bookCategoryService.crawlAndSaveCategories();
+        progress.listingPageFetched();
+        progress.setCategoriesTotal(categories.size());
+
+        frontierRepository.enqueue(categories.stream()
+                .map(category -> Entry.pending(bookService.getCategoryUrl(category),
+                        PageType.LISTING, category.getUuidBookCategory()))
+                .toList());
+        log.info("새 대기열 생성: 카테고리 {} 개", categories.size());
+    }
+
+    private void work(Map<UUID, BookCategory> categories, AtomicInteger inFlight, CrawlProgress progress) {
+        int claimBatchSize = properties.getFrontier().getClaimBatchSize();
+        while (!progress.isCancelled()) {
+            inFlight.incrementAndGet();
+            try {
+                List<Entry> batch = frontierRepository.claim(claimBatchSize);
+                if (!batch.isEmpty()) {
+                    process(batch, categories, progress);
+                    continue;
+                }
+            } finally {
+                inFlight.decrementAndGet();
+            }
+            // 처리 중인 작업자가 없어도, 방금 빈 결과를 받은 뒤 다른 작업자가 새 항목을 커밋하고 끝났을 수 있으므로
+            // 대기 항목이 정말 없을 때만 종료 (남은 작업자 수가 줄어든 채로 대기열을 처리하지 않도록)
+            if (inFlight.get() == 0 && frontierRepository.countByState().get(State.PENDING) == 0) {
+                return;
+            }
+            try {
+                Thread.sleep(IDLE_WAIT_MILLIS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+        }
+    }
+
+    /**
+     * 가져간 묶음을 처리하고 결과를 한 트랜잭션으로 체크포인트합니다
+     * 취소되면 처리하지 못한 항목은 CLAIMED 로 남고 다음 실행에서 다시 처리됩니다
+     */
+    private void process(List<Entry> batch, Map<UUID, BookCategory> categories, CrawlProgress progress) {
+        int maxAttempts = properties.getFrontier().getMaxAttempts();
+        List<Book> books = new ArrayList<>();
+        List<Entry> discovered = new ArrayList<>();
+        List<UUID> done = new ArrayList<>();
+
+        for (Entry entry : batch) {
+            if (progress.isCancelled()) {
+                break;
+            }
+            BookCategory category = categories.get(entry.categoryId());
+            try {
+                if (entry.pageType() == PageType.LISTING) {
+                    discovered.addAll(crawlListing(entry, category, progress));
+                } else if (bookUrlIndex.contains(entry.url())) {
+                    progress.duplicate();
+                    crawlMetrics.duplicate(CrawlMetrics.categoryTag(category));
+                } else {
+                    books.add(bookService.crawlBookDetail(entry.url(), category));
+                    progress.detailPageFetched();
+                }
+                done.add(entry.id());
+            } catch (IOException e) {
+                progress.error();
+                log.warn("대기열 페이지 크롤링 실패: {} ({}회째, {})", entry.url(), entry.attempts() + 1, e.getMessage());
+                frontierRepository.markFailed(entry.id(), e.getMessage(), maxAttempts);
+            }
+        }
+
+        long startedAt = System.nanoTime();
+        try {
+            UpsertResult result = transactionTemplate.execute(status -> {
+                UpsertResult upserted = books.isEmpty() ? UpsertResult.EMPTY : bookBulkRepository.upsert(books);
+                eventPublisher.publishEvent(new BooksSavedEvent(upserted.inserted(), upserted.updated(),
+                        upserted.vacatedCategories()));
+                frontierRepository.enqueue(discovered);
+                frontierRepository.markDone(done);
+                return upserted;
+            });
+            BookService.record(result, progress);
+            crawlMetrics.written(CrawlMetrics.ALL_CATEGORIES, startedAt, result);
+        } catch (DataAccessException | TransactionException e) {
+            // 체크포인트 전체가 롤백되었으므로 묶음의 항목을 다시 시도하도록 돌려놓음
+            log.error("대기열 체크포인트 실패 ({} 건): {}", done.size(), e.getMessage());
+            progress.booksFailed(books.size());
+            crawlMetrics.written(CrawlMetrics.ALL_CATEGORIES, startedAt, UpsertResult.failed(books.size()));
+            done.forEach(id -> frontierRepository.markFailed(id, e.getMessage(), maxAttempts));
+        }
+    }
+
+    /**
+     * 목록 페이지에서 아직 없는 책 상세 페이지와 다음 목록 페이지를 찾습니다
+     */
+    private List<Entry> crawlListing(Entry entry, BookCategory category, CrawlProgress progress) throws IOException {
+        Document doc = bookService.fetchListing(entry.url(), category);
+        progress.listingPageFetched();
+
+        List<Entry> discovered = new ArrayList<>();
+        for (Element bookElement : bookPageExtractor.bookItems(doc)) {
+            String bookUrl = bookService.extractBookUrl(bookElement);
+            if (bookUrl == null) {
+                continue;
+            }
+            if (bookUrlIndex.contains(bookUrl)) {
+                progress.duplicate();
+                crawlMetrics.duplicate(CrawlMetrics.categoryTag(category));
+                continue;
+            }
+            discovered.add(Entry.pending(bookUrl, PageType.DETAIL, entry.categoryId()));
+        }
+
+        String nextUrl = bookService.getNextPageUrl(doc, entry.url());
+        if (nextUrl != null) {
+            discovered.add(Entry.pending(nextUrl, PageType.LISTING, entry.categoryId()));
+        } else {
+            progress.categoryDone();
+        }
+        return discovered;
+    }
+}
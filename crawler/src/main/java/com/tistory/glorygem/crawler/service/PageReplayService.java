@@ -0,0 +1,99 @@
+package com.tistory.glorygem.crawler.service;
+
+import com.tistory.glorygem.crawler.crawl.BookPageExtractor;
+import com.tistory.glorygem.crawler.crawl.CrawlProgress;
+import com.tistory.glorygem.crawler.crawl.FetchedPage;
+import com.tistory.glorygem.crawler.crawl.PageStore;
+import com.tistory.glorygem.crawler.domain.dto.CrawlResultDTO;
+import com.tistory.glorygem.crawler.domain.entity.Book;
+import com.tistory.glorygem.crawler.domain.entity.BookCategory;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.jsoup.nodes.Document;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.regex.Pattern;
+
+/**
+ * 페이지 저장소에 기록된 상세 페이지를 네트워크 없이 다시 파싱하여 Book 테이블을 채웁니다
+ * 추출 로직을 바꾼 뒤 전체 데이터를 빠르게 다시 만들 때 사용합니다
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class PageReplayService {
+
+    // 상세 페이지: /catalogue/{slug}/index.html (카테고리 목록 페이지 제외)
+    private static final Pattern DETAIL_PAGE = Pattern.compile(".*/catalogue/(?!category/)[^/]+/index\\.html$");
+
+    private final PageStore pageStore;
+    private final BookService bookService;
+    private final BookPageExtractor bookPageExtractor;
+    private final BookCategoryService bookCategoryService;
+
+    /**
+     * 저장된 모든 상세 페이지를 파싱하여 저장합니다
+     */
+    public CrawlResultDTO replayAll() {
+        return replayAll(new CrawlProgress());
+    }
+
+    /**
+     * 저장된 모든 상세 페이지를 파싱하여 저장하고 진행 상황을 progress 에 기록합니다
+     */
+    public CrawlResultDTO replayAll(CrawlProgress progress) {
+        if (pageStore.getMode() == PageStore.Mode.OFF) {
+            throw new IllegalStateException("페이지 저장소가 꺼져 있습니다 (crawler.page-store.mode)");
+        }
+        log.info("페이지 저장소 재파싱 시작: {} 건", pageStore.size());
+
+        BookWriteBuffer buffer = bookService.newWriteBuffer();
+        Map<String, Optional<BookCategory>> categories = new HashMap<>();
+
+        for (String url : pageStore.urls()) {
+            if (progress.isCancelled()) {
+                break;
+            }
+            if (!DETAIL_PAGE.matcher(url).matches()) {
+                continue;
+            }
+            try {
+                Optional<FetchedPage> page = pageStore.find(url);
+                if (page.isEmpty()) {
+                    continue;
+                }
+                progress.pageFetched();
+                Document doc = bookPageExtractor.parseDetailPage(page.get());
+
+                BookCategory category = categories
+                        .computeIfAbsent(bookPageExtractor.extractCategoryName(doc), this::findCategory)
+                        .orElse(null);
+                Book book = bookPageExtractor.extractDetail(doc, url, category);
+                BookService.applyValidators(book, page.get());
+                BookService.record(buffer.add(book), progress);
+            } catch (IOException e) {
+                progress.error();
+                log.warn("저장된 페이지 파싱 실패: {} ({})", url, e.getMessage());
+            }
+        }
+        BookService.record(buffer.flush(), progress);
+
+        CrawlResultDTO result = progress.toResult();
+        log.info("페이지 저장소 재파싱 완료: {} 페이지, 신규 {}, 갱신 {}",
+                result.getPagesFetched(), result.getBooksSaved(), result.getBooksUpdated());
+        return result;
+    }
+
+    private Optional<BookCategory> findCategory(String categoryName) {
+        try {
+            return Optional.of(bookCategoryService.getCategoryByName(categoryName));
+        } catch (IllegalArgumentException e) {
+            log.warn("저장되지 않은 카테고리: {}", categoryName);
+            return Optional.empty();
+        }
+    }
+}
@@ -0,0 +1,71 @@
+package com.tistory.glorygem.crawler.crawl;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class AdaptiveConcurrencyLimiterTest {
+
+    private static final long FAST = TimeUnit.MILLISECONDS.toNanos(10);
+
+    @Test
+    void increasesWhileSaturatedAndFast() throws InterruptedException {
+        AdaptiveConcurrencyLimiter limiter = newLimiter(2);
+
+        for (int i = 0; i < 20; i++) {
+            limiter.acquire();
+            limiter.acquire();
+            limiter.onSuccess(FAST);
+            limiter.onSuccess(FAST);
+        }
+
+        assertThat(limiter.getLimit()).isGreaterThan(2);
+    }
+
+    @Test
+    void doesNotIncreaseWhenUnderused() throws InterruptedException {
+        AdaptiveConcurrencyLimiter limiter = newLimiter(4);
+
+        for (int i = 0; i < 50; i++) {
+            limiter.acquire();
+            limiter.onSuccess(FAST);
+        }
+
+        assertThat(limiter.getLimit()).isEqualTo(4);
+    }
+
+    @Test
+    void halvesOnDropAndShrinksOnSlowResponses() throws InterruptedException {
+        AdaptiveConcurrencyLimiter limiter = newLimiter(8);
+
+        limiter.acquire();
+        limiter.onDropped(null);
+        assertThat(limiter.getLimit()).isEqualTo(4);
+
+        for (int i = 0; i < 20; i++) {
+            limiter.acquire();
+            limiter.onSuccess(TimeUnit.SECONDS.toNanos(2));
+        }
+        assertThat(limiter.getLimit()).isLessThan(4);
+    }
+
+    @Test
+    void waitsOutRetryAfterBeforeNextRequest() throws InterruptedException {
+        AdaptiveConcurrencyLimiter limiter = newLimiter(4);
+
+        limiter.acquire();
+        limiter.onDropped(Duration.ofMillis(200));
+
+        long start = System.nanoTime();
+        limiter.acquire();
+        long waitedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+        assertThat(waitedMillis).isGreaterThanOrEqualTo(150);
+    }
+
+    private static AdaptiveConcurrencyLimiter newLimiter(int initialLimit) {
+        return new AdaptiveConcurrencyLimiter(initialLimit, 1, 16, Duration.ofMillis(500), 0.5, Duration.ZERO);
+    }
+}
@@ -0,0 +1,66 @@
+package com.tistory.glorygem.crawler.crawl;
+
+import com.tistory.glorygem.crawler.domain.entity.Book;
+import org.jsoup.Jsoup;
+import org.jsoup.nodes.Document;
+import org.jsoup.nodes.Element;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.math.BigDecimal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class BookPageExtractorTest {
+
+    private static final String DETAIL_PAGE = "/fixtures/books.toscrape.com/catalogue/its-only-the-himalayas_981/index.html";
+    private static final String DETAIL_URL = "https://books.toscrape.com/catalogue/its-only-the-himalayas_981/index.html";
+
+    private final BookPageExtractor extractor = new BookPageExtractor();
+
+    @Test
+    void extractsDetailFieldsFromProductSection() throws IOException {
+        Document doc = extractor.parseDetailPage(detailPage());
+
+        Book book = extractor.extractDetail(doc, DETAIL_URL, null);
+
+        assertThat(book.getTitle()).isEqualTo("It's Only the Himalayas");
+        assertThat(book.getUpc()).isEqualTo("a22124811bfa8350");
+        assertThat(book.getPrice()).isEqualByComparingTo("45.17");
+        assertThat(book.getNumberOfReviews()).isZero();
+        assertThat(book.getAvailability()).startsWith("In stock");
+        assertThat(book.getStockCount()).isEqualTo(19);
+        assertThat(book.getRating()).isEqualTo(2);
+        assertThat(extractor.extractCategoryName(doc)).isEqualTo("Travel");
+    }
+
+    @Test
+    void parsesPriceAndCountWithoutRegex() {
+        assertThat(BookPageExtractor.parsePrice("£51.77")).isEqualTo(new BigDecimal("51.77"));
+        assertThat(BookPageExtractor.parsePrice("Â£9.00")).isEqualTo(new BigDecimal("9.00"));
+        assertThat(BookPageExtractor.parsePrice("12")).isEqualTo(new BigDecimal("12"));
+        assertThat(BookPageExtractor.parsePrice("£")).isNull();
+        assertThat(BookPageExtractor.parsePrice("1.2.3")).isNull();
+
+        assertThat(BookPageExtractor.parseCount(" 7 ")).isEqualTo(7);
+        assertThat(BookPageExtractor.parseCount("seven")).isNull();
+    }
+
+    @Test
+    void parsesStockCountAndRating() {
+        assertThat(BookPageExtractor.parseStockCount("In stock (19 available)")).isEqualTo(19);
+        assertThat(BookPageExtractor.parseStockCount("Out of stock")).isZero();
+        assertThat(BookPageExtractor.parseStockCount("In stock")).isNull();
+
+        Element item = Jsoup.parse("<p class=\"star-rating Four\"></p>").selectFirst("p");
+        assertThat(BookPageExtractor.parseRating(item)).isEqualTo(4);
+        assertThat(BookPageExtractor.parseRating(null)).isNull();
+    }
+
+    private static FetchedPage detailPage() throws IOException {
+        try (InputStream in = BookPageExtractorTest.class.getResourceAsStream(DETAIL_PAGE)) {
+            return new FetchedPage(DETAIL_URL, 200, in.readAllBytes(), "UTF-8", null, null);
+        }
+    }
+}
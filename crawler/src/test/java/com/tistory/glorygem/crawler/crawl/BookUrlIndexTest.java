@@ -0,0 +1,57 @@
+package com.tistory.glorygem.crawler.crawl;
+
+import com.tistory.glorygem.crawler.config.CrawlerProperties;
+import com.tistory.glorygem.crawler.domain.repository.BookRepository;
+import org.junit.jupiter.api.Test;
+
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class BookUrlIndexTest {
+
+    private static String url(int i) {
+        return "https://books.toscrape.com/catalogue/book_" + i + "/index.html";
+    }
+
+    @Test
+    void loadsKnownUrlsAndTracksHitRate() {
+        BookRepository bookRepository = mock(BookRepository.class);
+        when(bookRepository.count()).thenReturn(10_000L);
+        when(bookRepository.streamAllUrls()).thenReturn(IntStream.range(0, 10_000).mapToObj(BookUrlIndexTest::url));
+
+        CrawlerProperties properties = new CrawlerProperties();
+        properties.getDedup().setExpectedUrls(1_000);
+        BookUrlIndex index = new BookUrlIndex(bookRepository, properties);
+        index.ensureLoaded();
+
+        for (int i = 0; i < 10_000; i++) {
+            assertThat(index.contains(url(i))).isTrue();
+        }
+        for (int i = 10_000; i < 20_000; i++) {
+            assertThat(index.contains(url(i))).isFalse();
+        }
+
+        index.add(url(10_000));
+        assertThat(index.contains(url(10_000))).isTrue();
+
+        assertThat(index.getStats())
+                .containsEntry("size", 10_001)
+                .containsEntry("lookups", 20_001L)
+                .containsEntry("hits", 10_001L);
+    }
+
+    @Test
+    void longHashSetGrowsPastInitialCapacity() {
+        LongHashSet set = new LongHashSet(4);
+        Stream.iterate(1L, v -> v + 1).limit(1_000).forEach(set::add);
+
+        assertThat(set.size()).isEqualTo(1_000);
+        assertThat(set.contains(500)).isTrue();
+        assertThat(set.contains(1_001)).isFalse();
+        assertThat(set.add(500)).isFalse();
+    }
+}
@@ -0,0 +1,90 @@
+package com.tistory.glorygem.crawler.crawl;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.util.Arrays;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * books.toscrape.com 을 대신하는 로컬 HTTP 서버
+ * src/test/resources/fixtures/books.toscrape.com 아래 HTML 을 그대로 응답합니다
+ * 응답마다 본문으로 만든 ETag 를 붙이고, If-None-Match 가 같으면 본문 없이 304 를 응답합니다
+ */
+public class FixtureServer implements AutoCloseable {
+
+    private static final String FIXTURE_ROOT = "/fixtures/books.toscrape.com";
+
+    private final HttpServer server;
+    private final AtomicInteger requestCount = new AtomicInteger();
+
+    public FixtureServer() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.createContext("/", this::handle);
+        server.setExecutor(Executors.newVirtualThreadPerTaskExecutor());
+        server.start();
+    }
+
+    public String baseUrl() {
+        return "http://127.0.0.1:" + server.getAddress().getPort();
+    }
+
+    public int requestCount() {
+        return requestCount.get();
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        requestCount.incrementAndGet();
+        String path = exchange.getRequestURI().getPath();
+        if (path.endsWith("/")) {
+            path = path + "index.html";
+        }
+
+        try (InputStream in = getClass().getResourceAsStream(FIXTURE_ROOT + path)) {
+            if (in == null) {
+                exchange.sendResponseHeaders(404, -1);
+                return;
+            }
+            byte[] body = in.readAllBytes();
+            String etag = etagOf(body);
+            exchange.getResponseHeaders().set("ETag", etag);
+            if (etag.equals(exchange.getRequestHeaders().getFirst("If-None-Match"))) {
+                exchange.sendResponseHeaders(304, -1);
+                return;
+            }
+            exchange.getResponseHeaders().set("Content-Type", "text/html; charset=utf-8");
+            exchange.sendResponseHeaders(200, body.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(body);
+            }
+        } finally {
+            exchange.close();
+        }
+    }
+
+    /**
+     * fixture 경로 (예: /catalogue/.../index.html) 의 본문
+     */
+    public static byte[] fixture(String path) throws IOException {
+        try (InputStream in = FixtureServer.class.getResourceAsStream(FIXTURE_ROOT + path)) {
+            if (in == null) {
+                throw new IOException("fixture 없음: " + path);
+            }
+            return in.readAllBytes();
+        }
+    }
+
+    public static String etagOf(byte[] body) {
+        return "\"" + Integer.toHexString(Arrays.hashCode(body)) + "\"";
+    }
+
+    @Override
+    public void close() {
+        server.stop(0);
+    }
+}
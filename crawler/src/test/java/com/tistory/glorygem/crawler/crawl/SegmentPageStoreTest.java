@@ -0,0 +1,72 @@
+package com.tistory.glorygem.crawler.crawl;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SegmentPageStoreTest {
+
+    @TempDir
+    Path directory;
+
+    private static FetchedPage page(int i) {
+        String html = "<html><body><h1>Book " + i + "</h1>" + "<p>description</p>".repeat(50) + "</body></html>";
+        return new FetchedPage("https://books.toscrape.com/catalogue/book_" + i + "/index.html", 200,
+                html.getBytes(StandardCharsets.UTF_8), "UTF-8", "\"etag-" + i + "\"", null);
+    }
+
+    @Test
+    void readsBackRecordsAcrossSegmentsAndRestarts() throws Exception {
+        try (SegmentPageStore store = new SegmentPageStore(directory, PageStore.Mode.RECORD, 1024)) {
+            for (int i = 0; i < 50; i++) {
+                store.save(page(i));
+            }
+            assertThat(store.find(page(7).url())).get()
+                    .satisfies(p -> assertThat(p.body()).isEqualTo(page(7).body()));
+        }
+
+        // 작은 세그먼트 크기로 여러 세그먼트에 나뉘어 저장됨
+        try (var files = Files.list(directory)) {
+            assertThat(files.filter(p -> p.getFileName().toString().startsWith("segment-")).count())
+                    .isGreaterThan(1);
+        }
+
+        try (SegmentPageStore reopened = new SegmentPageStore(directory, PageStore.Mode.REPLAY, 1024)) {
+            assertThat(reopened.size()).isEqualTo(50);
+            FetchedPage restored = reopened.find(page(42).url()).orElseThrow();
+            assertThat(restored.body()).isEqualTo(page(42).body());
+            assertThat(restored.etag()).isEqualTo("\"etag-42\"");
+            assertThat(restored.lastModified()).isNull();
+            assertThat(restored.parse().selectFirst("h1").text()).isEqualTo("Book 42");
+        }
+    }
+
+    @Test
+    void truncatesTornIndexEntryBeforeAppending() throws Exception {
+        try (SegmentPageStore store = new SegmentPageStore(directory, PageStore.Mode.RECORD, 1024)) {
+            for (int i = 0; i < 3; i++) {
+                store.save(page(i));
+            }
+        }
+        // 항목 기록 중 종료: URL 길이만 쓰이고 내용은 깨진 상태
+        Files.write(directory.resolve("index.dat"), new byte[]{0, 3, (byte) 0xFF, (byte) 0xFF},
+                StandardOpenOption.APPEND);
+
+        try (SegmentPageStore store = new SegmentPageStore(directory, PageStore.Mode.RECORD, 1024)) {
+            assertThat(store.size()).isEqualTo(3);
+            store.save(page(3));
+        }
+
+        try (SegmentPageStore reopened = new SegmentPageStore(directory, PageStore.Mode.REPLAY, 1024)) {
+            assertThat(reopened.size()).isEqualTo(4);
+            assertThat(reopened.find(page(3).url())).get()
+                    .satisfies(p -> assertThat(p.body()).isEqualTo(page(3).body()));
+        }
+    }
+}
@@ -0,0 +1,23 @@
+package com.tistory.glorygem.crawler.crawl;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TokenBucketRateLimiterTest {
+
+    @Test
+    void allowsBurstThenThrottles() throws InterruptedException {
+        TokenBucketRateLimiter limiter = new TokenBucketRateLimiter(20, 3);
+
+        assertThat(limiter.tryAcquire()).isTrue();
+        assertThat(limiter.tryAcquire()).isTrue();
+        assertThat(limiter.tryAcquire()).isTrue();
+        assertThat(limiter.tryAcquire()).isFalse();
+
+        long start = System.nanoTime();
+        limiter.acquire();
+        long waitedMillis = (System.nanoTime() - start) / 1_000_000;
+        assertThat(waitedMillis).isGreaterThanOrEqualTo(30);
+    }
+}
@@ -0,0 +1,134 @@
+package com.tistory.glorygem.crawler.domain.repository;
+
+import com.tistory.glorygem.crawler.domain.entity.Book;
+import com.tistory.glorygem.crawler.domain.entity.BookCategory;
+import com.tistory.glorygem.crawler.domain.repository.BookBulkRepository.UpsertResult;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 다중 행 INSERT ... ON CONFLICT 가 새 책 / 갱신된 책을 구분하고, 카테고리 이동과 큰 chunk 분할을 처리하는지 확인합니다
+ */
+@SpringBootTest
+@Transactional
+class BookBulkRepositoryTest {
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private BookBulkRepository bookBulkRepository;
+
+    private final String run = UUID.randomUUID().toString();
+    private BookCategory travel;
+    private BookCategory poetry;
+
+    @BeforeEach
+    void insertCategories() {
+        travel = category("Travel");
+        poetry = category("Poetry");
+    }
+
+    @Test
+    void insertsNewBooksAndUpdatesExistingOnes() {
+        Book himalayas = book("himalayas", travel, "45.17", "In stock (19 available)", 19);
+        Book poems = book("poems", travel, "9.99", "In stock (3 available)", 3);
+
+        UpsertResult first = bookBulkRepository.upsert(List.of(himalayas, poems));
+
+        assertThat(first.inserted()).containsExactlyInAnyOrder(himalayas, poems);
+        assertThat(first.updated()).isEmpty();
+        assertThat(first.vacatedCategories()).isEmpty();
+        UUID himalayasId = himalayas.getUuidBook();
+
+        // 목록 페이지에서 다시 본 책: uuid 를 모르고 수량 없이 "In stock" 만 있음
+        Book listed = book("himalayas", travel, "39.99", "In stock", null);
+        listed.setUuidBook(null);
+
+        UpsertResult second = bookBulkRepository.upsert(List.of(listed));
+
+        assertThat(second.inserted()).isEmpty();
+        assertThat(second.updated()).containsExactly(listed);
+        assertThat(second.vacatedCategories()).isEmpty();
+        assertThat(listed.getUuidBook()).isEqualTo(himalayasId);
+
+        Map<String, Object> row = jdbcTemplate.queryForMap(
+                "select price, availability, stock_count from book where uuid_book = ?", himalayasId);
+        assertThat((BigDecimal) row.get("price")).isEqualByComparingTo("39.99");
+        // 재고가 있던 책은 상세 페이지의 availability 와 수량을 유지
+        assertThat(row).containsEntry("availability", "In stock (19 available)").containsEntry("stock_count", 19);
+    }
+
+    @Test
+    void reportsCategoryABookMovedOutOf() {
+        bookBulkRepository.upsert(List.of(
+                book("himalayas", travel, "45.17", "In stock (19 available)", 19),
+                book("poems", travel, "9.99", "In stock (3 available)", 3)));
+
+        Book moved = book("poems", poetry, "9.99", "In stock (3 available)", 3);
+        Book stayed = book("himalayas", travel, "45.17", "In stock (19 available)", 19);
+        UpsertResult result = bookBulkRepository.upsert(List.of(moved, stayed));
+
+        assertThat(result.updated()).containsExactlyInAnyOrder(moved, stayed);
+        // 같은 카테고리로 다시 저장된 책은 이전 카테고리로 보고하지 않음
+        assertThat(result.vacatedCategories()).containsExactly(travel.getUuidBookCategory());
+        assertThat(jdbcTemplate.queryForObject("select uuid_book_category from book where url = ?",
+                UUID.class, moved.getUrl())).isEqualTo(poetry.getUuidBookCategory());
+    }
+
+    @Test
+    void splitsChunksOverBindParameterLimit() {
+        int size = BookBulkRepository.MAX_ROWS_PER_STATEMENT + 1;
+        List<Book> books = new ArrayList<>();
+        for (int i = 0; i < size; i++) {
+            books.add(book("book_" + i, travel, "10.00", "In stock (1 available)", 1));
+        }
+        // 같은 url 이 두 번 나오면 마지막 값만 저장
+        books.add(book("book_0", poetry, "12.00", "In stock (2 available)", 2));
+
+        UpsertResult result = bookBulkRepository.upsert(books);
+
+        assertThat(result.insertedCount()).isEqualTo(size);
+        assertThat(result.updatedCount()).isZero();
+        assertThat(jdbcTemplate.queryForObject("select count(*) from book where url like ?",
+                Long.class, "https://example.com/" + run + "/%")).isEqualTo(size);
+        assertThat(jdbcTemplate.queryForObject("select stock_count from book where url = ?",
+                Integer.class, url("book_0"))).isEqualTo(2);
+    }
+
+    private BookCategory category(String name) {
+        BookCategory category = new BookCategory();
+        category.setCategoryName(name + " " + run);
+        jdbcTemplate.update("insert into book_category (uuid_book_category, category_name) values (?, ?)",
+                category.getUuidBookCategory(), category.getCategoryName());
+        return category;
+    }
+
+    private Book book(String slug, BookCategory category, String price, String availability, Integer stockCount) {
+        Book book = new Book();
+        book.setUuidBook(UUID.randomUUID());
+        book.setTitle(slug);
+        book.setPrice(new BigDecimal(price));
+        book.setAvailability(availability);
+        book.setStockCount(stockCount);
+        book.setUrl(url(slug));
+        book.setBookCategory(category);
+        return book;
+    }
+
+    private String url(String slug) {
+        return "https://example.com/" + run + "/" + slug;
+    }
+}
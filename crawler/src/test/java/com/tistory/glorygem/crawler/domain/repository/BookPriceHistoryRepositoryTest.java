@@ -0,0 +1,110 @@
+package com.tistory.glorygem.crawler.domain.repository;
+
+import com.tistory.glorygem.crawler.domain.repository.BookPriceHistoryRepository.PricePoint;
+import com.tistory.glorygem.crawler.domain.repository.BookPriceHistoryRepository.TrendBucket;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 가격 / 재고 이력이 바뀐 값만 남기는지, 책 한 권의 이력 조회가 기본 키 범위 스캔인지 확인합니다
+ */
+@SpringBootTest
+@Transactional
+class BookPriceHistoryRepositoryTest {
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private BookPriceHistoryRepository bookPriceHistoryRepository;
+
+    private final UUID category = UUID.randomUUID();
+    private final UUID book = UUID.randomUUID();
+
+    @BeforeEach
+    void insertBook() {
+        jdbcTemplate.update("insert into book_category (uuid_book_category, category_name) values (?, ?)",
+                category, "History Test " + category);
+        jdbcTemplate.update("""
+                insert into book (uuid_book, title, price, stock_count, url, uuid_book_category)
+                values (?, 'History Test', 45.17, 19, ?, ?)""", book, "https://example.com/" + book, category);
+    }
+
+    @Test
+    void recordsOnlyChangedPriceOrStock() {
+        assertThat(bookPriceHistoryRepository.recordChanges(List.of(book))).isEqualTo(1);
+        assertThat(bookPriceHistoryRepository.recordChanges(List.of(book))).isZero();
+
+        jdbcTemplate.update("update book set price = 39.99, stock_count = 18 where uuid_book = ?", book);
+        assertThat(bookPriceHistoryRepository.recordChanges(List.of(book))).isEqualTo(1);
+        jdbcTemplate.update("update book set stock_count = 0 where uuid_book = ?", book);
+        assertThat(bookPriceHistoryRepository.recordChanges(List.of(book))).isEqualTo(1);
+
+        List<PricePoint> history = bookPriceHistoryRepository.findHistory(book, LocalDateTime.now().minusDays(1), 100);
+        assertThat(history).extracting(PricePoint::priceCents).containsExactly(4517, 3999, 3999);
+        assertThat(history).extracting(PricePoint::stockCount).containsExactly(19, 18, 0);
+
+        List<TrendBucket> trend = bookPriceHistoryRepository.findCategoryTrend(category,
+                LocalDateTime.now().minusDays(1), "day");
+        assertThat(trend).hasSize(1);
+        assertThat(trend.get(0).priceDecreases()).isEqualTo(1);
+        assertThat(trend.get(0).stockChanges()).isEqualTo(2);
+        assertThat(trend.get(0).soldOut()).isEqualTo(1);
+        assertThat(trend.get(0).avgChangePercent()).isBetween(-11.5, -11.4);
+    }
+
+    @Test
+    void baselineRecordsOnlyBooksWithoutHistory() {
+        assertThat(bookPriceHistoryRepository.recordMissing()).isPositive();
+        jdbcTemplate.update("update book set price = 39.99 where uuid_book = ?", book);
+
+        // 이미 이력이 있는 책은 값이 바뀌어도 기준 기록에서 건드리지 않음 (저장 이벤트가 기록)
+        assertThat(bookPriceHistoryRepository.recordMissing()).isZero();
+        assertThat(bookPriceHistoryRepository.findHistory(book, LocalDateTime.now().minusDays(1), 100))
+                .extracting(PricePoint::priceCents).containsExactly(4517);
+    }
+
+    @Test
+    void trendComparesFirstRowWithHistoryBeforeRange() {
+        LocalDateTime now = LocalDateTime.now();
+        insertHistory(now.minusDays(10), 5000);
+        insertHistory(now.minusDays(5), 4000);
+        insertHistory(now.minusHours(1), 4400);
+
+        List<TrendBucket> trend = bookPriceHistoryRepository.findCategoryTrend(category, now.minusDays(2), "day");
+
+        // 범위 안의 한 행만 집계하고, 변화량은 범위 밖 직전 행 (4000) 과 비교
+        assertThat(trend).hasSize(1);
+        assertThat(trend.get(0).priceChanges()).isEqualTo(1);
+        assertThat(trend.get(0).priceIncreases()).isEqualTo(1);
+        assertThat(trend.get(0).avgChangePercent()).isBetween(9.99, 10.01);
+    }
+
+    @Test
+    void bookHistoryIsPrimaryKeyRangeScan() {
+        jdbcTemplate.execute("set local enable_seqscan = off");
+        List<String> plan = jdbcTemplate.queryForList("""
+                explain select recorded_at, price_cents, stock_count from book_price_history
+                where uuid_book = gen_random_uuid() and recorded_at >= now() - interval '30 days'
+                order by recorded_at""", String.class);
+
+        assertThat(String.join("\n", plan)).contains("book_price_history_pkey").doesNotContain("Sort");
+    }
+
+    private void insertHistory(LocalDateTime recordedAt, int priceCents) {
+        jdbcTemplate.update("""
+                insert into book_price_history (uuid_book, recorded_at, price_cents, stock_count)
+                values (?, ?, ?, 19)""", book, Timestamp.valueOf(recordedAt), priceCents);
+    }
+}
@@ -0,0 +1,52 @@
+package com.tistory.glorygem.crawler.domain.repository;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * /api/books/query 의 조건 조합이 복합 인덱스를 사용하는지 PostgreSQL 실행 계획으로 확인합니다
+ * 테스트 DB 는 행이 적어 순차 탐색이 더 싸므로, 트랜잭션 안에서만 순차 탐색을 꺼 인덱스 사용 가능 여부를 봅니다
+ */
+@SpringBootTest
+@Transactional
+class BookQueryPlanTest {
+
+    private static final String SELECT = "select b.uuid_book from book b where ";
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void categoryAndPriceRangeUseCategoryPriceIndex() {
+        assertThat(plan("b.uuid_book_category = gen_random_uuid() and b.price between 10 and 20 order by b.price"))
+                .contains("idx_book_category_price");
+    }
+
+    @Test
+    void ratingAndPriceUseRatingPriceIndex() {
+        // minStock=1 조건 (수량을 모르는 목록 모드 책은 availability 로 판단)
+        assertThat(plan("b.rating = 5 and b.price <= 20"
+                + " and (b.stock_count >= 1 or (b.stock_count is null and b.availability like 'In stock%'))"
+                + " order by b.price"))
+                .contains("idx_book_rating_price");
+    }
+
+    @Test
+    void priceRangeAloneUsesPriceIndex() {
+        assertThat(plan("b.price <= 20 order by b.price, b.uuid_book limit 100"))
+                .contains("idx_book_price");
+    }
+
+    private String plan(String condition) {
+        jdbcTemplate.execute("set local enable_seqscan = off");
+        List<String> lines = jdbcTemplate.queryForList("explain " + SELECT + condition, String.class);
+        return String.join("\n", lines);
+    }
+}
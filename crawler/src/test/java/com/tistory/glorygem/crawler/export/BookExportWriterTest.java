@@ -0,0 +1,109 @@
+package com.tistory.glorygem.crawler.export;
+
+import com.tistory.glorygem.crawler.domain.repository.BookRow;
+import org.junit.jupiter.api.Test;
+import tools.jackson.databind.ObjectMapper;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.zip.GZIPInputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class BookExportWriterTest {
+
+    private final ObjectMapper objectMapper = JsonMapper.builder().build();
+
+    private final BookRow himalayas = new BookRow(UUID.randomUUID(), "It's Only the Himalayas", new BigDecimal("45.17"),
+            "a22124811bfa8350", "Books", "In stock (19 available)", 19, 2, 0,
+            "\"Wherever you go, whatever you do\", just don't\ndo anything stupid.",
+            "https://books.toscrape.com/catalogue/its-only-the-himalayas_981/index.html", "Travel");
+    private final BookRow listingOnly = new BookRow(UUID.randomUUID(), "Poems, Collected", null,
+            null, null, "In stock", null, null, null, null,
+            "https://books.toscrape.com/catalogue/poems_1/index.html", null);
+
+    @Test
+    void csvQuotesOnlyFieldsThatNeedIt() throws IOException {
+        String csv = new String(gunzip(write(ExportFormat.CSV, List.of(himalayas, listingOnly))), StandardCharsets.UTF_8);
+
+        String[] lines = csv.split("\r\n");
+        assertThat(lines[0]).isEqualTo(CsvExportWriter.HEADER);
+        assertThat(lines[1]).startsWith(himalayas.uuidBook() + ",It's Only the Himalayas,45.17,a22124811bfa8350,Books,")
+                .contains(",19,2,0,Travel,")
+                .endsWith(",\"\"\"Wherever you go, whatever you do\"\", just don't\ndo anything stupid.\"");
+        assertThat(lines[2]).isEqualTo(listingOnly.uuidBook()
+                + ",\"Poems, Collected\",,,,In stock,,,,,https://books.toscrape.com/catalogue/poems_1/index.html,");
+    }
+
+    @Test
+    void ndjsonWritesOneObjectPerLine() throws IOException {
+        String ndjson = new String(gunzip(write(ExportFormat.NDJSON, List.of(himalayas, listingOnly))), StandardCharsets.UTF_8);
+
+        String[] lines = ndjson.split("\n");
+        assertThat(lines).hasSize(2);
+        assertThat(objectMapper.readValue(lines[0], BookRow.class)).isEqualTo(himalayas);
+        assertThat(objectMapper.readValue(lines[1], BookRow.class)).isEqualTo(listingOnly);
+    }
+
+    @Test
+    void uncompressedNdjsonMatchesExport() throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        BookExportWriter writer = ExportFormat.openNdjson(out, objectMapper);
+        writer.write(himalayas);
+        writer.write(listingOnly);
+        writer.finish();
+
+        // /api/books/stream 응답은 내보내기 NDJSON 을 압축만 풀어 놓은 것과 같음
+        assertThat(out.toByteArray()).isEqualTo(gunzip(write(ExportFormat.NDJSON, List.of(himalayas, listingOnly))));
+    }
+
+    @Test
+    void columnarRoundTripsAcrossBlocks() throws IOException {
+        List<BookRow> rows = new ArrayList<>();
+        for (int i = 0; i < ColumnarExportWriter.BLOCK_ROWS + 10; i++) {
+            rows.add(i % 100 == 0 ? listingOnly : new BookRow(UUID.randomUUID(), "Book " + i,
+                    BigDecimal.valueOf(1000 + i, 2), "upc" + i, "Books", "In stock (" + i % 22 + " available)",
+                    i % 22, 1 + i % 5, i % 3, "description " + i, "https://example.com/" + i, "Category " + i % 50));
+        }
+
+        byte[] exported = write(ExportFormat.COLUMNAR, rows);
+        List<BookRow> read = new ArrayList<>();
+        long count = ColumnarBookReader.read(new ByteArrayInputStream(exported), read::add);
+
+        assertThat(count).isEqualTo(rows.size());
+        assertThat(read).isEqualTo(rows);
+        // 같은 데이터의 NDJSON 보다 작아야 함 (고정 소수점 가격, 카테고리 사전)
+        assertThat(exported.length).isLessThan(write(ExportFormat.NDJSON, rows).length);
+    }
+
+    @Test
+    void pricesAreFixedPointCents() {
+        assertThat(ColumnarExportWriter.fixedPoint(new BigDecimal("45.17"))).isEqualTo(4517L);
+        assertThat(ColumnarExportWriter.fixedPoint(new BigDecimal("9"))).isEqualTo(900L);
+        assertThat(ColumnarExportWriter.fixedPoint(null)).isEqualTo(ColumnarExportWriter.NULL_PRICE);
+    }
+
+    private byte[] write(ExportFormat format, List<BookRow> rows) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        BookExportWriter writer = format.open(out, objectMapper);
+        for (BookRow row : rows) {
+            writer.write(row);
+        }
+        writer.finish();
+        return out.toByteArray();
+    }
+
+    private static byte[] gunzip(byte[] gzipped) throws IOException {
+        try (InputStream in = new GZIPInputStream(new ByteArrayInputStream(gzipped))) {
+            return in.readAllBytes();
+        }
+    }
+}
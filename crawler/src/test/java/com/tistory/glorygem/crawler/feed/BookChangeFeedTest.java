@@ -0,0 +1,117 @@
+package com.tistory.glorygem.crawler.feed;
+
+import com.tistory.glorygem.crawler.config.CrawlerProperties;
+import com.tistory.glorygem.crawler.domain.entity.Book;
+import com.tistory.glorygem.crawler.domain.entity.BookCategory;
+import com.tistory.glorygem.crawler.domain.repository.BookRepository;
+import com.tistory.glorygem.crawler.event.BooksSavedEvent;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+class BookChangeFeedTest {
+
+    private final BookChangeFeed feed = feed(4);
+    private final BookCategory travel = category("Travel");
+
+    @Test
+    void keepsOnlyUpdatesThatChangeValues() {
+        Book himalayas = book("It's Only the Himalayas", "45.17", "In stock (19 available)", 19);
+        feed.onBooksSaved(new BooksSavedEvent(List.of(himalayas), List.of()));
+
+        // 목록 페이지 재저장: 재고 수량이 비어 있으면 상세 페이지의 availability 와 수량 유지
+        Book relisted = book("It's Only the Himalayas", "45.170", "In stock", null);
+        relisted.setUuidBook(himalayas.getUuidBook());
+        feed.onBooksSaved(new BooksSavedEvent(List.of(), List.of(relisted)));
+
+        Book discounted = book("It's Only the Himalayas", "39.99", "In stock (18 available)", 18);
+        discounted.setUuidBook(himalayas.getUuidBook());
+        feed.onBooksSaved(new BooksSavedEvent(List.of(), List.of(discounted)));
+
+        BookChangeFeed.Slice slice = feed.readAfter(0, 10);
+        assertThat(slice.truncated()).isFalse();
+        assertThat(slice.changes()).extracting(BookChange::type)
+                .containsExactly(BookChange.Type.INSERTED, BookChange.Type.UPDATED);
+        BookChange update = slice.changes().get(1);
+        assertThat(update.sequence()).isEqualTo(2);
+        assertThat(update.categoryName()).isEqualTo("Travel");
+        assertThat(update.changedFields()).containsExactly("price", "availability", "stockCount");
+        assertThat(feed.getStats()).containsEntry("suppressedUpdates", 1L);
+    }
+
+    @Test
+    void readsInBatchesAndTruncatesEvictedCursors() {
+        for (int i = 0; i < 6; i++) {
+            feed.onBooksSaved(new BooksSavedEvent(List.of(book("Book " + i, "10.00", "In stock", null)), List.of()));
+        }
+
+        assertThat(feed.readAfter(2, 2).changes()).extracting(BookChange::sequence).containsExactly(3L, 4L);
+        assertThat(feed.readAfter(6, 2).changes()).isEmpty();
+        assertThat(feed.readAfter(1, 2).truncated()).isTrue();  // 링에는 3 ~ 6 만 남음
+        assertThat(feed.readAfter(7, 2).truncated()).isTrue();
+        assertThat(feed.readAfter(1, 2).latestSequence()).isEqualTo(6);
+    }
+
+    @Test
+    void resolvesOnlyEventIdsOfThisProcess() {
+        String eventId = feed.eventId(42);
+
+        assertThat(feed.sequenceOf(eventId)).isEqualTo(42);
+        assertThat(feed(4).sequenceOf("0-42")).isEqualTo(-1);
+        assertThat(feed.sequenceOf("42")).isEqualTo(-1);
+        assertThat(feed.sequenceOf(eventId.substring(0, eventId.indexOf('-') + 1) + "x")).isEqualTo(-1);
+    }
+
+    @Test
+    void wakesWaitingSubscriber() throws Exception {
+        Thread saver = Thread.ofVirtual().start(() -> {
+            sleep();
+            feed.onBooksSaved(new BooksSavedEvent(List.of(book("Late", "1.00", null, null)), List.of()));
+        });
+
+        assertThat(feed.awaitAfter(0, TimeUnit.SECONDS.toNanos(5))).isEqualTo(1);
+        assertThat(feed.awaitAfter(1, TimeUnit.MILLISECONDS.toNanos(10))).isEqualTo(1);
+        saver.join();
+    }
+
+    private Book book(String title, String price, String availability, Integer stockCount) {
+        Book book = new Book();
+        book.setUuidBook(UUID.randomUUID());
+        book.setTitle(title);
+        book.setUrl("https://books.toscrape.com/catalogue/" + UUID.randomUUID() + "/index.html");
+        book.setPrice(new BigDecimal(price));
+        book.setAvailability(availability);
+        book.setStockCount(stockCount);
+        book.setBookCategory(travel);
+        return book;
+    }
+
+    private static BookCategory category(String name) {
+        BookCategory category = new BookCategory();
+        category.setCategoryName(name);
+        return category;
+    }
+
+    private static BookChangeFeed feed(int capacity) {
+        CrawlerProperties properties = new CrawlerProperties();
+        properties.getFeed().setCapacity(capacity);
+        return new BookChangeFeed(mock(BookRepository.class),
+                new TransactionTemplate(mock(PlatformTransactionManager.class)), properties);
+    }
+
+    private static void sleep() {
+        try {
+            Thread.sleep(50);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,109 @@
+package com.tistory.glorygem.crawler.ingest;
+
+import com.tistory.glorygem.crawler.domain.repository.BookRow;
+import com.tistory.glorygem.crawler.export.BookExportWriter;
+import com.tistory.glorygem.crawler.export.ExportFormat;
+import org.junit.jupiter.api.Test;
+import tools.jackson.databind.ObjectMapper;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class DumpReaderTest {
+
+    private final ObjectMapper objectMapper = JsonMapper.builder().build();
+
+    @Test
+    void readsPlaywrightCrawlerObjects() throws IOException {
+        String ndjson = """
+                {"title":"It's Only the Himalayas","price":"£45.17","upc":"a22124811bfa8350","availability":"In stock (19 available)","description":"Wherever you go","categoryName":"Travel","url":"https://books.toscrape.com/catalogue/its-only-the-himalayas_981/index.html"}
+
+                {"title":"Sharp Objects","price":47.82,"category_name":"Mystery","url":"https://books.toscrape.com/catalogue/sharp-objects_997/index.html","extra":{"ignored":true}}
+                """;
+
+        List<ImportedBook> books = readAll(DumpFormat.NDJSON, ndjson.getBytes(StandardCharsets.UTF_8));
+
+        assertThat(books).hasSize(2);
+        assertThat(books.get(0).price()).isEqualByComparingTo("45.17");
+        assertThat(books.get(0).stockCount()).isEqualTo(19);
+        assertThat(books.get(0).categoryName()).isEqualTo("Travel");
+        assertThat(books.get(1).price()).isEqualByComparingTo("47.82");
+        assertThat(books.get(1).categoryName()).isEqualTo("Mystery");
+        assertThat(books.get(1).availability()).isNull();
+    }
+
+    @Test
+    void readsQuotedCsvWithHeaderAliases() throws IOException {
+        String csv = "﻿UUID,Title,Price,Category_Name,URL,description,unknown\r\n"
+                + "1,\"Poems, Collected\",9.50,Poetry,https://example.com/1,\"line one\nline \"\"two\"\"\",x\r\n"
+                + "\r\n"
+                + "2,Untitled,,,https://example.com/2,,\r\n";
+
+        List<ImportedBook> books = readAll(DumpFormat.CSV, csv.getBytes(StandardCharsets.UTF_8));
+
+        assertThat(books).extracting(ImportedBook::title).containsExactly("Poems, Collected", "Untitled");
+        assertThat(books.get(0).description()).isEqualTo("line one\nline \"two\"");
+        assertThat(books.get(0).categoryName()).isEqualTo("Poetry");
+        assertThat(books.get(1).price()).isNull();
+        assertThat(books.get(1).categoryName()).isNull();
+    }
+
+    @Test
+    void readsGzippedExportsBack() throws IOException {
+        BookRow row = new BookRow(UUID.randomUUID(), "See America", new BigDecimal("48.87"), "f9705c362f070608",
+                "Books", "In stock (14 available)", 14, 3, 0, "A celebration, of parks", "https://example.com/732",
+                "Travel");
+        for (ExportFormat format : List.of(ExportFormat.CSV, ExportFormat.NDJSON)) {
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+            BookExportWriter writer = format.open(out, objectMapper);
+            writer.write(row);
+            writer.finish();
+
+            List<ImportedBook> books = readAll(DumpFormat.valueOf(format.name()), out.toByteArray());
+
+            assertThat(books).containsExactly(new ImportedBook("See America", new BigDecimal("48.87"),
+                    "f9705c362f070608", "Books", "In stock (14 available)", 14, 3, 0, "A celebration, of parks",
+                    "https://example.com/732", "Travel"));
+        }
+    }
+
+    @Test
+    void rejectsRecordsThatCannotBeStored() {
+        String[] fields = new String[DumpField.values().length];
+        fields[DumpField.TITLE.ordinal()] = "No URL";
+        assertThatThrownBy(() -> ImportedBook.of(fields)).isInstanceOf(IllegalArgumentException.class);
+
+        fields[DumpField.URL.ordinal()] = "https://example.com/long";
+        fields[DumpField.TITLE.ordinal()] = "x".repeat(ImportedBook.MAX_TEXT_LENGTH + 1);
+        assertThatThrownBy(() -> ImportedBook.of(fields)).hasMessageContaining("title");
+    }
+
+    @Test
+    void reportsLineOfMalformedRecord() {
+        byte[] csv = "title,url\nok,https://example.com/1\n\"unterminated,https://example.com/2\n"
+                .getBytes(StandardCharsets.UTF_8);
+
+        assertThatThrownBy(() -> readAll(DumpFormat.CSV, csv)).isInstanceOf(IOException.class)
+                .hasMessageContaining("따옴표");
+    }
+
+    private List<ImportedBook> readAll(DumpFormat format, byte[] bytes) throws IOException {
+        DumpReader reader = format.open(new ByteArrayInputStream(bytes), objectMapper);
+        String[] fields = new String[DumpField.values().length];
+        List<ImportedBook> books = new ArrayList<>();
+        while (reader.next(fields)) {
+            books.add(ImportedBook.of(fields));
+        }
+        return books;
+    }
+}
@@ -0,0 +1,105 @@
+package com.tistory.glorygem.crawler.search;
+
+import com.tistory.glorygem.crawler.domain.entity.Book;
+import com.tistory.glorygem.crawler.domain.repository.BookRepository;
+import com.tistory.glorygem.crawler.domain.repository.BookText;
+import com.tistory.glorygem.crawler.event.BooksSavedEvent;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class BookSearchIndexTest {
+
+    private final BookRepository bookRepository = mock(BookRepository.class);
+    private final BookSearchIndex index = new BookSearchIndex(bookRepository,
+            new TransactionTemplate(mock(PlatformTransactionManager.class)));
+
+    private final Book himalayas = book("It's Only the Himalayas",
+            "Wherever you go, whatever you do, just don't do anything stupid. A travel memoir of the mountains.");
+    private final Book wanderlust = book("Full Moon over Noah's Ark",
+            "Rick Antonson sets his adventurous compass on Mount Ararat and the Himalayas are far away.");
+    private final Book poetry = book("Shakespeare's Sonnets", "The complete sonnets of William Shakespeare.");
+
+    @Test
+    void ranksTitleMatchesAboveDescriptionMatches() {
+        index.onBooksSaved(new BooksSavedEvent(List.of(wanderlust, himalayas, poetry), List.of()));
+
+        List<SearchHit> hits = index.search("Himalayas", 10);
+
+        assertThat(hits).extracting(SearchHit::uuidBook)
+                .containsExactly(himalayas.getUuidBook(), wanderlust.getUuidBook());
+        assertThat(hits.get(0).score()).isGreaterThan(hits.get(1).score());
+    }
+
+    @Test
+    void ignoresCaseStopWordsAndUnknownTerms() {
+        index.onBooksSaved(new BooksSavedEvent(List.of(himalayas, poetry), List.of()));
+
+        assertThat(index.search("SONNETS", 10)).extracting(SearchHit::uuidBook).containsExactly(poetry.getUuidBook());
+        assertThat(index.search("the of", 10)).isEmpty();
+        assertThat(index.search("zeppelin", 10)).isEmpty();
+    }
+
+    @Test
+    void updatedBookReplacesPreviousDocument() {
+        index.onBooksSaved(new BooksSavedEvent(List.of(himalayas, poetry), List.of()));
+
+        himalayas.setDescription("A cookbook of mountain recipes.");
+        index.onBooksSaved(new BooksSavedEvent(List.of(), List.of(himalayas)));
+
+        assertThat(index.search("memoir", 10)).isEmpty();
+        assertThat(index.search("recipes", 10)).extracting(SearchHit::uuidBook).containsExactly(himalayas.getUuidBook());
+        assertThat(index.getStats()).containsEntry("documents", 2).containsEntry("deletedDocuments", 1);
+    }
+
+    @Test
+    void updateWithoutDescriptionKeepsIndexedText() {
+        index.onBooksSaved(new BooksSavedEvent(List.of(himalayas), List.of()));
+
+        himalayas.setDescription(null);
+        index.onBooksSaved(new BooksSavedEvent(List.of(), List.of(himalayas)));
+
+        assertThat(index.search("memoir", 10)).hasSize(1);
+        assertThat(index.getStats()).containsEntry("deletedDocuments", 0);
+    }
+
+    @Test
+    void rebuildReadsBookTableAndDropsDeletedDocuments() {
+        index.onBooksSaved(new BooksSavedEvent(List.of(himalayas, poetry), List.of()));
+        index.onBooksSaved(new BooksSavedEvent(List.of(), List.of(poetry)));
+        when(bookRepository.streamAllTexts()).thenReturn(Stream.of(
+                new BookText(himalayas.getUuidBook(), himalayas.getTitle(), himalayas.getDescription()),
+                new BookText(wanderlust.getUuidBook(), wanderlust.getTitle(), wanderlust.getDescription())));
+
+        index.rebuild();
+
+        assertThat(index.isLoaded()).isTrue();
+        assertThat(index.search("himalayas sonnets", 10)).extracting(SearchHit::uuidBook)
+                .containsExactlyInAnyOrder(himalayas.getUuidBook(), wanderlust.getUuidBook());
+        assertThat(index.getStats()).containsEntry("documents", 2).containsEntry("deletedDocuments", 0);
+    }
+
+    @Test
+    void limitsResultsToTopScores() {
+        index.onBooksSaved(new BooksSavedEvent(List.of(wanderlust, himalayas, poetry), List.of()));
+
+        assertThat(index.search("himalayas", 1)).extracting(SearchHit::uuidBook)
+                .containsExactly(himalayas.getUuidBook());
+    }
+
+    private static Book book(String title, String description) {
+        Book book = new Book();
+        book.setUuidBook(UUID.randomUUID());
+        book.setTitle(title);
+        book.setDescription(description);
+        return book;
+    }
+}
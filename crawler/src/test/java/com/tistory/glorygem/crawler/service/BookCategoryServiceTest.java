@@ -0,0 +1,99 @@
+package com.tistory.glorygem.crawler.service;
+
+import com.tistory.glorygem.crawler.config.CrawlerProperties;
+import com.tistory.glorygem.crawler.config.HttpClientConfig;
+import com.tistory.glorygem.crawler.crawl.BookPageExtractor;
+import com.tistory.glorygem.crawler.crawl.FetchMetrics;
+import com.tistory.glorygem.crawler.crawl.FetchThrottle;
+import com.tistory.glorygem.crawler.crawl.FixtureServer;
+import com.tistory.glorygem.crawler.crawl.NoOpPageStore;
+import com.tistory.glorygem.crawler.crawl.PageFetcher;
+import com.tistory.glorygem.crawler.domain.entity.BookCategory;
+import com.tistory.glorygem.crawler.domain.repository.BookCategoryBulkRepository;
+import com.tistory.glorygem.crawler.domain.repository.BookCategoryRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import java.util.Collection;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class BookCategoryServiceTest {
+
+    private static final String TRAVEL_PATH = "catalogue/category/books/travel_2/index.html";
+    private static final String POETRY_PATH = "catalogue/category/books/poetry_23/index.html";
+
+    private FixtureServer server;
+    private BookCategoryRepository bookCategoryRepository;
+    private BookCategoryBulkRepository bookCategoryBulkRepository;
+    private BookCategoryService bookCategoryService;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        server = new FixtureServer();
+        CrawlerProperties properties = new CrawlerProperties();
+        properties.setBaseUrl(server.baseUrl());
+        properties.getRateLimit().setPermitsPerSecond(100);
+
+        FetchMetrics fetchMetrics = new FetchMetrics();
+        PageFetcher pageFetcher = new PageFetcher(properties, new FetchThrottle(properties), new NoOpPageStore(),
+                new HttpClientConfig().crawlerHttpClient(properties, fetchMetrics), fetchMetrics);
+        bookCategoryRepository = mock(BookCategoryRepository.class);
+        bookCategoryBulkRepository = mock(BookCategoryBulkRepository.class);
+        bookCategoryService = new BookCategoryService(bookCategoryRepository, bookCategoryBulkRepository,
+                pageFetcher, new BookPageExtractor(), properties, new CatalogCache(properties));
+    }
+
+    @AfterEach
+    void tearDown() {
+        server.close();
+    }
+
+    @Test
+    void syncsNewAndMovedCategoriesInOneUpsert() throws Exception {
+        // 경로 저장 전에 만들어진 카테고리 (url_path 없음)
+        BookCategory travel = new BookCategory();
+        travel.setCategoryName("Travel");
+        when(bookCategoryRepository.findAll()).thenReturn(List.of(travel));
+
+        List<BookCategory> categories = bookCategoryService.crawlAndSaveCategories();
+
+        assertThat(categories).extracting(BookCategory::getCategoryName).containsExactly("Travel", "Poetry");
+        assertThat(categories).extracting(BookCategory::getUrlPath).containsExactly(TRAVEL_PATH, POETRY_PATH);
+        assertThat(categories.get(0)).isSameAs(travel);
+
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<Collection<BookCategory>> upserted = ArgumentCaptor.forClass(Collection.class);
+        verify(bookCategoryBulkRepository, times(1)).upsert(upserted.capture());
+        assertThat(upserted.getValue()).hasSize(2);
+        verify(bookCategoryRepository, never()).save(any());
+        verify(bookCategoryRepository, never()).findByCategoryName(any());
+    }
+
+    @Test
+    void skipsUpsertWhenStoredCategoriesMatch() throws Exception {
+        when(bookCategoryRepository.findAll()).thenReturn(List.of(
+                category("Travel", TRAVEL_PATH), category("Poetry", POETRY_PATH)));
+
+        List<BookCategory> categories = bookCategoryService.crawlAndSaveCategories();
+
+        assertThat(categories).hasSize(2);
+        verify(bookCategoryBulkRepository, never()).upsert(any());
+    }
+
+    private static BookCategory category(String name, String urlPath) {
+        BookCategory category = new BookCategory();
+        category.setCategoryName(name);
+        category.setUrlPath(urlPath);
+        return category;
+    }
+}
@@ -0,0 +1,174 @@
+package com.tistory.glorygem.crawler.service;
+
+import com.tistory.glorygem.crawler.config.CrawlerProperties;
+import com.tistory.glorygem.crawler.config.HttpClientConfig;
+import com.tistory.glorygem.crawler.crawl.BookPageExtractor;
+import com.tistory.glorygem.crawler.crawl.CrawlMetrics;
+import com.tistory.glorygem.crawler.crawl.FetchMetrics;
+import com.tistory.glorygem.crawler.crawl.FetchThrottle;
+import com.tistory.glorygem.crawler.crawl.FetchedPage;
+import com.tistory.glorygem.crawler.crawl.FixtureServer;
+import com.tistory.glorygem.crawler.crawl.NoOpPageStore;
+import com.tistory.glorygem.crawler.crawl.PageFetcher;
+import com.tistory.glorygem.crawler.domain.dto.RefreshResultDTO;
+import com.tistory.glorygem.crawler.domain.entity.Book;
+import com.tistory.glorygem.crawler.domain.entity.BookCategory;
+import com.tistory.glorygem.crawler.domain.repository.BookBulkRepository;
+import com.tistory.glorygem.crawler.domain.repository.BookBulkRepository.UpsertResult;
+import com.tistory.glorygem.crawler.domain.repository.BookRepository;
+import com.tistory.glorygem.crawler.event.BooksSavedEvent;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import okhttp3.OkHttpClient;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class BookRefreshServiceTest {
+
+    private static final String HIMALAYAS = "/catalogue/its-only-the-himalayas_981/index.html";
+    private static final String FULL_MOON =
+            "/catalogue/full-moon-over-noahs-ark-an-odyssey-to-mount-ararat-and-beyond_811/index.html";
+    private static final String SEE_AMERICA =
+            "/catalogue/see-america-a-celebration-of-our-national-parks-treasured-sites_732/index.html";
+
+    private FixtureServer server;
+    private BookRepository bookRepository;
+    private final List<Book> upserted = new ArrayList<>();
+    private final List<Book> revalidated = new ArrayList<>();
+    private final List<BooksSavedEvent> events = new ArrayList<>();
+    private final AtomicInteger commits = new AtomicInteger();
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private BookRefreshService refreshService;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        server = new FixtureServer();
+
+        CrawlerProperties properties = new CrawlerProperties();
+        properties.setBaseUrl(server.baseUrl());
+        properties.getRateLimit().setPermitsPerSecond(100);
+
+        FetchMetrics fetchMetrics = new FetchMetrics();
+        OkHttpClient httpClient = new HttpClientConfig().crawlerHttpClient(properties, fetchMetrics);
+        PageFetcher pageFetcher = new PageFetcher(properties, new FetchThrottle(properties), new NoOpPageStore(),
+                httpClient, fetchMetrics);
+
+        bookRepository = mock(BookRepository.class);
+        BookBulkRepository bookBulkRepository = mock(BookBulkRepository.class);
+        when(bookBulkRepository.upsert(anyCollection())).thenAnswer(invocation -> {
+            Collection<Book> chunk = invocation.getArgument(0);
+            upserted.addAll(chunk);
+            return new UpsertResult(List.of(), List.copyOf(chunk));
+        });
+        when(bookBulkRepository.updateValidators(anyCollection(), any())).thenAnswer(invocation -> {
+            Collection<Book> books = invocation.getArgument(0);
+            revalidated.addAll(books);
+            return books.size();
+        });
+        PlatformTransactionManager transactionManager = mock(PlatformTransactionManager.class);
+        doAnswer(invocation -> commits.incrementAndGet()).when(transactionManager).commit(any());
+        // 트랜잭션 안에서 (커밋 전에) 발행되어야 커밋 후 리스너로 전달됨
+        ApplicationEventPublisher eventPublisher = event -> {
+            assertThat(commits).hasValue(0);
+            events.add((BooksSavedEvent) event);
+        };
+
+        refreshService = new BookRefreshService(bookRepository, bookBulkRepository, pageFetcher,
+                new BookPageExtractor(), new TransactionTemplate(transactionManager),
+                eventPublisher, properties, new CrawlMetrics(meterRegistry));
+    }
+
+    @AfterEach
+    void tearDown() {
+        server.close();
+    }
+
+    @Test
+    void savesValidatorsForUnchangedPagesAndUpsertsChangedOnes() throws IOException {
+        // 304 (ETag 일치), 200 이지만 본문 해시 동일, 내용이 바뀐 책
+        Book notModified = stored(HIMALAYAS, FixtureServer.etagOf(FixtureServer.fixture(HIMALAYAS)), "stale-hash");
+        Book sameHash = stored(FULL_MOON, "\"stale\"", hashOf(FULL_MOON));
+        Book changed = stored(SEE_AMERICA, null, "stale-hash");
+        when(bookRepository.findChunkWithCategoryAfter(any(), any()))
+                .thenReturn(List.of(notModified, sameHash, changed))
+                .thenReturn(List.of());
+
+        RefreshResultDTO result = refreshService.refreshAll();
+
+        assertThat(result.getChecked()).isEqualTo(3);
+        assertThat(result.getNotModified()).isEqualTo(1);
+        assertThat(result.getUnchanged()).isEqualTo(1);
+        assertThat(result.getUpdated()).isEqualTo(1);
+        assertThat(result.getErrors()).isZero();
+
+        // 검증 헤더만 갱신: 다음 재크롤링은 새 ETag 로 304 를 받음
+        assertThat(revalidated).containsExactlyInAnyOrder(notModified, sameHash);
+        assertThat(sameHash.getEtag()).isEqualTo(FixtureServer.etagOf(FixtureServer.fixture(FULL_MOON)));
+
+        assertThat(upserted).singleElement().satisfies(book -> {
+            assertThat(book.getUuidBook()).isEqualTo(changed.getUuidBook());
+            assertThat(book.getUpc()).isNotNull();
+            assertThat(book.getContentHash()).isEqualTo(hashOf(SEE_AMERICA));
+            assertThat(book.getEtag()).isEqualTo(FixtureServer.etagOf(FixtureServer.fixture(SEE_AMERICA)));
+        });
+        assertThat(events).singleElement().satisfies(event -> assertThat(event.updated()).hasSize(1));
+        assertThat(commits).hasValue(1);  // 검증 헤더와 바뀐 책을 한 트랜잭션으로 저장
+
+        assertThat(meterRegistry.get("crawler.fetch").tags("category", "Travel", "type", "detail").timer().count())
+                .isEqualTo(3);
+        assertThat(meterRegistry.get("crawler.parse").tags("category", "Travel", "type", "detail").timer().count())
+                .isEqualTo(1);
+        assertThat(meterRegistry.get("crawler.books").tags("category", CrawlMetrics.ALL_CATEGORIES, "result", "updated")
+                .counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    void skipsEventWhenNothingChanged() throws IOException {
+        Book notModified = stored(HIMALAYAS, FixtureServer.etagOf(FixtureServer.fixture(HIMALAYAS)), "stale-hash");
+        when(bookRepository.findChunkWithCategoryAfter(any(), any()))
+                .thenReturn(List.of(notModified))
+                .thenReturn(List.of());
+
+        RefreshResultDTO result = refreshService.refreshAll();
+
+        assertThat(result.getNotModified()).isEqualTo(1);
+        assertThat(revalidated).containsExactly(notModified);
+        assertThat(upserted).isEmpty();
+        assertThat(events).isEmpty();
+    }
+
+    private Book stored(String path, String etag, String contentHash) {
+        BookCategory travel = new BookCategory();
+        travel.setCategoryName("Travel");
+
+        Book book = new Book();
+        book.setUuidBook(UUID.randomUUID());
+        book.setUrl(server.baseUrl() + path);
+        book.setBookCategory(travel);
+        book.setEtag(etag);
+        book.setContentHash(contentHash);
+        return book;
+    }
+
+    private String hashOf(String path) throws IOException {
+        return new FetchedPage(server.baseUrl() + path, 200, FixtureServer.fixture(path), "UTF-8", null, null)
+                .contentHash();
+    }
+}
@@ -0,0 +1,75 @@
+package com.tistory.glorygem.crawler.service;
+
+import com.tistory.glorygem.crawler.config.CrawlerProperties;
+import com.tistory.glorygem.crawler.domain.dto.BookPageDTO;
+import com.tistory.glorygem.crawler.domain.entity.Book;
+import com.tistory.glorygem.crawler.domain.entity.BookCategory;
+import com.tistory.glorygem.crawler.event.BooksSavedEvent;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CatalogCacheTest {
+
+    private final CatalogCache cache = new CatalogCache(new CrawlerProperties());
+    private final AtomicInteger loads = new AtomicInteger();
+
+    @Test
+    void servesRepeatedReadsFromMemory() {
+        for (int i = 0; i < 3; i++) {
+            cache.booksByCategory("Travel", null, 20, true, this::load);
+        }
+
+        assertThat(loads).hasValue(1);
+        assertThat(stats("bookPages")).containsEntry("hits", 2L).containsEntry("misses", 1L);
+    }
+
+    @Test
+    void savedBooksInvalidateOnlyTheirCategory() {
+        cache.booksByCategory("Travel", null, 20, true, this::load);
+        cache.booksByCategory("Poetry", null, 20, true, this::load);
+
+        cache.onBooksSaved(new BooksSavedEvent(List.of(book("Travel")), List.of()));
+        cache.booksByCategory("Travel", null, 20, true, this::load);
+        cache.booksByCategory("Poetry", null, 20, true, this::load);
+
+        // Travel 만 다시 조회
+        assertThat(loads).hasValue(3);
+    }
+
+    @Test
+    void missingCategoryIsNotCached() {
+        assertThat(cache.category("Nope", name -> {
+            loads.incrementAndGet();
+            return null;
+        })).isNull();
+        cache.category("Nope", name -> {
+            loads.incrementAndGet();
+            return null;
+        });
+
+        assertThat(loads).hasValue(2);
+    }
+
+    private BookPageDTO load() {
+        loads.incrementAndGet();
+        return BookPageDTO.builder().books(List.of()).hasNext(false).build();
+    }
+
+    @SuppressWarnings("unchecked")
+    private Map<String, Object> stats(String name) {
+        return (Map<String, Object>) cache.getStats().get(name);
+    }
+
+    private static Book book(String categoryName) {
+        BookCategory category = new BookCategory();
+        category.setCategoryName(categoryName);
+        Book book = new Book();
+        book.setBookCategory(category);
+        return book;
+    }
+}
@@ -0,0 +1,202 @@
+package com.tistory.glorygem.crawler.service;
+
+import com.tistory.glorygem.crawler.config.CrawlerProperties;
+import com.tistory.glorygem.crawler.config.HttpClientConfig;
+import com.tistory.glorygem.crawler.crawl.BookPageExtractor;
+import com.tistory.glorygem.crawler.crawl.BookUrlIndex;
+import com.tistory.glorygem.crawler.crawl.CrawlMetrics;
+import com.tistory.glorygem.crawler.crawl.CrawlMode;
+import com.tistory.glorygem.crawler.crawl.CrawlProgress;
+import com.tistory.glorygem.crawler.crawl.FetchMetrics;
+import com.tistory.glorygem.crawler.crawl.FetchThrottle;
+import com.tistory.glorygem.crawler.crawl.FixtureServer;
+import com.tistory.glorygem.crawler.crawl.NoOpPageStore;
+import com.tistory.glorygem.crawler.crawl.PageFetcher;
+import com.tistory.glorygem.crawler.domain.dto.CrawlResultDTO;
+import com.tistory.glorygem.crawler.domain.entity.Book;
+import com.tistory.glorygem.crawler.domain.entity.BookCategory;
+import com.tistory.glorygem.crawler.domain.repository.BookBulkRepository;
+import com.tistory.glorygem.crawler.domain.repository.BookBulkRepository.UpsertResult;
+import com.tistory.glorygem.crawler.domain.repository.BookRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import okhttp3.OkHttpClient;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class ConcurrentCrawlServiceTest {
+
+    private FixtureServer server;
+    private BookRepository bookRepository;
+    private CrawlerProperties properties;
+    private final List<Book> upserted = new CopyOnWriteArrayList<>();
+    private final FetchMetrics fetchMetrics = new FetchMetrics();
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private ConcurrentCrawlService crawlService;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        server = new FixtureServer();
+
+        properties = new CrawlerProperties();
+        properties.setBaseUrl(server.baseUrl());
+        properties.getRateLimit().setPermitsPerSecond(100);
+
+        PageFetcher pageFetcher = newPageFetcher();
+        bookRepository = mock(BookRepository.class);
+        when(bookRepository.streamAllUrls()).thenReturn(Stream.empty());
+        BookBulkRepository bookBulkRepository = mock(BookBulkRepository.class);
+        when(bookBulkRepository.upsert(anyCollection())).thenAnswer(invocation -> {
+            Collection<Book> chunk = invocation.getArgument(0);
+            upserted.addAll(chunk);
+            return new UpsertResult(List.copyOf(chunk), List.of());
+        });
+        properties.getBatch().setChunkSize(2);
+
+        crawlService = newCrawlService(pageFetcher, bookBulkRepository);
+    }
+
+    private PageFetcher newPageFetcher() {
+        OkHttpClient httpClient = new HttpClientConfig().crawlerHttpClient(properties, fetchMetrics);
+        return new PageFetcher(properties, new FetchThrottle(properties), new NoOpPageStore(),
+                httpClient, fetchMetrics);
+    }
+
+    private ConcurrentCrawlService newCrawlService(PageFetcher pageFetcher, BookBulkRepository bookBulkRepository) {
+        BookUrlIndex bookUrlIndex = new BookUrlIndex(bookRepository, properties);
+        BookCategoryService bookCategoryService = mock(BookCategoryService.class);
+        BookPageExtractor bookPageExtractor = new BookPageExtractor();
+        CrawlMetrics crawlMetrics = new CrawlMetrics(meterRegistry);
+        BookService bookService = new BookService(bookRepository, bookBulkRepository, bookCategoryService,
+                pageFetcher, bookPageExtractor, bookUrlIndex, mock(ApplicationEventPublisher.class), properties,
+                new TransactionTemplate(mock(PlatformTransactionManager.class)), crawlMetrics,
+                new CatalogCache(properties));
+        return new ConcurrentCrawlService(bookService, bookCategoryService, bookUrlIndex,
+                bookPageExtractor, properties, crawlMetrics);
+    }
+
+    @AfterEach
+    void tearDown() {
+        server.close();
+    }
+
+    private static BookCategory travel() {
+        BookCategory travel = new BookCategory();
+        travel.setCategoryName("Travel");
+        travel.setUrlPath("catalogue/category/books/travel_2/index.html");
+        return travel;
+    }
+
+    @Test
+    void crawlsListingAndDetailPagesFromStandInServer() {
+        BookCategory travel = travel();
+
+        CrawlResultDTO result = crawlService.crawlCategories(List.of(travel));
+
+        // 목록 2페이지 + 상세 3페이지
+        assertThat(result.getPagesFetched()).isEqualTo(5);
+        assertThat(result.getBooksSaved()).isEqualTo(3);
+        assertThat(result.getErrors()).isZero();
+        assertThat(result.getCategoriesDone()).isEqualTo(1);
+        assertThat(server.requestCount()).isEqualTo(5);
+        assertThat(upserted).extracting(Book::getUpc)
+                .containsExactlyInAnyOrder("a22124811bfa8350", "ce60436f52c5ee68", "f9705c362f070608");
+    }
+
+    @Test
+    void recordsFetchParseAndWriteMetricsPerCategory() {
+        BookCategory travel = travel();
+
+        crawlService.crawlCategories(List.of(travel));
+
+        assertThat(meterRegistry.get("crawler.fetch").tags("category", "Travel", "type", "listing").timer().count())
+                .isEqualTo(2);
+        assertThat(meterRegistry.get("crawler.fetch").tags("category", "Travel", "type", "detail").timer().count())
+                .isEqualTo(3);
+        assertThat(meterRegistry.get("crawler.parse").tags("category", "Travel", "type", "detail").timer().count())
+                .isEqualTo(3);
+        assertThat(meterRegistry.get("crawler.page.bytes").tag("category", "Travel").summary().totalAmount())
+                .isPositive();
+        // 동시 크롤링은 카테고리가 섞인 버퍼 하나로 저장
+        assertThat(meterRegistry.get("crawler.write").tag("category", CrawlMetrics.ALL_CATEGORIES).timer().count())
+                .isEqualTo(2);
+        assertThat(meterRegistry.get("crawler.books").tags("category", CrawlMetrics.ALL_CATEGORIES, "result", "new")
+                .counter().count()).isEqualTo(3);
+    }
+
+    @Test
+    void listingModeBuildsBooksWithoutDetailRequests() {
+        BookCategory travel = travel();
+
+        CrawlResultDTO result = crawlService.crawlCategories(List.of(travel), CrawlMode.LISTING, new CrawlProgress());
+
+        assertThat(result.getListingPagesFetched()).isEqualTo(2);
+        assertThat(result.getDetailPagesFetched()).isZero();
+        assertThat(result.getBooksSaved()).isEqualTo(3);
+        assertThat(server.requestCount()).isEqualTo(2);
+        // 두 번째 목록 페이지는 keep-alive 연결을 재사용
+        assertThat(fetchMetrics.getConnectionsOpened()).isEqualTo(1);
+        assertThat(fetchMetrics.getConnectionsReused()).isEqualTo(1);
+        assertThat(fetchMetrics.getBytesDecoded()).isPositive();
+        assertThat(upserted).allSatisfy(book -> {
+            assertThat(book.getUpc()).isNull();
+            assertThat(book.getPrice()).isNotNull();
+            assertThat(book.getAvailability()).isEqualTo("In stock");
+            assertThat(book.getStockCount()).isNull();  // 목록 페이지에는 수량이 없음
+            assertThat(book.getRating()).isBetween(1, 5);
+        });
+        assertThat(upserted).extracting(Book::getTitle)
+                .contains("See America: A Celebration of Our National Parks & Treasured Sites");
+    }
+
+    @Test
+    void skipsKnownBooksWithoutFetchingDetail() {
+        when(bookRepository.streamAllUrls()).thenReturn(Stream.of(
+                server.baseUrl() + "/catalogue/its-only-the-himalayas_981/index.html",
+                server.baseUrl() + "/catalogue/full-moon-over-noahs-ark-an-odyssey-to-mount-ararat-and-beyond_811/index.html",
+                server.baseUrl() + "/catalogue/see-america-a-celebration-of-our-national-parks-treasured-sites_732/index.html"));
+        BookCategory travel = travel();
+
+        CrawlResultDTO result = crawlService.crawlCategories(List.of(travel));
+
+        assertThat(result.getPagesFetched()).isEqualTo(2);
+        assertThat(result.getDuplicates()).isEqualTo(3);
+        assertThat(result.getBooksSaved()).isZero();
+    }
+
+    @Test
+    void failedChunkIsCountedWithoutLosingOtherChunks() throws Exception {
+        // 첫 chunk (2권) 저장만 실패
+        AtomicBoolean first = new AtomicBoolean(true);
+        BookBulkRepository bookBulkRepository = mock(BookBulkRepository.class);
+        when(bookBulkRepository.upsert(anyCollection())).thenAnswer(invocation -> {
+            if (first.getAndSet(false)) {
+                throw new DataIntegrityViolationException("duplicate key");
+            }
+            Collection<Book> chunk = invocation.getArgument(0);
+            return new UpsertResult(List.copyOf(chunk), List.of());
+        });
+        PageFetcher pageFetcher = newPageFetcher();
+        BookCategory travel = travel();
+
+        CrawlResultDTO result = newCrawlService(pageFetcher, bookBulkRepository).crawlCategories(List.of(travel));
+
+        assertThat(result.getBooksFailed()).isEqualTo(2);
+        assertThat(result.getBooksSaved()).isEqualTo(1);
+    }
+}